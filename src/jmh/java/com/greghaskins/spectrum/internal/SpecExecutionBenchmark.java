@@ -0,0 +1,88 @@
+package com.greghaskins.spectrum.internal;
+
+import static com.greghaskins.spectrum.internal.hooks.AfterHook.after;
+import static com.greghaskins.spectrum.internal.hooks.BeforeHook.before;
+
+import com.greghaskins.spectrum.internal.hooks.Hook;
+import com.greghaskins.spectrum.internal.hooks.HookContext;
+import com.greghaskins.spectrum.internal.hooks.HookContext.AppliesTo;
+import com.greghaskins.spectrum.internal.hooks.HookContext.Precedence;
+import com.greghaskins.spectrum.internal.hooks.SimpleHook;
+
+import org.junit.runner.Description;
+import org.junit.runner.notification.Failure;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The cost of running one passing spec, from {@link Suite#runChild} down to the spec's block.
+ * Run with {@code ./gradlew jmh}; the gc profiler's {@code gc.alloc.rate.norm} should be
+ * zero bytes per operation for every set of hooks here.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SpecExecutionBenchmark {
+  @Param({"none", "beforeEachAndAfterEach", "beforeAllAndAfterEach"})
+  public String hooks;
+
+  private Suite suite;
+  private Child spec;
+  private int steps;
+
+  private final RunReporting<Description, Failure> reporting =
+      new RunReporting<Description, Failure>() {
+        @Override
+        public void fireTestIgnored(final Description description) {}
+
+        @Override
+        public void fireTestStarted(final Description description) {}
+
+        @Override
+        public void fireTestFinished(final Description description) {}
+
+        @Override
+        public void fireTestFailure(final Failure failure) {}
+
+        @Override
+        public void fireTestAssumptionFailed(final Failure failure) {}
+      };
+
+  @Setup
+  public void declare() {
+    this.suite = Suite.rootSuite(Description.createSuiteDescription("benchmark"));
+    switch (this.hooks) {
+      case "beforeEachAndAfterEach":
+        addHook(before(() -> this.steps++));
+        addHook(after(() -> this.steps++));
+        break;
+      case "beforeAllAndAfterEach":
+        addHook(SimpleHook.setUp(() -> this.steps++));
+        addHook(after(() -> this.steps++));
+        break;
+      default:
+        break;
+    }
+    this.spec = this.suite.addSpec("passes", () -> this.steps++);
+    this.suite.compileHooks();
+  }
+
+  @Benchmark
+  public int runPassingSpec() {
+    this.suite.runChild(this.spec, this.reporting);
+
+    return this.steps;
+  }
+
+  private void addHook(final Hook hook) {
+    this.suite.addHook(new HookContext(hook, 1, AppliesTo.ATOMIC_ONLY, Precedence.LOCAL));
+  }
+}
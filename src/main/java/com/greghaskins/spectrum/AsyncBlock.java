@@ -0,0 +1,17 @@
+package com.greghaskins.spectrum;
+
+import java.util.concurrent.CompletionStage;
+
+/**
+ * The asynchronous counterpart of {@link Block}, which an asynchronous hook calls to run the
+ * block it surrounds.
+ */
+@FunctionalInterface
+public interface AsyncBlock {
+  /**
+   * Run the surrounded block.
+   *
+   * @return a stage which completes once the block has run, exceptionally if the block failed
+   */
+  CompletionStage<Void> run();
+}
@@ -1,10 +1,14 @@
 package com.greghaskins.spectrum;
 
 import com.greghaskins.spectrum.internal.DeclarationState;
+import com.greghaskins.spectrum.internal.configuration.BlockConcurrentEagerLets;
 import com.greghaskins.spectrum.internal.configuration.BlockFocused;
 import com.greghaskins.spectrum.internal.configuration.BlockIgnore;
+import com.greghaskins.spectrum.internal.configuration.BlockParallel;
+import com.greghaskins.spectrum.internal.configuration.BlockPrefetchSetUp;
 import com.greghaskins.spectrum.internal.configuration.BlockTagging;
 import com.greghaskins.spectrum.internal.configuration.BlockTimeout;
+import com.greghaskins.spectrum.internal.configuration.BlockVirtualThreads;
 import com.greghaskins.spectrum.internal.configuration.ConfiguredBlock;
 import com.greghaskins.spectrum.internal.configuration.ExcludeTags;
 import com.greghaskins.spectrum.internal.configuration.IncludeTags;
@@ -18,6 +22,15 @@ public interface Configure {
 
   String EXCLUDE_TAGS_PROPERTY = "spectrum.exclude.tags";
   String INCLUDE_TAGS_PROPERTY = "spectrum.include.tags";
+  String PARALLEL_PROPERTY = "spectrum.parallel";
+  String PARALLEL_THREADS_PROPERTY = "spectrum.parallel.threads";
+  String TIMINGS_FILE_PROPERTY = "spectrum.timings.file";
+  String SHARD_PROPERTY = "spectrum.shard";
+  String SHARD_BY_PROPERTY = "spectrum.shard.by";
+  String FAIL_FAST_PROPERTY = "spectrum.failFast";
+  String HOOK_TIMINGS_PROPERTY = "spectrum.hook.timings";
+  String METRICS_FILE_PROPERTY = "spectrum.metrics.file";
+  String REPORTING_BUFFER_PROPERTY = "spectrum.reporting.buffer";
 
   /**
    * Surround a {@link Block} with the {@code with} statement to add
@@ -34,6 +47,10 @@ public interface Configure {
    * @see #focus()
    * @see #tags(String...)
    * @see #timeout(Duration)
+   * @see #parallel()
+   * @see #virtualThreads()
+   * @see #prefetchSetup()
+   * @see #concurrentEagerLets()
    */
   static Block with(final BlockConfigurationChain configuration, final Block block) {
     return ConfiguredBlock.with(configuration.getBlockConfiguration(), block);
@@ -109,6 +126,86 @@ public interface Configure {
     return new BlockConfigurationChain().with(new BlockTimeout(timeout));
   }
 
+  /**
+   * Run the children of the suite concurrently, and the children of any suites below it.
+   * The number of threads comes from the {@link #PARALLEL_THREADS_PROPERTY} system property,
+   * or defaults to the number of available processors. Setting the {@link #PARALLEL_PROPERTY}
+   * system property to {@code true} makes this the default for every suite.
+   *
+   * @return a chainable configuration that will run the children of the suite in parallel
+   */
+  static BlockConfigurationChain parallel() {
+    return new BlockConfigurationChain().with(new BlockParallel());
+  }
+
+  /**
+   * Run the children of the suite concurrently, and the children of any suites below it.
+   *
+   * @param threads the number of children which may run at once
+   * @return a chainable configuration that will run the children of the suite in parallel
+   */
+  static BlockConfigurationChain parallel(final int threads) {
+    return new BlockConfigurationChain().with(new BlockParallel(threads));
+  }
+
+  /**
+   * Run each child of the suite, and of any suites below it, on its own virtual thread. This
+   * suits specs which spend most of their time waiting on I/O. Virtual threads need Java 21;
+   * on older JVMs each child runs on its own platform thread instead, and at most as many
+   * children of each suite run at once as there are available processors.
+   *
+   * @return a chainable configuration that will run the children of the suite on virtual threads
+   */
+  static BlockConfigurationChain virtualThreads() {
+    return new BlockConfigurationChain().with(new BlockVirtualThreads());
+  }
+
+  /**
+   * Run each child of the suite, and of any suites below it, on its own virtual thread, with
+   * at most {@code maxConcurrency} children of each suite running at once.
+   *
+   * @param maxConcurrency the number of children of each suite which may run at once
+   * @return a chainable configuration that will run the children of the suite on virtual threads
+   * @see #virtualThreads()
+   */
+  static BlockConfigurationChain virtualThreads(final int maxConcurrency) {
+    return new BlockConfigurationChain().with(new BlockVirtualThreads(maxConcurrency));
+  }
+
+  /**
+   * Run the children of the suite, and of any suites below it, one after the other, but start
+   * the {@code beforeAll} blocks of each child suite in the background while the child before
+   * it is still running. This overlaps slow set up with the execution of the suite before.
+   *
+   * <p>A prefetched {@code beforeAll} block runs before the specs of the previous suite have
+   * finished, and outside the hooks which would otherwise surround it - such as an
+   * {@code aroundAll} or a {@code sharedFixture} of its suite, or the {@code beforeEach} blocks
+   * of suites above it. Only prefetch blocks which depend on nothing but themselves and the
+   * {@code beforeAll} blocks of the suites above - those are run first, in order, on the same
+   * background thread, and still only once. A {@code beforeAll} which fails is still reported
+   * against the specs of its own suite.
+   *
+   * @return a chainable configuration that will prefetch the set up of child suites
+   */
+  static BlockConfigurationChain prefetchSetup() {
+    return new BlockConfigurationChain().with(new BlockPrefetchSetUp());
+  }
+
+  /**
+   * Calculate the values of {@code eagerLet}s which are declared one after another in the suite,
+   * and in any suites below it, at the same time rather than in turn. They have all been
+   * calculated before the {@code beforeEach} blocks and the spec run. A spec whose values
+   * cannot all be calculated fails with the failure of the first in declaration order.
+   *
+   * <p>The suppliers of these values cannot see each other's values. Declare a value which
+   * depends on another with {@code let}, or after a hook which separates it from the others.
+   *
+   * @return a chainable configuration that will calculate eager lets concurrently
+   */
+  static BlockConfigurationChain concurrentEagerLets() {
+    return new BlockConfigurationChain().with(new BlockConcurrentEagerLets());
+  }
+
   /**
    * Filter which tests in the current suite will run.
    *
@@ -1,14 +1,27 @@
 package com.greghaskins.spectrum;
 
 import com.greghaskins.spectrum.dsl.specification.Specification;
+import com.greghaskins.spectrum.internal.AsyncRunDecorator;
 import com.greghaskins.spectrum.internal.DeclarationState;
+import com.greghaskins.spectrum.internal.FailFast;
+import com.greghaskins.spectrum.internal.FlightRecording;
+import com.greghaskins.spectrum.internal.Metrics;
+import com.greghaskins.spectrum.internal.Shard;
+import com.greghaskins.spectrum.internal.SharedFixtures;
 import com.greghaskins.spectrum.internal.Suite;
+import com.greghaskins.spectrum.internal.TimingHistory;
 import com.greghaskins.spectrum.internal.blocks.ConstructorBlock;
 import com.greghaskins.spectrum.internal.junit.Rules;
 import com.greghaskins.spectrum.internal.junit.RunNotifierReporting;
 
 import org.junit.runner.Description;
 import org.junit.runner.Runner;
+import org.junit.runner.manipulation.Filter;
+import org.junit.runner.manipulation.Filterable;
+import org.junit.runner.manipulation.NoTestsRemainException;
+import org.junit.runner.manipulation.Sortable;
+import org.junit.runner.manipulation.Sorter;
+import org.junit.runner.notification.Failure;
 import org.junit.runner.notification.RunNotifier;
 
 import java.util.function.Supplier;
@@ -25,7 +38,7 @@ import java.util.function.Supplier;
  * @see Specification#afterEach
  * @see Specification#let
  */
-public final class Spectrum extends Runner {
+public final class Spectrum extends Runner implements Filterable, Sortable {
 
   /**
    * A generic code block with a {@link #run()} method to perform any action. Usually defined by a
@@ -248,7 +261,11 @@ public final class Spectrum extends Runner {
 
   Spectrum(Description description, com.greghaskins.spectrum.Block definitionBlock) {
     this.rootSuite = Suite.rootSuite(description);
+    final Object declaration = FlightRecording.beginDeclaration();
     DeclarationState.instance().beginDeclaration(this.rootSuite, definitionBlock);
+    FlightRecording.endDeclaration(declaration, description);
+    Shard.fromSystemProperties().ifPresent(this.rootSuite::selectShard);
+    this.rootSuite.compileHooks();
   }
 
   @Override
@@ -258,7 +275,27 @@ public final class Spectrum extends Runner {
 
   @Override
   public void run(final RunNotifier notifier) {
-    this.rootSuite.run(new RunNotifierReporting(notifier));
+    SharedFixtures.instance().closeWhenFinished(notifier);
+    final long started = System.nanoTime();
+    try (AsyncRunDecorator<Description, Failure> reporting =
+        AsyncRunDecorator.decorate(new RunNotifierReporting(notifier))) {
+      this.rootSuite.run(FailFast.decorate(Metrics.decorate(reporting)));
+    }
+    TimingHistory.instance().record(this.rootSuite.getDescription().getDisplayName(),
+        System.nanoTime() - started);
+  }
+
+  @Override
+  public void filter(final Filter filter) throws NoTestsRemainException {
+    this.rootSuite.filter(filter::shouldRun);
+    if (this.rootSuite.testCount() == 0) {
+      throw new NoTestsRemainException();
+    }
+  }
+
+  @Override
+  public void sort(final Sorter sorter) {
+    this.rootSuite.sort(sorter);
   }
 
   /**
@@ -6,11 +6,11 @@ import java.util.function.Supplier;
  * This is a convenience class to make working with Java closures easier. Variables from outer
  * scopes must be {@code final} to be referenced inside lambda functions. Wrapping objects in a
  * {@link #Variable} instance allows you to get/set values from anywhere as long as the Variable
- * itself is {@code final}.
+ * itself is {@code final}. A value set on one thread is visible to reads from other threads.
  */
 public final class Variable<T> implements Supplier<T> {
 
-  private T value;
+  private volatile T value;
 
   /**
    * Create a Variable with a {@code null} initial value.
@@ -5,6 +5,15 @@ public class Application {
   public static void main(String... args) {
     long startTime = System.currentTimeMillis();
     try {
+      RunnerOptions options = RunnerOptions.parse(args);
+      if (options.isDaemon()) {
+        Daemon.serve(options.getPort());
+        return;
+      }
+      if (options.isConnect()) {
+        Daemon.connect(options.getPort(), options.getArguments());
+        return;
+      }
       ClassPathSetup.setupClassPath().runMain("com.greghaskins.spectrum.app.JunitRunner", args);
     } catch (Exception ex) {
       ex.printStackTrace();
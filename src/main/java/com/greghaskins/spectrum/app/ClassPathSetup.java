@@ -14,22 +14,56 @@ public class ClassPathSetup {
   public static MyClassLoader setupClassPath() {
 
     MyClassLoader myClassLoader = new MyClassLoader();
+    addProjectClasses(myClassLoader);
+    addDependencies(myClassLoader);
 
+    return myClassLoader;
+  }
+
+  /*
+      For a JVM which runs more than once: the dependencies and this jar,
+      which do not change between runs
+   */
+  public static MyClassLoader setupDependencies() {
+    MyClassLoader myClassLoader = new MyClassLoader();
+    addDependencies(myClassLoader);
+
+    return myClassLoader;
+  }
+
+  /*
+      The classes (main + test) of the project on top of its dependencies,
+      loaded afresh for each run
+   */
+  public static MyClassLoader setupProjectClasses(ClassLoader dependencies) {
+    MyClassLoader myClassLoader = new MyClassLoader(dependencies);
+    addProjectClasses(myClassLoader);
+
+    return myClassLoader;
+  }
+
+  private static void addProjectClasses(MyClassLoader myClassLoader) {
     if (isGradleProject()) {
       myClassLoader.addClassRootDirectory("./build/classes/main/");
       myClassLoader.addClassRootDirectory("./build/classes/test/");
-      myClassLoader.addJarFileDirectory("./build/dependency-cache/");
-      myClassLoader.addJarFile(getRootOrJarOfClass(ClassPathSetup.class));
     }
 
     if (isMavenProject()) {
       myClassLoader.addClassRootDirectory("./target/classes/");
       myClassLoader.addClassRootDirectory("./target/test-classes/");
-      myClassLoader.addJarFileDirectory("./target/dependency/");
+    }
+  }
+
+  private static void addDependencies(MyClassLoader myClassLoader) {
+    if (isGradleProject()) {
+      myClassLoader.addJarFileDirectory("./build/dependency-cache/");
       myClassLoader.addJarFile(getRootOrJarOfClass(ClassPathSetup.class));
     }
 
-    return myClassLoader;
+    if (isMavenProject()) {
+      myClassLoader.addJarFileDirectory("./target/dependency/");
+      myClassLoader.addJarFile(getRootOrJarOfClass(ClassPathSetup.class));
+    }
   }
 
   public static boolean isGradleProject() {
@@ -0,0 +1,138 @@
+package com.greghaskins.spectrum.app;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.net.ConnectException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+
+/**
+ * Keeps a JVM running between runs, so that a run does not pay for starting the JVM and
+ * loading the dependencies each time. The dependencies stay loaded in one class loader; the
+ * classes of the project are loaded afresh for each run, in a class loader on top of it
+ * which is thrown away afterwards - so a run sees what was last compiled, but a change to the
+ * dependencies needs a new daemon. Spectrum is one of the dependencies, so the runner writes out
+ * what it keeps for a run - like the timing history and the metrics - at the end of each run.
+ *
+ * <p>
+ * A client connects on the local port, sends the directory it runs in and its command line,
+ * and gets the output of the run back. Runs take turns, as they share the output.
+ * </p>
+ */
+public class Daemon {
+  static final int DEFAULT_PORT = 7357;
+
+  private final MyClassLoader dependencies = ClassPathSetup.setupDependencies();
+  private final String directory = new File(".").getAbsoluteFile().toPath().normalize().toString();
+
+  /**
+   * Serve runs of the project in the current directory until the JVM is stopped.
+   * @param port the local port to listen on
+   * @throws IOException if the port cannot be listened on
+   */
+  public static void serve(int port) throws IOException {
+    Daemon daemon = new Daemon();
+    try (ServerSocket serverSocket = new ServerSocket(port, 0, InetAddress.getLoopbackAddress())) {
+      System.out.println("Spectrum daemon for " + daemon.directory + " on port " + port);
+      while (true) {
+        try (Socket client = serverSocket.accept()) {
+          daemon.serve(client);
+        } catch (IOException | RuntimeException ex) {
+          // the client went away, or was not a client - say so, and wait for the next one
+          System.err.println("Could not serve a run: " + ex);
+          ex.printStackTrace();
+        }
+      }
+    }
+  }
+
+  /**
+   * Have the daemon do a run, and show its output here.
+   * @param port the local port the daemon listens on
+   * @param args the command line of the run
+   * @throws IOException if the connection to the daemon fails
+   */
+  public static void connect(int port, String... args) throws IOException {
+    Socket socket;
+    try {
+      socket = new Socket(InetAddress.getLoopbackAddress(), port);
+    } catch (ConnectException ex) {
+      System.out.println("No daemon on port " + port + " - start one with --daemon");
+
+      return;
+    }
+
+    try {
+      BufferedWriter request =
+          new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), UTF_8));
+      request.write(new File(".").getAbsoluteFile().toPath().normalize().toString());
+      request.newLine();
+      request.write(Integer.toString(args.length));
+      request.newLine();
+      for (String arg : args) {
+        request.write(arg);
+        request.newLine();
+      }
+      request.flush();
+
+      InputStream output = socket.getInputStream();
+      byte[] buffer = new byte[8192];
+      for (int read = output.read(buffer); read != -1; read = output.read(buffer)) {
+        System.out.write(buffer, 0, read);
+        System.out.flush();
+      }
+    } finally {
+      socket.close();
+    }
+  }
+
+  private void serve(Socket client) throws IOException {
+    BufferedReader request =
+        new BufferedReader(new InputStreamReader(client.getInputStream(), UTF_8));
+    String clientDirectory = request.readLine();
+    String[] args = new String[Integer.parseInt(request.readLine())];
+    for (int i = 0; i < args.length; i++) {
+      args[i] = request.readLine();
+    }
+
+    PrintStream output = new PrintStream(client.getOutputStream(), true, UTF_8.name());
+    if (!directory.equals(clientDirectory)) {
+      output.println("The daemon on this port runs the project in " + directory);
+
+      return;
+    }
+
+    PrintStream out = System.out;
+    PrintStream err = System.err;
+    ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+    System.setOut(output);
+    System.setErr(output);
+    try {
+      run(args);
+    } finally {
+      System.setOut(out);
+      System.setErr(err);
+      Thread.currentThread().setContextClassLoader(contextClassLoader);
+      output.flush();
+    }
+  }
+
+  private void run(String... args) throws IOException {
+    long startTime = System.currentTimeMillis();
+    try (MyClassLoader projectClasses = ClassPathSetup.setupProjectClasses(dependencies)) {
+      projectClasses.runMain("com.greghaskins.spectrum.app.JunitRunner", args);
+    } catch (Exception ex) {
+      ex.printStackTrace();
+    }
+    System.out.println("Total time: " + (System.currentTimeMillis() - startTime) + "ms");
+  }
+}
@@ -0,0 +1,328 @@
+package com.greghaskins.spectrum.app;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.greghaskins.spectrum.Configure;
+
+import org.junit.runner.Description;
+import org.junit.runner.Runner;
+import org.junit.runner.notification.Failure;
+import org.junit.runner.notification.RunListener;
+import org.junit.runner.notification.RunNotifier;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs test classes in separate worker JVMs, so that tests which change static state
+ * cannot affect each other while still using every core. Each worker has the class path of
+ * this run and takes the next class as soon as it finishes one. What happens in the workers
+ * is reported here as if the classes had run in this JVM.
+ *
+ * @see ForkedWorker
+ */
+final class ForkedRunner extends Runner {
+  private final Description description;
+  private final List<String> classNames;
+  private final String[] workerArguments;
+  private final int forks;
+  private final int maxFailures = Integer.getInteger(Configure.FAIL_FAST_PROPERTY, 0);
+
+  /**
+   * Construct the runner.
+   * @param description of the classes, as they would run here
+   * @param classNames the classes to run, in the order to start them
+   * @param workerArguments the command line of the run, which says which tests to run
+   * @param forks how many worker JVMs to start
+   */
+  ForkedRunner(Description description, List<String> classNames, String[] workerArguments,
+      int forks) {
+    this.description = description;
+    this.classNames = classNames;
+    this.workerArguments = workerArguments;
+    this.forks = forks;
+  }
+
+  @Override
+  public Description getDescription() {
+    return description;
+  }
+
+  @Override
+  public void run(RunNotifier notifier) {
+    // a worker names each test by its display name, which is only known to be unique within
+    // the class it is running - two classes can have suites of the same name
+    Map<String, Map<String, Description>> descriptions = new HashMap<>();
+    for (Description testClass : description.getChildren()) {
+      descriptions.put(testClass.getDisplayName(), byDisplayName(testClass));
+    }
+    Queue<String> remaining = new ConcurrentLinkedQueue<>(classNames);
+
+    // each worker stops itself after too many failures, but only here can see them all
+    Set<Description> failed = ConcurrentHashMap.newKeySet();
+    RunListener failureCounter = new RunListener() {
+      @Override
+      public void testFailure(Failure failure) {
+        failed.add(failure.getDescription());
+      }
+    };
+    notifier.addListener(failureCounter);
+
+    List<Thread> threads = new ArrayList<>();
+    for (int i = 0; i < Math.min(forks, classNames.size()); i++) {
+      Thread thread = new Thread(() -> runOnWorker(remaining, descriptions, notifier, failed),
+          "spectrum-fork-" + i);
+      thread.start();
+      threads.add(thread);
+    }
+
+    try {
+      for (Thread thread : threads) {
+        thread.join();
+      }
+    } catch (InterruptedException interruption) {
+      Thread.currentThread().interrupt();
+    } finally {
+      notifier.removeListener(failureCounter);
+    }
+
+    String className;
+    while ((className = remaining.poll()) != null) {
+      reportIgnored(describe(className, descriptionsIn(className, descriptions)), notifier);
+    }
+  }
+
+  private void runOnWorker(Queue<String> remaining,
+      Map<String, Map<String, Description>> descriptions, RunNotifier notifier,
+      Set<Description> failed) {
+    Worker worker = null;
+    String className;
+    while (!hasStopped(failed) && (className = remaining.poll()) != null) {
+      Map<String, Description> inClass = descriptionsIn(className, descriptions);
+      try {
+        if (worker == null) {
+          worker = new Worker(workerCommand());
+        }
+        if (!worker.run(className, inClass, notifier)) {
+          worker.destroy();
+          worker = null;
+          notifier.fireTestFailure(new Failure(describe(className, inClass),
+              new IllegalStateException("The worker JVM exited while running " + className)));
+        }
+      } catch (IOException failedToRun) {
+        if (worker != null) {
+          worker.destroy();
+          worker = null;
+        }
+        notifier.fireTestFailure(new Failure(describe(className, inClass), failedToRun));
+      }
+    }
+
+    if (worker != null) {
+      worker.close();
+    }
+  }
+
+  private boolean hasStopped(Set<Description> failed) {
+    return maxFailures > 0 && failed.size() >= maxFailures;
+  }
+
+  static void reportIgnored(Description description, RunNotifier notifier) {
+    if (description.getChildren().isEmpty()) {
+      notifier.fireTestIgnored(description);
+    } else {
+      description.getChildren().forEach(child -> reportIgnored(child, notifier));
+    }
+  }
+
+  private List<String> workerCommand() {
+    List<String> command = new ArrayList<>();
+    command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+    System.getProperties().stringPropertyNames().stream()
+        .filter(name -> name.startsWith("spectrum."))
+        .forEach(name -> command.add("-D" + name + "=" + System.getProperty(name)));
+    command.add("-cp");
+    command.add(classPath());
+    command.add(ForkedWorker.class.getName());
+    command.addAll(Arrays.asList(workerArguments));
+
+    return command;
+  }
+
+  private static String classPath() {
+    // the tests were loaded by the class loaders which ClassPathSetup prepared
+    List<String> entries = new ArrayList<>();
+    addClassPath(Thread.currentThread().getContextClassLoader(), entries);
+    if (entries.isEmpty()) {
+      return System.getProperty("java.class.path");
+    }
+
+    return String.join(File.pathSeparator, entries);
+  }
+
+  private static void addClassPath(ClassLoader classLoader, List<String> entries) {
+    ClassLoader systemClassLoader = ClassLoader.getSystemClassLoader();
+    if (!(classLoader instanceof URLClassLoader) || classLoader == systemClassLoader
+        || classLoader == systemClassLoader.getParent()) {
+      return;
+    }
+    // a daemon keeps the dependencies in a parent of the project classes
+    addClassPath(classLoader.getParent(), entries);
+
+    for (URL url : ((URLClassLoader) classLoader).getURLs()) {
+      try {
+        entries.add(Paths.get(url.toURI()).toString());
+      } catch (URISyntaxException | IllegalArgumentException notAFile) {
+        entries.add(url.getPath());
+      }
+    }
+  }
+
+  /**
+   * The descriptions of a test class and everything in it, by display name.
+   * @param testClass the description of the class
+   * @return the descriptions, with the first of any which share a name
+   */
+  static Map<String, Description> byDisplayName(Description testClass) {
+    Map<String, Description> descriptions = new HashMap<>();
+    index(testClass, descriptions);
+
+    return descriptions;
+  }
+
+  private static void index(Description description, Map<String, Description> descriptions) {
+    descriptions.putIfAbsent(description.getDisplayName(), description);
+    for (Description child : description.getChildren()) {
+      index(child, descriptions);
+    }
+  }
+
+  private static Map<String, Description> descriptionsIn(String className,
+      Map<String, Map<String, Description>> descriptions) {
+    return descriptions.getOrDefault(className, Collections.emptyMap());
+  }
+
+  private static Description describe(String displayName, Map<String, Description> descriptions) {
+    Description known = descriptions.get(displayName);
+
+    return known != null ? known : Description.createSuiteDescription(displayName);
+  }
+
+  /**
+   * Report the events of a class running on a worker as they arrive, until the class is done.
+   * @param events written by the worker
+   * @param descriptions of the tests in the class, by display name
+   * @param notifier to report the events to
+   * @return false if the worker exited before finishing the class
+   * @throws IOException if the events cannot be read
+   */
+  static boolean replay(BufferedReader events, Map<String, Description> descriptions,
+      RunNotifier notifier) throws IOException {
+    String line;
+    while ((line = events.readLine()) != null) {
+      if (line.equals(ForkedWorker.DONE)) {
+        return true;
+      }
+      replay(ForkedWorker.fields(line), descriptions, notifier);
+    }
+
+    return false;
+  }
+
+  private static void replay(String[] event, Map<String, Description> descriptions,
+      RunNotifier notifier) {
+    if (event.length < 2) {
+      return;
+    }
+    Description description = describe(event[1], descriptions);
+    switch (event[0]) {
+      case ForkedWorker.STARTED:
+        notifier.fireTestStarted(description);
+        break;
+      case ForkedWorker.FINISHED:
+        notifier.fireTestFinished(description);
+        break;
+      case ForkedWorker.FAILURE:
+        notifier.fireTestFailure(new Failure(description, exceptionOf(event)));
+        break;
+      case ForkedWorker.ASSUMPTION_FAILURE:
+        notifier.fireTestAssumptionFailed(new Failure(description, exceptionOf(event)));
+        break;
+      case ForkedWorker.IGNORED:
+        notifier.fireTestIgnored(description);
+        break;
+      default:
+        // not something this version of the protocol knows about
+    }
+  }
+
+  private static Throwable exceptionOf(String[] event) {
+    return event.length > 2 ? ForkedWorker.decode(event[2])
+        : new IllegalStateException("A worker JVM reported a failure without an exception");
+  }
+
+  private static final class Worker {
+    private final Process process;
+    private final BufferedWriter testClasses;
+    private final BufferedReader events;
+
+    Worker(List<String> command) throws IOException {
+      this.process = new ProcessBuilder(command)
+          .redirectError(ProcessBuilder.Redirect.INHERIT)
+          .start();
+      this.testClasses =
+          new BufferedWriter(new OutputStreamWriter(process.getOutputStream(), UTF_8));
+      this.events = new BufferedReader(new InputStreamReader(process.getInputStream(), UTF_8));
+    }
+
+    /**
+     * Run a class on the worker, reporting its events as they arrive.
+     * @return false if the worker exited before finishing the class
+     */
+    boolean run(String className, Map<String, Description> descriptions, RunNotifier notifier)
+        throws IOException {
+      testClasses.write(className);
+      testClasses.newLine();
+      testClasses.flush();
+
+      return replay(events, descriptions, notifier);
+    }
+
+    void close() {
+      try {
+        testClasses.close();
+        if (!process.waitFor(10, TimeUnit.SECONDS)) {
+          process.destroy();
+        }
+      } catch (IOException notRunning) {
+        process.destroy();
+      } catch (InterruptedException interruption) {
+        process.destroy();
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    void destroy() {
+      process.destroy();
+    }
+  }
+}
@@ -0,0 +1,267 @@
+package com.greghaskins.spectrum.app;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.greghaskins.spectrum.internal.TimingHistory;
+
+import org.junit.runner.Description;
+import org.junit.runner.Request;
+import org.junit.runner.Runner;
+import org.junit.runner.manipulation.Filter;
+import org.junit.runner.manipulation.NoTestsRemainException;
+import org.junit.runner.notification.Failure;
+import org.junit.runner.notification.RunListener;
+import org.junit.runner.notification.RunNotifier;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.PrintStream;
+import java.util.Base64;
+import java.util.function.Consumer;
+
+/**
+ * The main class of a worker JVM started by the {@link ForkedRunner}. The worker reads the
+ * names of test classes from stdin, one per line, runs each one and writes what happened to
+ * stdout, one event per line, ending with {@value #DONE}. Anything the tests themselves print
+ * goes to stderr.
+ *
+ * <p>Each event is a type and a description's display name separated by a tab, with a
+ * failure adding its exception, serialised and base64 encoded. The type, message and stack
+ * trace of the exception are serialised ahead of it, so the runner can still show them if it
+ * does not have the class of the exception.
+ */
+public final class ForkedWorker {
+  static final String STARTED = "started";
+  static final String FINISHED = "finished";
+  static final String FAILURE = "failure";
+  static final String ASSUMPTION_FAILURE = "assumption";
+  static final String IGNORED = "ignored";
+  static final String DONE = "done";
+
+  private static final String SEPARATOR = "\t";
+
+  private ForkedWorker() {}
+
+  /**
+   * Run test classes as they arrive on stdin, until stdin is closed.
+   * @param args the command line of the run, which says which tests to run
+   * @throws IOException if stdin cannot be read
+   */
+  public static void main(String... args) throws IOException {
+    PrintStream events = new PrintStream(new FileOutputStream(FileDescriptor.out), true, "UTF-8");
+    System.setOut(System.err);
+
+    RunnerOptions options = RunnerOptions.parse(args);
+    // the run is concurrent, so the next one can start the longest classes first
+    TimingHistory.instance().enable();
+    LastRun lastRun = LastRun.load();
+    Filter filter = JunitRunner.selecting(options.getPatterns(), false, options, lastRun);
+    // one run for every class the worker is given, so what is shared between classes - like
+    // shared fixtures - lasts until the worker is done
+    RunNotifier notifier = new RunNotifier();
+    RunResult result = new RunResult();
+    notifier.addListener(result.listener());
+    notifier.addListener(new EventWriter(events));
+    notifier.fireTestRunStarted(Description.EMPTY);
+
+    BufferedReader testClasses = new BufferedReader(new InputStreamReader(System.in, UTF_8));
+    String className;
+    while ((className = testClasses.readLine()) != null) {
+      run(notifier, className, filter, runner -> JunitRunner.order(runner, options, lastRun),
+          events);
+      events.println(DONE);
+    }
+    notifier.fireTestRunFinished(result);
+
+    // the tests may have left threads running
+    System.exit(0);
+  }
+
+  private static void run(RunNotifier notifier, String className, Filter filter,
+      Consumer<Runner> order, PrintStream events) {
+    try {
+      Runner runner = Request.aClass(Class.forName(className)).getRunner();
+      filter.apply(runner);
+      order.accept(runner);
+      runner.run(notifier);
+    } catch (NoTestsRemainException nothingToRun) {
+      // as in a single JVM, the class is left out
+    } catch (ClassNotFoundException | LinkageError notLoaded) {
+      events.println(event(FAILURE, className, encode(notLoaded)));
+    }
+  }
+
+  static String event(String type, String... fields) {
+    StringBuilder line = new StringBuilder(type);
+    for (String field : fields) {
+      line.append(SEPARATOR).append(escape(field));
+    }
+
+    return line.toString();
+  }
+
+  static String[] fields(String line) {
+    String[] fields = line.split(SEPARATOR, -1);
+    for (int i = 0; i < fields.length; i++) {
+      fields[i] = unescape(fields[i]);
+    }
+
+    return fields;
+  }
+
+  static String encode(Throwable throwable) {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+      // what the report shows comes first, in JDK types only, for when the rest can't be read
+      output.writeObject(throwable.getClass().getName());
+      output.writeObject(throwable.getMessage());
+      output.writeObject(throwable.getStackTrace());
+      output.writeObject(throwable);
+    } catch (IOException notSerializable) {
+      return encode(substituteFor(throwable));
+    }
+
+    return Base64.getEncoder().encodeToString(bytes.toByteArray());
+  }
+
+  static Throwable decode(String encoded) {
+    try (ObjectInputStream input = new ContextClassLoaderObjectInputStream(
+        new ByteArrayInputStream(Base64.getDecoder().decode(encoded)))) {
+      String type = (String) input.readObject();
+      String message = (String) input.readObject();
+      StackTraceElement[] stackTrace = (StackTraceElement[]) input.readObject();
+      try {
+        return (Throwable) input.readObject();
+      } catch (ClassNotFoundException notOnThisSide) {
+        return new WorkerFailure(type, message, stackTrace);
+      }
+    } catch (IOException | ClassNotFoundException | ClassCastException | IllegalArgumentException
+        unreadable) {
+      return new IllegalStateException("The failure reported by a worker JVM could not be read",
+          unreadable);
+    }
+  }
+
+  /**
+   * The type of a failure to report, which for a stand-in is the type of the original.
+   * @param throwable the failure
+   * @return the name of its class
+   */
+  static String typeOf(Throwable throwable) {
+    return throwable instanceof WorkerFailure ? ((WorkerFailure) throwable).type
+        : throwable.getClass().getName();
+  }
+
+  private static Throwable substituteFor(Throwable throwable) {
+    // keep what the report shows - the type, the message and where it happened
+    return new WorkerFailure(throwable.getClass().getName(), throwable.getMessage(),
+        throwable.getStackTrace());
+  }
+
+  private static String escape(String field) {
+    return field.replace("\\", "\\\\").replace("\t", "\\t").replace("\n", "\\n")
+        .replace("\r", "\\r");
+  }
+
+  private static String unescape(String field) {
+    StringBuilder unescaped = new StringBuilder(field.length());
+    for (int i = 0; i < field.length(); i++) {
+      char character = field.charAt(i);
+      if (character == '\\' && i + 1 < field.length()) {
+        char escaped = field.charAt(++i);
+        unescaped.append(escaped == 't' ? '\t' : escaped == 'n' ? '\n' : escaped == 'r' ? '\r'
+            : escaped);
+      } else {
+        unescaped.append(character);
+      }
+    }
+
+    return unescaped.toString();
+  }
+
+  static class EventWriter extends RunListener {
+    private final PrintStream events;
+
+    EventWriter(PrintStream events) {
+      this.events = events;
+    }
+
+    @Override
+    public void testStarted(Description description) {
+      events.println(event(STARTED, description.getDisplayName()));
+    }
+
+    @Override
+    public void testFinished(Description description) {
+      events.println(event(FINISHED, description.getDisplayName()));
+    }
+
+    @Override
+    public void testFailure(Failure failure) {
+      events.println(event(FAILURE, failure.getDescription().getDisplayName(),
+          encode(failure.getException())));
+    }
+
+    @Override
+    public void testAssumptionFailure(Failure failure) {
+      events.println(event(ASSUMPTION_FAILURE, failure.getDescription().getDisplayName(),
+          encode(failure.getException())));
+    }
+
+    @Override
+    public void testIgnored(Description description) {
+      events.println(event(IGNORED, description.getDisplayName()));
+    }
+  }
+
+  /**
+   * Stands in for a failure of a worker which could not be sent, or whose class the runner
+   * does not have, showing the type, message and stack trace of the original.
+   */
+  static final class WorkerFailure extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    private final String type;
+
+    WorkerFailure(String type, String message, StackTraceElement[] stackTrace) {
+      super(message);
+      this.type = type;
+      setStackTrace(stackTrace);
+    }
+
+    @Override
+    public String toString() {
+      return getMessage() == null ? type : type + ": " + getMessage();
+    }
+  }
+
+  /**
+   * Resolves classes with the context class loader, which has the classes of the project when
+   * the runner loads them in a class loader of its own.
+   */
+  private static final class ContextClassLoaderObjectInputStream extends ObjectInputStream {
+    ContextClassLoaderObjectInputStream(InputStream input) throws IOException {
+      super(input);
+    }
+
+    @Override
+    protected Class<?> resolveClass(ObjectStreamClass description)
+        throws IOException, ClassNotFoundException {
+      try {
+        return Class.forName(description.getName(), false,
+            Thread.currentThread().getContextClassLoader());
+      } catch (ClassNotFoundException notInThatLoader) {
+        return super.resolveClass(description);
+      }
+    }
+  }
+}
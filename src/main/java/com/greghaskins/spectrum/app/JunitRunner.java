@@ -4,9 +4,12 @@ import static com.greghaskins.spectrum.app.ClassPathSetup.isGradleProject;
 import static com.greghaskins.spectrum.app.ClassPathSetup.isMavenProject;
 import static java.util.stream.Collectors.toList;
 
-import org.junit.runner.Computer;
+import com.greghaskins.spectrum.internal.FailFast;
+import com.greghaskins.spectrum.internal.SharedRunState;
+import com.greghaskins.spectrum.internal.TimingHistory;
+import com.greghaskins.spectrum.internal.hooks.HookTimings;
+
 import org.junit.runner.Description;
-import org.junit.runner.JUnitCore;
 import org.junit.runner.Request;
 import org.junit.runner.Result;
 import org.junit.runner.Runner;
@@ -14,6 +17,7 @@ import org.junit.runner.manipulation.Filter;
 import org.junit.runner.manipulation.NoTestsRemainException;
 import org.junit.runner.notification.Failure;
 import org.junit.runner.notification.RunListener;
+import org.junit.runner.notification.RunNotifier;
 
 import java.io.File;
 import java.io.IOException;
@@ -24,10 +28,15 @@ import java.net.URL;
 import java.net.URLClassLoader;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.HashMap;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 /*
  * Two parts
@@ -36,21 +45,102 @@ import java.util.Set;
  * jar) 2. Run test runner within the classLoader
  */
 public class JunitRunner {
+  private final RunnerOptions options;
+
+  public JunitRunner() {
+    this(RunnerOptions.parse());
+  }
+
+  public JunitRunner(RunnerOptions options) {
+    this.options = options;
+  }
+
   public void run(Class[] testClassesToRun, String[] classesToMatch, boolean listOnly)
-      throws ClassNotFoundException {
-    JUnitCore jUnitCore = new JUnitCore();
-    jUnitCore.addListener(new MyOutputter());
-    //jUnitCore.addListener(new TextListener(System.out));
+      throws ClassNotFoundException, IOException {
+    FailFast.reset();
+    LastRun lastRun = LastRun.load();
+    // a notifier of our own rather than JUnitCore, whose Result holds on to every failure
+    RunNotifier notifier = new RunNotifier();
+    // JUnit delivers events to listeners one at a time, so the
+    // output stays whole even when classes run concurrently
+    notifier.addListener(new MyOutputter());
+    notifier.addListener(lastRun.recorder());
+    //notifier.addListener(new TextListener(System.out));
+
+    Filter fillter = selecting(classesToMatch, listOnly, options, lastRun);
+
+    Class<?>[] classesInRunOrder = inRunOrder(testClassesToRun);
+    Request request =
+        Request.classes(new WorkStealingComputer(options.getWorkers()), classesInRunOrder);
 
-    Filter fillter = new Filter() {
+    Runner runner = request.getRunner();
+    try {
+      fillter.apply(runner);
+      order(runner, options, lastRun);
+      if (!listOnly) {
+        if (options.getReportDirectory() != null) {
+          notifier.addListener(new StreamingReporter(Paths.get(options.getReportDirectory())));
+        }
+        if (options.getSlowest() > 0) {
+          notifier.addListener(new SlowestReport(options.getSlowest(), System.out,
+              options.getReportDirectory() == null ? null
+                  : Paths.get(options.getReportDirectory(), SlowestReport.JSON_FILE)));
+        }
+        Runner toRun = options.getForks() > 0 ? forked(runner) : runner;
+        // first, as in JUnitCore, so the result is complete by the time the others see it
+        RunResult result = new RunResult();
+        notifier.addFirstListener(result.listener());
+        notifier.fireTestRunStarted(toRun.getDescription());
+        toRun.run(notifier);
+        notifier.fireTestRunFinished(result);
+      }
+    } catch (NoTestsRemainException e) {
+      if (!listOnly) {
+        System.out.println("No tests found");
+      }
+    } finally {
+      // rather than when the JVM exits, as a daemon does the next run in the same JVM
+      SharedRunState.finishRun(System.out);
+    }
+  }
+
+  private Runner forked(Runner runner) {
+    // the classes which are left, in the order they would have run here
+    Description description = runner.getDescription();
+    List<String> classNames = description.getChildren().stream()
+        .map(Description::getDisplayName)
+        .collect(toList());
+
+    return new ForkedRunner(description, classNames, options.getArguments(), options.getForks());
+  }
+
+  static Filter selecting(String[] classesToMatch, boolean listOnly, RunnerOptions options,
+      LastRun lastRun) {
+    // Spectrum's specs only name their suite, so the class they are in has to be carried down
+    return TestPaths.filteringEachClass(paths -> {
+      Filter matching = matching(classesToMatch, listOnly, paths);
+
+      return options.isOnlyFailures() ? matching.intersect(lastRun.onlyFailures(paths))
+          : matching;
+    });
+  }
+
+  static void order(Runner runner, RunnerOptions options, LastRun lastRun) {
+    if (options.isFailedFirst()) {
+      lastRun.failedFirst().apply(runner);
+    }
+  }
+
+  private static Filter matching(String[] classesToMatch, boolean listOnly, TestPaths paths) {
+    return new Filter() {
       @Override
       public boolean shouldRun(Description description) {
-        String classAndMethod = description.getClassName() + "#" + description.getMethodName();
-
         if (description.getMethodName() == null) {
           return true;
         }
 
+        String classAndMethod = paths.testClassOf(description) + "#" + description.getMethodName();
+
         if (listOnly) {
           System.out.println(classAndMethod);
         }
@@ -73,23 +163,21 @@ public class JunitRunner {
         return "Dummy filter =)";
       }
     };
+  }
 
-    Request request = Request.classes(new Computer(), testClassesToRun);
-
-    Runner runner = request.getRunner();
-    try {
-      fillter.apply(runner);
-      if (!listOnly) {
-        jUnitCore.run(runner);
-      }
-    } catch (NoTestsRemainException e) {
-      if (!listOnly) {
-        System.out.println("No tests found");
-      }
+  private Class<?>[] inRunOrder(Class<?>[] testClasses) {
+    if (options.getWorkers() == 1 && options.getForks() == 0) {
+      return testClasses;
     }
+    TimingHistory.instance().enable();
+
+    // start the longest classes first, so no worker is left with one at the end
+    return TimingHistory.instance()
+        .longestFirst(Arrays.asList(testClasses), Class::getName)
+        .toArray(new Class<?>[0]);
   }
 
-  private boolean matches(String toMatch, String classAndMethod) {
+  private static boolean matches(String toMatch, String classAndMethod) {
     // Only method
     if (toMatch.startsWith("#")) {
       return classAndMethod.endsWith(toMatch);
@@ -100,8 +188,6 @@ public class JunitRunner {
       return classAndMethod.equals(toMatch);
     }
 
-    System.out.println(toMatch);
-    System.out.println(classAndMethod);
     // Only class
 
     return classAndMethod.startsWith(toMatch);
@@ -154,7 +240,8 @@ public class JunitRunner {
     //      }
     //    }
 
-    ClassLoader classLoader = JunitRunner.class.getClassLoader();
+    // a daemon loads the project classes below the one which loaded this class
+    ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
 
     // Find and load all junit test classes
     Set<Class> classes = new HashSet<>();
@@ -199,7 +286,8 @@ public class JunitRunner {
       }
     }
 
-    new JunitRunner().run(classes.toArray(new Class[0]), new String[0], false);
+    RunnerOptions options = RunnerOptions.parse(args);
+    new JunitRunner(options).run(classes.toArray(new Class[0]), options.getPatterns(), false);
 
     /*
         # Goal
@@ -253,17 +341,56 @@ public class JunitRunner {
   }
 
   public static class MyOutputter extends RunListener {
-
-    HashMap<Description, String> fullStrings = new HashMap<>();
+    // enough to be going on with - the rest are only counted, so a run with a great many
+    // failures takes no more memory than one with a few
+    static final int MAX_FAILURES_LISTED = 100;
+
+    List<Failure> failures = new ArrayList<>();
+    Description root;
+    long runCount = 0;
+    long failureCount = 0;
     long startTime = 0;
 
+    // the output for each test is written in batches - a write to the console for every
+    // test slows the fastest suites down, especially when a CI server captures the output -
+    // and on a timer too, so a slow test never holds back the output of those before it
+    static final int OUTPUT_BATCH_CHARS = 8192;
+    static final long OUTPUT_BATCH_MILLIS = 100;
+
+    StringBuilder output = new StringBuilder();
+    ScheduledExecutorService outputFlusher;
+
+    private synchronized void write(String text) {
+      output.append(text);
+      if (output.length() >= OUTPUT_BATCH_CHARS) {
+        flushOutput();
+      }
+    }
+
+    private synchronized void flushOutput() {
+      if (output.length() > 0) {
+        System.out.print(output);
+        System.out.flush();
+        output.setLength(0);
+      }
+    }
+
     public void testRunStarted(Description description) throws Exception {
       //System.out.println("Starting: " + description);
       startTime = System.currentTimeMillis();
-      print(description, "", 1);
+      root = description;
+      outputFlusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "spectrum-output");
+        thread.setDaemon(true);
+
+        return thread;
+      });
+      outputFlusher.scheduleAtFixedRate(this::flushOutput, OUTPUT_BATCH_MILLIS,
+          OUTPUT_BATCH_MILLIS, TimeUnit.MILLISECONDS);
     }
 
-    private void print(Description description, String part, int level) {
+    private static String fullString(Description description, Description toFind, String part,
+        int level) {
       if (level >= 3) { // We skip the two first as they are not interesting.
         if (description.isSuite()) {
           part = part.trim() + " " + description.getDisplayName();
@@ -272,19 +399,37 @@ public class JunitRunner {
         }
       }
 
-      for (Description d : description.getChildren()) {
-        print(d, part, level + 1);
+      if (description.equals(toFind)) {
+        return part;
       }
 
-      if (description.getChildren().size() == 0) {
-        fullStrings.put(description, part);
+      for (Description d : description.getChildren()) {
+        String found = fullString(d, toFind, part, level + 1);
+        if (found != null) {
+          return found;
+        }
       }
+
+      return null;
+    }
+
+    private String fullString(Failure failure) {
+      return root == null ? failure.getDescription().getDisplayName()
+          : fullString(root, failure.getDescription(), "", 1);
     }
 
     public void testRunFinished(Result result) throws Exception {
+      if (outputFlusher != null) {
+        outputFlusher.shutdown();
+      }
+      flushOutput();
 
       double timeInSeconds = (System.currentTimeMillis() - startTime) / 1000d;
-      boolean wasFailure = result.getFailureCount() > 0;
+      boolean wasFailure = failureCount > 0;
+      List<String> fullStrings = new ArrayList<>();
+      for (Failure failure : failures) {
+        fullStrings.add(fullString(failure));
+      }
 
 
       if (wasFailure) {
@@ -292,9 +437,9 @@ public class JunitRunner {
 
         int count = 0;
 
-        for (Failure failure : result.getFailures()) {
+        for (Failure failure : failures) {
+          String fullString = fullStrings.get(count);
           count++;
-          String fullString = fullStrings.get(failure.getDescription());
           StackTraceElement elementToPrint = null;
 
           for (StackTraceElement element : failure.getException().getStackTrace()) {
@@ -307,32 +452,40 @@ public class JunitRunner {
 
           if (elementToPrint != null) {
             System.out.println("\n  " + count + ") " + fullString);
-            System.out.println(reset(red(indentLines(failure.getException().getClass().getName() + " "
-                + failure.getException().getLocalizedMessage(), "     "))));
+            System.out.println(reset(red(indentLines(
+                ForkedWorker.typeOf(failure.getException()) + " "
+                    + failure.getException().getLocalizedMessage(), "     "))));
             //            System.out.println(reset(red(indentLines(failure.getMessage(), "     "))));
             System.out.println("\n" + reset(cyan(indentLines(
                 "// " + elementToPrint.getClassName() + ":" + elementToPrint.getLineNumber(), "     "))));
           }
         }
+
+        if (failureCount > failures.size()) {
+          System.out.println("\n  ... and " + (failureCount - failures.size()) + " more");
+        }
       }
 
       System.out.println("\n");
       System.out.println("Finished in " + timeInSeconds + " seconds");
       if (wasFailure) {
         System.out.println(
-            reset(red(result.getRunCount() + " examples, " + result.getFailureCount() + " failures")));
+            reset(red(runCount + " examples, " + failureCount + " failures")));
       } else {
         System.out.println(
-            reset(green(result.getRunCount() + " examples, " + result.getFailureCount() + " failures")));
+            reset(green(runCount + " examples, " + failureCount + " failures")));
       }
       System.out.println("");
+      HookTimings.instance().printReport(System.out);
 
       if (wasFailure) {
         System.out.println("Failed examples:");
         System.out.println("");
 
-        for (Failure failure : result.getFailures()) {
-          String fullString = fullStrings.get(failure.getDescription());
+        int count = 0;
+
+        for (Failure failure : failures) {
+          String fullString = fullStrings.get(count++);
           StackTraceElement elementToPrint = null;
 
           for (StackTraceElement element : failure.getException().getStackTrace()) {
@@ -357,21 +510,26 @@ public class JunitRunner {
     }
 
     public void testFinished(Description description) throws Exception {
-      System.out.print(reset(green(".")));
+      runCount++;
+      write(reset(green(".")));
       //System.out.println("Test finished:" + description);
     }
 
     public void testFailure(Failure failure) throws Exception {
-      System.out.print(reset(red("F")));
+      failureCount++;
+      if (failures.size() < MAX_FAILURES_LISTED) {
+        failures.add(failure);
+      }
+      write(reset(red("F")));
       //System.out.println("Test failure:" + failure);
     }
 
     public void testAssumptionFailure(Failure failure) {
-      System.out.println("Assumption failure:" + failure);
+      write("Assumption failure:" + failure + System.lineSeparator());
     }
 
     public void testIgnored(Description description) throws Exception {
-      System.out.println("Ignored:" + description);
+      write("Ignored:" + description + System.lineSeparator());
     }
   }
 
@@ -0,0 +1,205 @@
+package com.greghaskins.spectrum.app;
+
+import com.greghaskins.spectrum.internal.AtomicFile;
+
+import org.junit.runner.Description;
+import org.junit.runner.Result;
+import org.junit.runner.manipulation.Filter;
+import org.junit.runner.manipulation.Sorter;
+import org.junit.runner.notification.Failure;
+import org.junit.runner.notification.RunListener;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The outcome of each test in the last run, kept in a small file under the project directory
+ * so that the next run can start with, or only run, the tests which failed. Each test is known
+ * by its class and the path of suites down to it, as {@code Class#suite/spec}.
+ */
+public class LastRun {
+  private static final String FAILED = "failed";
+  private static final String PASSED = "passed";
+  private static final String SKIPPED = "skipped";
+  private static final String IGNORED = "ignored";
+
+  private final Path file;
+  private final Map<String, String> outcomes;
+
+  /**
+   * Read the last run from the default file, {@code .spectrum/last-run.properties}.
+   * @return the last run, which is empty if there was none
+   */
+  public static LastRun load() {
+    return new LastRun(Paths.get(".spectrum", "last-run.properties"));
+  }
+
+  LastRun(Path file) {
+    this.file = file;
+    this.outcomes = read(file);
+  }
+
+  /**
+   * A filter to only run what failed last time. A suite which failed, for example in a
+   * {@code beforeAll}, runs whole.
+   * @param paths of the tests in the class the filter is for
+   * @return the filter
+   */
+  Filter onlyFailures(TestPaths paths) {
+    Set<Description> inFailedSuites = ConcurrentHashMap.newKeySet();
+
+    return new Filter() {
+      @Override
+      public boolean shouldRun(Description description) {
+        if (hasFailed(paths, description)) {
+          addDescendants(description, inFailedSuites);
+
+          return true;
+        }
+
+        return inFailedSuites.contains(description) || hasFailedWithin(paths, description);
+      }
+
+      @Override
+      public String describe() {
+        return "only the failures from the last run";
+      }
+    };
+  }
+
+  /**
+   * An order which puts whatever failed last time first, and otherwise leaves things as
+   * they were.
+   * @return the sorter
+   */
+  Sorter failedFirst() {
+    return TestPaths.sortingEachClass(
+        (paths, description) -> hasFailedWithin(paths, description) ? 0 : 1);
+  }
+
+  /**
+   * A listener which records the outcome of each test, and writes them to the file of the
+   * last run when the run finishes. Tests which did not run this time keep their old outcome.
+   * @return the listener
+   */
+  public RunListener recorder() {
+    return new Recorder();
+  }
+
+  private boolean hasFailed(TestPaths paths, Description description) {
+    String outcome = outcomes.get(paths.identityOf(description));
+
+    return outcome != null && outcome.startsWith(FAILED);
+  }
+
+  private boolean hasFailedWithin(TestPaths paths, Description description) {
+    return hasFailed(paths, description)
+        || description.getChildren().stream().anyMatch(child -> hasFailedWithin(paths, child));
+  }
+
+  private static void addDescendants(Description description, Set<Description> descendants) {
+    for (Description child : description.getChildren()) {
+      descendants.add(child);
+      addDescendants(child, descendants);
+    }
+  }
+
+  private void write(Map<String, String> thisRun) {
+    Properties merged = new Properties();
+    read(file).forEach(merged::setProperty);
+    thisRun.forEach(merged::setProperty);
+
+    try {
+      AtomicFile.write(file,
+          output -> merged.store(output, "Spectrum last run - outcome and milliseconds of each test"));
+    } catch (IOException | RuntimeException ignored) {
+      // only the next run can miss this, not this one
+    }
+  }
+
+  private static Map<String, String> read(Path file) {
+    Map<String, String> outcomes = new HashMap<>();
+    if (!Files.isReadable(file)) {
+      return outcomes;
+    }
+
+    Properties properties = new Properties();
+    try (InputStream input = Files.newInputStream(file)) {
+      properties.load(input);
+    } catch (IOException | RuntimeException unreadable) {
+      return outcomes;
+    }
+    properties.stringPropertyNames()
+        .forEach(identity -> outcomes.put(identity, properties.getProperty(identity)));
+
+    return outcomes;
+  }
+
+  private class Recorder extends RunListener {
+    private final Map<String, String> thisRun = new ConcurrentHashMap<>();
+    private final Map<String, Long> started = new ConcurrentHashMap<>();
+    private final Set<String> failed = ConcurrentHashMap.newKeySet();
+    private final Set<String> skipped = ConcurrentHashMap.newKeySet();
+    private volatile TestPaths paths = TestPaths.ofRun(Description.EMPTY);
+
+    @Override
+    public void testRunStarted(Description description) {
+      paths = TestPaths.ofRun(description);
+    }
+
+    @Override
+    public void testStarted(Description description) {
+      started.put(paths.identityOf(description), System.nanoTime());
+    }
+
+    @Override
+    public void testFinished(Description description) {
+      String identity = paths.identityOf(description);
+      String outcome = failed.contains(identity) ? FAILED
+          : skipped.contains(identity) ? SKIPPED : PASSED;
+      record(description, outcome);
+    }
+
+    @Override
+    public void testFailure(Failure failure) {
+      // suites which fail in their hooks are never started or finished
+      failed.add(paths.identityOf(failure.getDescription()));
+      record(failure.getDescription(), FAILED);
+    }
+
+    @Override
+    public void testAssumptionFailure(Failure failure) {
+      skipped.add(paths.identityOf(failure.getDescription()));
+    }
+
+    @Override
+    public void testIgnored(Description description) {
+      record(description, IGNORED);
+    }
+
+    @Override
+    public void testRunFinished(Result result) {
+      write(thisRun);
+    }
+
+    private void record(Description description, String outcome) {
+      // a suite which is only known by its name is recorded against every suite of that
+      // name, so that a failure is run again rather than lost
+      for (String identity : paths.identitiesOf(description)) {
+        Long startedAt = started.get(identity);
+        long millis = startedAt == null ? 0
+            : TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        thisRun.put(identity, outcome + " " + millis);
+      }
+    }
+  }
+}
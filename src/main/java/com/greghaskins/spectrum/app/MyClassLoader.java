@@ -11,7 +11,11 @@ import java.net.URLClassLoader;
 public class MyClassLoader extends URLClassLoader {
 
   public MyClassLoader() {
-    super(new URL[0], ClassLoader.getSystemClassLoader().getParent());
+    this(ClassLoader.getSystemClassLoader().getParent());
+  }
+
+  public MyClassLoader(ClassLoader parent) {
+    super(new URL[0], parent);
   }
 
   public void addClassRootDirectory(String classRootDirectory) {
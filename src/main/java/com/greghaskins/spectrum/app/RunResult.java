@@ -0,0 +1,99 @@
+package com.greghaskins.spectrum.app;
+
+import org.junit.runner.Description;
+import org.junit.runner.Result;
+import org.junit.runner.notification.Failure;
+import org.junit.runner.notification.RunListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The result of a run, for the listeners which are told that it finished. Unlike JUnit's own
+ * {@link Result}, which holds on to every failure, it keeps only the first few and counts the
+ * rest, so a run with a great many failures takes no more memory than one with a few.
+ */
+final class RunResult extends Result {
+  private static final long serialVersionUID = 1L;
+
+  private final AtomicInteger runCount = new AtomicInteger();
+  private final AtomicInteger failureCount = new AtomicInteger();
+  private final AtomicInteger ignoreCount = new AtomicInteger();
+  private final AtomicLong startTime = new AtomicLong();
+  private final AtomicLong runTime = new AtomicLong();
+  private final List<Failure> failures =
+      Collections.synchronizedList(new ArrayList<>(JunitRunner.MyOutputter.MAX_FAILURES_LISTED));
+
+  /**
+   * A listener which adds up the run. Add it to the notifier before the run starts, ahead
+   * of the listeners which use the result.
+   * @return the listener
+   */
+  RunListener listener() {
+    return new RunListener() {
+      @Override
+      public void testRunStarted(Description description) {
+        startTime.set(System.currentTimeMillis());
+      }
+
+      @Override
+      public void testRunFinished(Result result) {
+        runTime.addAndGet(System.currentTimeMillis() - startTime.get());
+      }
+
+      @Override
+      public void testFinished(Description description) {
+        runCount.incrementAndGet();
+      }
+
+      @Override
+      public void testFailure(Failure failure) {
+        if (failureCount.getAndIncrement() < JunitRunner.MyOutputter.MAX_FAILURES_LISTED) {
+          failures.add(failure);
+        }
+      }
+
+      @Override
+      public void testIgnored(Description description) {
+        ignoreCount.incrementAndGet();
+      }
+    };
+  }
+
+  @Override
+  public int getRunCount() {
+    return runCount.get();
+  }
+
+  @Override
+  public int getFailureCount() {
+    return failureCount.get();
+  }
+
+  @Override
+  public int getIgnoreCount() {
+    return ignoreCount.get();
+  }
+
+  @Override
+  public long getRunTime() {
+    return runTime.get();
+  }
+
+  /**
+   * The first failures of the run - {@link #getFailureCount()} says how many there were.
+   * @return the failures which were kept
+   */
+  @Override
+  public List<Failure> getFailures() {
+    return Collections.unmodifiableList(new ArrayList<>(failures));
+  }
+
+  @Override
+  public boolean wasSuccessful() {
+    return getFailureCount() == 0;
+  }
+}
@@ -0,0 +1,173 @@
+package com.greghaskins.spectrum.app;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Command line options for the {@link JunitRunner}. Anything which is not an option
+ * is a pattern of classes or methods to run.
+ *
+ * <pre>
+ *   --workers N    run test classes on N threads (default: available processors)
+ *   --forks N      run test classes in N separate JVMs instead (default: 0, run them here)
+ *   --failed-first run whatever failed in the last run first
+ *   --only-failures only run whatever failed in the last run
+ *   --daemon       stay running, and run whenever a client connects
+ *   --connect      have the daemon run with the other options, instead of running here
+ *   --port N       the local port of the daemon (default: 7357)
+ *   --report-dir D write the results to JUnit XML and NDJSON files in directory D
+ *   --slowest N    list the N slowest specs, suites and hooks at the end of the run
+ * </pre>
+ */
+public class RunnerOptions {
+  private int workers = Runtime.getRuntime().availableProcessors();
+  private int forks = 0;
+  private boolean failedFirst = false;
+  private boolean onlyFailures = false;
+  private boolean daemon = false;
+  private boolean connect = false;
+  private int port = Daemon.DEFAULT_PORT;
+  private String reportDirectory = null;
+  private int slowest = 0;
+  private final List<String> patterns = new ArrayList<>();
+  private final List<String> arguments = new ArrayList<>();
+
+  /**
+   * Parse the command line.
+   * @param args the arguments from the command line
+   * @return the options
+   */
+  public static RunnerOptions parse(String... args) {
+    RunnerOptions options = new RunnerOptions();
+    Iterator<String> arguments = Arrays.asList(args).iterator();
+    while (arguments.hasNext()) {
+      String argument = arguments.next();
+      switch (argument) {
+        case "--daemon":
+          options.daemon = true;
+          continue;
+        case "--connect":
+          options.connect = true;
+          continue;
+        case "--port":
+          options.port = positiveNumber(argument, valueOf(argument, arguments));
+          continue;
+        case "--report-dir":
+          // forked workers ignore this, as their results are reported by the JVM which forked them
+          String reportDirectory = valueOf(argument, arguments);
+          options.reportDirectory = reportDirectory;
+          options.arguments.add(argument);
+          argument = reportDirectory;
+          break;
+        case "--slowest":
+          String slowest = valueOf(argument, arguments);
+          options.slowest = positiveNumber(argument, slowest);
+          options.arguments.add(argument);
+          argument = slowest;
+          break;
+        case "--workers":
+          String workers = valueOf(argument, arguments);
+          options.workers = positiveNumber(argument, workers);
+          options.arguments.add(argument);
+          argument = workers;
+          break;
+        case "--forks":
+          String forks = valueOf(argument, arguments);
+          options.forks = positiveNumber(argument, forks);
+          options.arguments.add(argument);
+          argument = forks;
+          break;
+        case "--failed-first":
+          options.failedFirst = true;
+          break;
+        case "--only-failures":
+          options.onlyFailures = true;
+          break;
+        default:
+          options.patterns.add(argument);
+      }
+      options.arguments.add(argument);
+    }
+
+    return options;
+  }
+
+  public int getWorkers() {
+    return workers;
+  }
+
+  public int getForks() {
+    return forks;
+  }
+
+  public boolean isFailedFirst() {
+    return failedFirst;
+  }
+
+  public boolean isOnlyFailures() {
+    return onlyFailures;
+  }
+
+  public boolean isDaemon() {
+    return daemon;
+  }
+
+  public boolean isConnect() {
+    return connect;
+  }
+
+  public int getPort() {
+    return port;
+  }
+
+  /**
+   * Where to write the results of the run as files.
+   * @return the directory, or null if no files are to be written
+   */
+  public String getReportDirectory() {
+    return reportDirectory;
+  }
+
+  /**
+   * How many of the slowest specs, suites and hooks to list at the end of the run.
+   * @return the number to list, or zero if none are to be listed
+   */
+  public int getSlowest() {
+    return slowest;
+  }
+
+  public String[] getPatterns() {
+    return patterns.toArray(new String[0]);
+  }
+
+  /**
+   * The command line these options came from, for passing on to another JVM. The options
+   * about the daemon are left out, as they only matter to the JVM they were given to.
+   * @return the arguments as given
+   */
+  public String[] getArguments() {
+    return arguments.toArray(new String[0]);
+  }
+
+  private static String valueOf(String option, Iterator<String> arguments) {
+    if (!arguments.hasNext()) {
+      throw new IllegalArgumentException(option + " needs a value");
+    }
+
+    return arguments.next();
+  }
+
+  private static int positiveNumber(String option, String value) {
+    try {
+      int number = Integer.parseInt(value);
+      if (number > 0) {
+        return number;
+      }
+    } catch (NumberFormatException ignored) {
+      // reported below
+    }
+    throw new IllegalArgumentException(option + " needs a positive number, not " + value);
+  }
+}
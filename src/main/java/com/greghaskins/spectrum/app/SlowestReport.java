@@ -0,0 +1,249 @@
+package com.greghaskins.spectrum.app;
+
+import com.greghaskins.spectrum.internal.Json;
+import com.greghaskins.spectrum.internal.LogLinearHistogram;
+import com.greghaskins.spectrum.internal.hooks.HookTimings;
+
+import org.junit.runner.Description;
+import org.junit.runner.Result;
+import org.junit.runner.notification.RunListener;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * Reports where the time of a run went - the slowest specs, the slowest suites with the 50th,
+ * 95th and 99th percentiles of the time their specs took, and the slowest hooks, each with its
+ * share of the time the whole run took. A suite's time includes that of the suites inside it,
+ * and each test class counts as a suite. Specs and suites are named by their test class and
+ * the path of suites down to them, as {@code Class#suite/spec}. Only the slowest specs are held
+ * on to, and a histogram for each suite, so it can be left listening to the largest of runs.
+ *
+ * <p>The hooks are only timed when the {@code spectrum.hook.timings} system property is
+ * {@code true}. Add the listener to any JUnit run, or use the {@code --slowest} option of
+ * Spectrum's own runner.
+ */
+public class SlowestReport extends RunListener {
+  static final String JSON_FILE = "spectrum-slowest.json";
+
+  private final int count;
+  private final PrintStream out;
+  private final Path jsonFile;
+  private final LongSupplier nanoTime;
+  private final Map<Description, Long> running = new HashMap<>();
+  private final PriorityQueue<Timed> slowestSpecs =
+      new PriorityQueue<>(Comparator.comparingLong((Timed timed) -> timed.nanos));
+  private final Map<String, SuiteTimes> suites = new HashMap<>();
+  private TestPaths paths = TestPaths.ofRun(Description.EMPTY);
+  private long startedAt;
+
+  /**
+   * Report the slowest of each to the console when the run finishes.
+   * @param count how many specs, suites and hooks to list
+   */
+  public SlowestReport(int count) {
+    this(count, System.out, null);
+  }
+
+  /**
+   * Report the slowest of each when the run finishes.
+   * @param count how many specs, suites and hooks to list
+   * @param out where to print the report
+   * @param jsonFile where to write the report as JSON as well, or null for nowhere
+   */
+  public SlowestReport(int count, PrintStream out, Path jsonFile) {
+    this(count, out, jsonFile, System::nanoTime);
+  }
+
+  /**
+   * Report the slowest of each when the run finishes, timed by the given clock.
+   * @param count how many specs, suites and hooks to list
+   * @param out where to print the report
+   * @param jsonFile where to write the report as JSON as well, or null for nowhere
+   * @param nanoTime the clock, like {@link System#nanoTime()}
+   */
+  SlowestReport(int count, PrintStream out, Path jsonFile, LongSupplier nanoTime) {
+    this.count = count;
+    this.out = out;
+    this.jsonFile = jsonFile;
+    this.nanoTime = nanoTime;
+  }
+
+  @Override
+  public void testRunStarted(Description description) {
+    this.paths = TestPaths.ofRun(description);
+    this.startedAt = this.nanoTime.getAsLong();
+  }
+
+  @Override
+  public void testStarted(Description description) {
+    this.running.put(description, this.nanoTime.getAsLong());
+  }
+
+  @Override
+  public void testFinished(Description description) {
+    Long started = this.running.remove(description);
+    if (started == null) {
+      return;
+    }
+    long nanos = this.nanoTime.getAsLong() - started;
+
+    this.slowestSpecs.add(new Timed(this.paths.identityOf(description), nanos));
+    if (this.slowestSpecs.size() > this.count) {
+      this.slowestSpecs.poll();
+    }
+    for (String suite : this.paths.suitesOf(description)) {
+      this.suites.computeIfAbsent(suite, key -> new SuiteTimes()).add(nanos);
+    }
+  }
+
+  @Override
+  public void testRunFinished(Result result) throws IOException {
+    long wallNanos = this.nanoTime.getAsLong() - this.startedAt;
+    List<Timed> specs = new ArrayList<>(this.slowestSpecs);
+    specs.sort(Comparator.comparingLong((Timed timed) -> timed.nanos).reversed());
+    List<Map.Entry<String, SuiteTimes>> suites = this.suites.entrySet().stream()
+        .sorted(Comparator.comparingLong(
+            (Map.Entry<String, SuiteTimes> suite) -> suite.getValue().nanos).reversed())
+        .limit(this.count)
+        .collect(Collectors.toList());
+    List<HookTimings.Timing> hooks = HookTimings.instance().hookTimings().stream()
+        .sorted(Comparator.comparingLong(
+            (HookTimings.Timing hook) -> hook.getHistogram().sum()).reversed())
+        .limit(this.count)
+        .collect(Collectors.toList());
+
+    print(wallNanos, specs, suites, hooks);
+    if (this.jsonFile != null) {
+      Files.createDirectories(this.jsonFile.toAbsolutePath().getParent());
+      try (Writer writer = Files.newBufferedWriter(this.jsonFile, StandardCharsets.UTF_8)) {
+        writer.write(toJson(wallNanos, specs, suites, hooks));
+      }
+    }
+  }
+
+  private void print(long wallNanos, List<Timed> specs,
+      List<Map.Entry<String, SuiteTimes>> suites, List<HookTimings.Timing> hooks) {
+    if (specs.isEmpty()) {
+      return;
+    }
+    long specNanos = specs.stream().mapToLong(timed -> timed.nanos).sum();
+    this.out.println("Slowest " + specs.size() + " specs (" + seconds(specNanos) + " seconds, "
+        + share(specNanos, wallNanos) + " of " + seconds(wallNanos) + " seconds):");
+    for (Timed spec : specs) {
+      this.out.println(String.format(Locale.ROOT, "  %10s s %7s  %s", seconds(spec.nanos),
+          share(spec.nanos, wallNanos), spec.name));
+    }
+
+    this.out.println("");
+    this.out.println("Slowest " + suites.size() + " suites:");
+    this.out.println(String.format(Locale.ROOT, "  %12s %7s %10s %10s %10s %7s  %s", "total",
+        "share", "p50", "p95", "p99", "specs", "suite"));
+    for (Map.Entry<String, SuiteTimes> suite : suites) {
+      SuiteTimes times = suite.getValue();
+      this.out.println(String.format(Locale.ROOT, "  %10s s %7s %7s ms %7s ms %7s ms %7d  %s",
+          seconds(times.nanos), share(times.nanos, wallNanos),
+          millis(times.histogram.valueAtPercentile(50)),
+          millis(times.histogram.valueAtPercentile(95)),
+          millis(times.histogram.valueAtPercentile(99)), times.histogram.count(),
+          suite.getKey()));
+    }
+
+    if (!hooks.isEmpty()) {
+      this.out.println("");
+      this.out.println("Slowest " + hooks.size() + " hooks:");
+      for (HookTimings.Timing hook : hooks) {
+        long nanos = TimeUnit.MICROSECONDS.toNanos(hook.getHistogram().sum());
+        this.out.println(String.format(Locale.ROOT, "  %10s s %7s %7d runs  %-10s %-26s %s",
+            seconds(nanos), share(nanos, wallNanos), hook.getHistogram().count(), hook.getKind(),
+            hook.getPrecedence(), hook.getSuite()));
+      }
+    }
+    this.out.println("");
+  }
+
+  private static String toJson(long wallNanos, List<Timed> specs,
+      List<Map.Entry<String, SuiteTimes>> suites, List<HookTimings.Timing> hooks) {
+    List<String> specsJson = specs.stream()
+        .map(spec -> "{\"name\":" + Json.string(spec.name) + ",\"time\":"
+            + seconds(spec.nanos) + ",\"share\":" + fraction(spec.nanos, wallNanos) + "}")
+        .collect(Collectors.toList());
+    List<String> suitesJson = suites.stream()
+        .map(suite -> {
+          SuiteTimes times = suite.getValue();
+
+          return "{\"suite\":" + Json.string(suite.getKey()) + ",\"time\":"
+              + seconds(times.nanos) + ",\"share\":" + fraction(times.nanos, wallNanos)
+              + ",\"specs\":" + times.histogram.count()
+              + ",\"p50\":" + seconds(times.histogram.valueAtPercentile(50) * 1000)
+              + ",\"p95\":" + seconds(times.histogram.valueAtPercentile(95) * 1000)
+              + ",\"p99\":" + seconds(times.histogram.valueAtPercentile(99) * 1000) + "}";
+        })
+        .collect(Collectors.toList());
+    List<String> hooksJson = hooks.stream()
+        .map(hook -> {
+          long nanos = TimeUnit.MICROSECONDS.toNanos(hook.getHistogram().sum());
+
+          return "{\"suite\":" + Json.string(hook.getSuite()) + ",\"kind\":"
+              + Json.string(hook.getKind()) + ",\"precedence\":"
+              + Json.string(hook.getPrecedence()) + ",\"time\":"
+              + seconds(nanos) + ",\"share\":" + fraction(nanos, wallNanos) + ",\"runs\":"
+              + hook.getHistogram().count() + "}";
+        })
+        .collect(Collectors.toList());
+
+    return "{\"time\":" + seconds(wallNanos) + ",\"specs\":[" + String.join(",", specsJson)
+        + "],\"suites\":[" + String.join(",", suitesJson) + "],\"hooks\":["
+        + String.join(",", hooksJson) + "]}\n";
+  }
+
+  private static String seconds(long nanos) {
+    return String.format(Locale.ROOT, "%.3f", nanos / 1e9);
+  }
+
+  private static String millis(long micros) {
+    return String.format(Locale.ROOT, "%.1f", micros / 1e3);
+  }
+
+  private static String share(long nanos, long wallNanos) {
+    return String.format(Locale.ROOT, "%.1f%%", wallNanos <= 0 ? 0 : 100d * nanos / wallNanos);
+  }
+
+  private static String fraction(long nanos, long wallNanos) {
+    return String.format(Locale.ROOT, "%.4f", wallNanos <= 0 ? 0 : (double) nanos / wallNanos);
+  }
+
+  private static class Timed {
+    private final String name;
+    private final long nanos;
+
+    Timed(String name, long nanos) {
+      this.name = name;
+      this.nanos = nanos;
+    }
+  }
+
+  private static class SuiteTimes {
+    private final LogLinearHistogram histogram = new LogLinearHistogram();
+    private long nanos;
+
+    void add(long nanos) {
+      this.nanos += nanos;
+      this.histogram.record(TimeUnit.NANOSECONDS.toMicros(nanos));
+    }
+  }
+}
@@ -0,0 +1,208 @@
+package com.greghaskins.spectrum.app;
+
+import com.greghaskins.spectrum.internal.Json;
+
+import org.junit.runner.Description;
+import org.junit.runner.Result;
+import org.junit.runner.notification.Failure;
+import org.junit.runner.notification.RunListener;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Writes the result of each test to a JUnit XML file and an NDJSON file as soon as the test
+ * finishes, so that its memory stays the same however many tests there are - only the tests
+ * which are running are held on to.
+ *
+ * <p>The XML file is a single {@code testsuite}. Its totals are only known at the end of the
+ * run, so space is left for them in the opening tag, and they are written into it once the run
+ * has finished.
+ */
+public class StreamingReporter extends RunListener {
+  static final String XML_FILE = "spectrum-results.xml";
+  static final String NDJSON_FILE = "spectrum-results.ndjson";
+
+  private static final int TOTALS_SPACE = 200;
+
+  private final FileChannel xmlChannel;
+  private final Writer xml;
+  private final Writer ndjson;
+  private final Map<Description, Running> running = new HashMap<>();
+  private long totalsPosition;
+  private long startedAt;
+  private long tests;
+  private long failures;
+  private long skipped;
+
+  public StreamingReporter(Path directory) throws IOException {
+    Files.createDirectories(directory);
+    this.xmlChannel = FileChannel.open(directory.resolve(XML_FILE), StandardOpenOption.CREATE,
+        StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+    this.xml = new BufferedWriter(Channels.newWriter(this.xmlChannel, "UTF-8"));
+    this.ndjson = Files.newBufferedWriter(directory.resolve(NDJSON_FILE), StandardCharsets.UTF_8);
+  }
+
+  @Override
+  public void testRunStarted(Description description) throws IOException {
+    this.startedAt = System.nanoTime();
+    String opening = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+        + "<testsuite name=\"Spectrum\" timestamp=\"" + Instant.now() + "\" ";
+    // only ASCII so far, so the characters are the bytes
+    this.totalsPosition = opening.length();
+    this.xml.write(opening);
+    this.xml.write(spaces(TOTALS_SPACE));
+    this.xml.write(">\n");
+  }
+
+  @Override
+  public void testStarted(Description description) {
+    this.running.put(description, new Running());
+  }
+
+  @Override
+  public void testFailure(Failure failure) throws IOException {
+    Running test = this.running.get(failure.getDescription());
+    if (test == null) {
+      // such as a suite whose hooks failed, which never started
+      Running notStarted = new Running();
+      notStarted.failure = failure;
+      write(failure.getDescription(), notStarted);
+    } else {
+      test.failure = failure;
+    }
+  }
+
+  @Override
+  public void testAssumptionFailure(Failure failure) {
+    Running test = this.running.get(failure.getDescription());
+    if (test != null) {
+      test.skipped = true;
+    }
+  }
+
+  @Override
+  public void testIgnored(Description description) throws IOException {
+    Running ignored = new Running();
+    ignored.skipped = true;
+    write(description, ignored);
+  }
+
+  @Override
+  public void testFinished(Description description) throws IOException {
+    Running test = this.running.remove(description);
+    if (test != null) {
+      write(description, test);
+    }
+  }
+
+  @Override
+  public void testRunFinished(Result result) throws IOException {
+    this.xml.write("</testsuite>\n");
+    this.xml.flush();
+    String totals = "tests=\"" + this.tests + "\" failures=\"" + this.failures
+        + "\" errors=\"0\" skipped=\"" + this.skipped + "\" time=\""
+        + seconds(System.nanoTime() - this.startedAt) + "\"";
+    this.xmlChannel.write(
+        ByteBuffer.wrap((totals + spaces(TOTALS_SPACE - totals.length()))
+            .getBytes(StandardCharsets.US_ASCII)),
+        this.totalsPosition);
+    this.xml.close();
+    this.ndjson.close();
+  }
+
+  private void write(Description description, Running test) throws IOException {
+    String className = description.getClassName();
+    String name = description.getMethodName() == null ? description.getDisplayName()
+        : description.getMethodName();
+    String time = seconds(System.nanoTime() - test.started);
+    this.tests++;
+
+    this.xml.write("  <testcase classname=\"" + xmlEscape(className) + "\" name=\""
+        + xmlEscape(name) + "\" time=\"" + time + "\"");
+    this.ndjson.write("{\"class\":" + Json.string(className) + ",\"name\":" + Json.string(name)
+        + ",\"time\":" + time + ",\"status\":");
+    if (test.failure != null) {
+      this.failures++;
+      Throwable exception = test.failure.getException();
+      String type = exception == null ? "" : ForkedWorker.typeOf(exception);
+      String message = test.failure.getMessage() == null ? "" : test.failure.getMessage();
+      this.xml.write(">\n    <failure type=\"" + xmlEscape(type) + "\" message=\""
+          + xmlEscape(message) + "\">" + xmlText(test.failure.getTrace())
+          + "</failure>\n  </testcase>\n");
+      this.ndjson.write("\"failed\",\"failure\":{\"type\":" + Json.string(type)
+          + ",\"message\":" + Json.string(message) + ",\"trace\":"
+          + Json.string(test.failure.getTrace()) + "}}\n");
+    } else if (test.skipped) {
+      this.skipped++;
+      this.xml.write(">\n    <skipped/>\n  </testcase>\n");
+      this.ndjson.write("\"skipped\"}\n");
+    } else {
+      this.xml.write("/>\n");
+      this.ndjson.write("\"passed\"}\n");
+    }
+  }
+
+  private static String seconds(long nanos) {
+    return String.format(Locale.ROOT, "%.3f", nanos / 1e9);
+  }
+
+  private static String spaces(int count) {
+    return new String(new char[count]).replace('\0', ' ');
+  }
+
+  private static String xmlText(String text) {
+    // line breaks and tabs only need escaping within attributes
+    return xmlEscape(text.replace("\r\n", "\n")).replace("&#10;", "\n").replace("&#9;", "\t");
+  }
+
+  private static String xmlEscape(String text) {
+    StringBuilder escaped = new StringBuilder(text.length());
+    for (char character : text.toCharArray()) {
+      switch (character) {
+        case '<':
+          escaped.append("&lt;");
+          break;
+        case '>':
+          escaped.append("&gt;");
+          break;
+        case '&':
+          escaped.append("&amp;");
+          break;
+        case '"':
+          escaped.append("&quot;");
+          break;
+        case '\t':
+        case '\n':
+        case '\r':
+          escaped.append("&#").append((int) character).append(';');
+          break;
+        default:
+          // other control characters cannot appear in XML at all
+          if (character >= 0x20) {
+            escaped.append(character);
+          }
+      }
+    }
+
+    return escaped.toString();
+  }
+
+  private static class Running {
+    private final long started = System.nanoTime();
+    private Failure failure;
+    private boolean skipped;
+  }
+}
@@ -0,0 +1,199 @@
+package com.greghaskins.spectrum.app;
+
+import org.junit.runner.Description;
+import org.junit.runner.Runner;
+import org.junit.runner.manipulation.Filter;
+import org.junit.runner.manipulation.NoTestsRemainException;
+import org.junit.runner.manipulation.Sorter;
+import org.junit.runners.ParentRunner;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Where each test and suite of a run is: its test class, and the path of suites down to it.
+ * The description of a Spectrum spec only names the suite it is in, so the same suite in two
+ * classes would otherwise be the same suite. Each is known as {@code Class#suite/spec}, or as
+ * {@code Class} for the class itself.
+ */
+final class TestPaths {
+  private final Map<Description, String> byInstance = new IdentityHashMap<>();
+  private final Map<Description, List<String>> byEquality = new HashMap<>();
+  private final Map<String, String> parents = new HashMap<>();
+
+  private TestPaths() {}
+
+  /**
+   * The paths of the tests in a run, whose children are its test classes - or which is a
+   * single test class, run on its own.
+   * @param run the description of the run
+   * @return the paths
+   */
+  static TestPaths ofRun(Description run) {
+    if (run.getTestClass() != null) {
+      return ofClass(run);
+    }
+    TestPaths paths = new TestPaths();
+    for (Description testClass : run.getChildren()) {
+      paths.index(testClass, testClass.getClassName());
+    }
+
+    return paths;
+  }
+
+  /**
+   * The paths of the tests in a test class.
+   * @param testClass the description of the class
+   * @return the paths
+   */
+  static TestPaths ofClass(Description testClass) {
+    TestPaths paths = new TestPaths();
+    paths.index(testClass, testClass.getClassName());
+
+    return paths;
+  }
+
+  /**
+   * A filter which is made afresh for each test class it meets, from the paths of the class.
+   * @param forClass makes the filter for a class
+   * @return the filter
+   */
+  static Filter filteringEachClass(Function<TestPaths, Filter> forClass) {
+    return new Filter() {
+      @Override
+      public boolean shouldRun(Description testClass) {
+        return forClass.apply(ofClass(testClass)).shouldRun(testClass);
+      }
+
+      @Override
+      public void apply(Object child) throws NoTestsRemainException {
+        if (isTestClass(child)) {
+          forClass.apply(ofClass(((Runner) child).getDescription())).apply(child);
+        } else {
+          super.apply(child);
+        }
+      }
+
+      @Override
+      public String describe() {
+        return "each class by " + forClass.apply(new TestPaths()).describe();
+      }
+    };
+  }
+
+  /**
+   * A sorter which orders each test class by the paths of the class, and the classes by
+   * what is in them.
+   * @param rank where a test or suite goes, lowest first, given the paths of its class
+   * @return the sorter
+   */
+  static Sorter sortingEachClass(BiFunction<TestPaths, Description, Integer> rank) {
+    Map<Description, TestPaths> classes = new ConcurrentHashMap<>();
+
+    return new Sorter(Comparator.comparing((Description testClass) ->
+        rank.apply(classes.computeIfAbsent(testClass, TestPaths::ofClass), testClass))) {
+      @Override
+      public void apply(Object child) {
+        if (isTestClass(child)) {
+          TestPaths paths = ofClass(((Runner) child).getDescription());
+          new Sorter(Comparator.comparing((Description description) ->
+              rank.apply(paths, description))).apply(child);
+        } else {
+          super.apply(child);
+        }
+      }
+    };
+  }
+
+  /**
+   * The test class a test or suite is in.
+   * @param description of the test or suite
+   * @return the name of the class
+   */
+  String testClassOf(Description description) {
+    String identity = identityOf(description);
+    int path = identity.indexOf('#');
+
+    return path < 0 ? identity : identity.substring(0, path);
+  }
+
+  /**
+   * The identity of a test or suite - {@code Class#suite/spec}.
+   * @param description of the test or suite
+   * @return the identity
+   */
+  String identityOf(Description description) {
+    return identitiesOf(description).get(0);
+  }
+
+  /**
+   * The identities of a test or suite. A suite which is not one of those described when
+   * the paths were made - the suites of a Spectrum class describe themselves afresh each
+   * time - is only known by its name, which more than one suite can have.
+   * @param description of the test or suite
+   * @return the identities, of which there is always one
+   */
+  List<String> identitiesOf(Description description) {
+    String exact = byInstance.get(description);
+    if (exact != null) {
+      return Collections.singletonList(exact);
+    }
+    List<String> equal = byEquality.get(description);
+    if (equal != null) {
+      return equal;
+    }
+
+    // not in the run - a JUnit test names its class, which is all there is to go on
+    return Collections.singletonList(description.getMethodName() == null
+        ? description.getDisplayName()
+        : description.getClassName() + "#" + description.getMethodName());
+  }
+
+  /**
+   * The suites a test or suite is in, from the one it is directly in out to its test class.
+   * @param description of the test or suite
+   * @return the identities of the suites
+   */
+  List<String> suitesOf(Description description) {
+    String identity = identityOf(description);
+    if (!parents.containsKey(identity) && description.getMethodName() != null) {
+      // not in the run - a JUnit test is in its class
+      return Collections.singletonList(description.getClassName());
+    }
+    List<String> suites = new ArrayList<>();
+    for (String suite = parents.get(identity); suite != null; suite = parents.get(suite)) {
+      suites.add(suite);
+    }
+
+    return suites;
+  }
+
+  private void index(Description description, String identity) {
+    byInstance.put(description, identity);
+    byEquality.computeIfAbsent(description, equal -> new ArrayList<>(1)).add(identity);
+    String separator = identity.indexOf('#') < 0 ? "#" : "/";
+    for (Description child : description.getChildren()) {
+      String name = child.getMethodName() == null ? child.getDisplayName() : child.getMethodName();
+      String childIdentity = identity + separator + name;
+      parents.put(childIdentity, identity);
+      index(child, childIdentity);
+    }
+  }
+
+  private static boolean isTestClass(Object runner) {
+    if (runner instanceof ParentRunner) {
+      return ((ParentRunner<?>) runner).getTestClass().getJavaClass() != null;
+    }
+
+    // like Spectrum, which describes itself by its class
+    return runner instanceof Runner && ((Runner) runner).getDescription().getTestClass() != null;
+  }
+}
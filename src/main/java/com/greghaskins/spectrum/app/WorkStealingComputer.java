@@ -0,0 +1,96 @@
+package com.greghaskins.spectrum.app;
+
+import com.greghaskins.spectrum.internal.FailFast;
+
+import org.junit.runner.Computer;
+import org.junit.runner.Runner;
+import org.junit.runner.notification.RunNotifier;
+import org.junit.runners.Suite;
+import org.junit.runners.model.InitializationError;
+import org.junit.runners.model.RunnerBuilder;
+import org.junit.runners.model.RunnerScheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * A {@link Computer} which runs test classes concurrently on a work-stealing pool.
+ * The classes themselves run as they normally would - only their scheduling changes.
+ * Once the run has stopped because too many specs failed, no more classes are started,
+ * whether they are run by Spectrum or not - the tests of those which are left are reported
+ * as ignored.
+ */
+public class WorkStealingComputer extends Computer {
+  private final int workers;
+
+  /**
+   * Construct the computer.
+   * @param workers the number of classes which may run at once
+   */
+  public WorkStealingComputer(int workers) {
+    this.workers = workers;
+  }
+
+  @Override
+  public Runner getSuite(RunnerBuilder builder, Class<?>[] classes) throws InitializationError {
+    Suite suite = new Suite(new RunnerBuilder() {
+      @Override
+      public Runner runnerForClass(Class<?> testClass) throws Throwable {
+        return getRunner(builder, testClass);
+      }
+    }, classes) {
+      @Override
+      protected void runChild(Runner runner, RunNotifier notifier) {
+        // every class is scheduled at the start, so only see whether to skip it once it starts
+        if (FailFast.instance().hasStopped()) {
+          ForkedRunner.reportIgnored(runner.getDescription(), notifier);
+        } else {
+          super.runChild(runner, notifier);
+        }
+      }
+    };
+    if (workers > 1) {
+      suite.setScheduler(new WorkStealingScheduler(workers));
+    }
+
+    return suite;
+  }
+
+  private static class WorkStealingScheduler implements RunnerScheduler {
+    private final ExecutorService pool;
+    private final List<Future<?>> scheduled = new ArrayList<>();
+    private final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+
+    WorkStealingScheduler(int workers) {
+      this.pool = Executors.newWorkStealingPool(workers);
+    }
+
+    @Override
+    public void schedule(Runnable childStatement) {
+      scheduled.add(pool.submit(() -> {
+        // the test classes are only visible through the class loader of the run
+        Thread.currentThread().setContextClassLoader(contextClassLoader);
+        childStatement.run();
+      }));
+    }
+
+    @Override
+    public void finished() {
+      try {
+        for (Future<?> child : scheduled) {
+          child.get();
+        }
+      } catch (InterruptedException interruption) {
+        Thread.currentThread().interrupt();
+      } catch (ExecutionException failure) {
+        throw new RuntimeException("A test class could not be run", failure.getCause());
+      } finally {
+        pool.shutdownNow();
+      }
+    }
+  }
+}
@@ -6,21 +6,30 @@ import static com.greghaskins.spectrum.Configure.with;
 import static com.greghaskins.spectrum.internal.hooks.AfterHook.after;
 import static com.greghaskins.spectrum.internal.hooks.BeforeHook.before;
 
+import com.greghaskins.spectrum.AsyncBlock;
 import com.greghaskins.spectrum.Block;
 import com.greghaskins.spectrum.ThrowingConsumer;
 import com.greghaskins.spectrum.ThrowingSupplier;
 import com.greghaskins.spectrum.internal.DeclarationState;
 import com.greghaskins.spectrum.internal.Suite;
-import com.greghaskins.spectrum.internal.blocks.IdempotentBlock;
+import com.greghaskins.spectrum.internal.hooks.AsyncHook;
 import com.greghaskins.spectrum.internal.hooks.EagerLetHook;
+import com.greghaskins.spectrum.internal.hooks.ForkedLetHook;
 import com.greghaskins.spectrum.internal.hooks.Hook;
 import com.greghaskins.spectrum.internal.hooks.HookContext.AppliesTo;
 import com.greghaskins.spectrum.internal.hooks.HookContext.Precedence;
 import com.greghaskins.spectrum.internal.hooks.LetHook;
+import com.greghaskins.spectrum.internal.hooks.SharedFixtureHook;
+import com.greghaskins.spectrum.internal.hooks.SimpleHook;
 
 import org.junit.AssumptionViolatedException;
 
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 
 public interface Specification {
 
@@ -147,10 +156,27 @@ public interface Specification {
    * @param block {@link Block} to run once before all specs in this suite
    */
   static void beforeAll(final Block block) {
-    DeclarationState.instance().addHook(before(new IdempotentBlock(block)), AppliesTo.ATOMIC_ONLY,
+    DeclarationState.instance().addHook(SimpleHook.setUp(block), AppliesTo.ATOMIC_ONLY,
         Precedence.SET_UP);
   }
 
+  /**
+   * Declare an asynchronous step to be run once before all the specs in the current suite begin.
+   *
+   * <p>
+   * This is {@link #beforeAll(Block) beforeAll} for set up which completes asynchronously, such
+   * as waiting for a container or a socket to be ready. The specs start once the stage has
+   * completed, and fail if it completes exceptionally. In a
+   * {@link com.greghaskins.spectrum.Configure#parallel() parallel} suite, the other children of
+   * the suite carry on running while the stage is pending.
+   * </p>
+   *
+   * @param setUp starts the set up, returning a stage which completes when it is done
+   */
+  static void beforeAllAsync(final Supplier<? extends CompletionStage<?>> setUp) {
+    beforeAll(AsyncHook.awaiting(setUp));
+  }
+
   /**
    * Declare a {@link Block} to be run once after all the specs in the current suite have run.
    *
@@ -186,12 +212,58 @@ public interface Specification {
     return letHook;
   }
 
+  /**
+   * A value that is built once for the suite and copied fresh for each spec, so that it cannot
+   * bleed across specs.
+   *
+   * <p>
+   * This is {@link #let(ThrowingSupplier) let} for values which are expensive to build but cheap
+   * to copy, such as a large model parsed from files. The {@code supplier} is called the first
+   * time a spec in the suite needs the value, and every spec - including that one - gets its own
+   * copy of the result from the {@code copier}. The original is released when the suite
+   * finishes.
+   * </p>
+   *
+   * @param <T>      The type of value
+   * @param supplier {@link ThrowingSupplier} function that either generates the value, or throws a
+   *                 {@link Throwable}
+   * @param copier   makes an independent copy of the value
+   * @return supplier which provides a fresh copy for each spec's context
+   */
+  static <T> Supplier<T> letForked(final ThrowingSupplier<T> supplier,
+      final UnaryOperator<T> copier) {
+    ForkedLetHook<T> forkedLetHook = new ForkedLetHook<>(supplier, copier);
+    DeclarationState.instance().addHook(forkedLetHook, AppliesTo.ATOMIC_ONLY, Precedence.LOCAL);
+    DeclarationState.instance().addHook(after(forkedLetHook::releaseTemplate), AppliesTo.ONCE,
+        Precedence.LOCAL);
+
+    return forkedLetHook;
+  }
+
+  /**
+   * A value that is built once for the suite and copied fresh for each spec, so that it cannot
+   * bleed across specs. The value is copied by serializing and deserializing it if it is
+   * {@link java.io.Serializable}, or else with its public {@code clone} method if it is
+   * {@link Cloneable}.
+   *
+   * @param <T>      The type of value
+   * @param supplier {@link ThrowingSupplier} function that either generates the value, or throws a
+   *                 {@link Throwable}
+   * @return supplier which provides a fresh copy for each spec's context
+   * @see #letForked(ThrowingSupplier, UnaryOperator)
+   */
+  static <T> Supplier<T> letForked(final ThrowingSupplier<T> supplier) {
+    return letForked(supplier, ForkedLetHook::copyOf);
+  }
+
   /**
    * A value that will be calculated fresh at the start of each spec and cannot bleed across specs.
    *
    * <p>
    * Note that {@code eagerLet} is eagerly evaluated: the {@code supplier} is called at the start
-   * of the spec, before {@code beforeEach} blocks.
+   * of the spec, before {@code beforeEach} blocks. In a suite configured with
+   * {@link com.greghaskins.spectrum.Configure#concurrentEagerLets() concurrentEagerLets()}, the
+   * values of {@code eagerLet}s declared one after another are calculated at the same time.
    * </p>
    *
    * @param <T>      The type of value
@@ -201,11 +273,66 @@ public interface Specification {
    */
   static <T> Supplier<T> eagerLet(final ThrowingSupplier<T> supplier) {
     EagerLetHook<T> eagerLetHook = new EagerLetHook<>(supplier);
-    DeclarationState.instance().addHook(eagerLetHook, AppliesTo.ATOMIC_ONLY, Precedence.LOCAL);
+    DeclarationState.instance().addEagerLet(eagerLetHook);
 
     return eagerLetHook;
   }
 
+  /**
+   * A value that is shared by every suite which declares the same {@code key}, across test
+   * classes, and closed once no running suite needs it any more.
+   *
+   * <p>
+   * Note that {@code sharedFixture} is lazy-evaluated: the {@code supplier} is not called until
+   * the first time the value is used. The value is then kept until the JUnit run finishes, so
+   * that later suites and test classes which declare the same key can reuse it. Only the first
+   * declaration of a key to run supplies the value; later ones with the same key reuse it.
+   * </p>
+   *
+   * @param <T>      The type of value
+   * @param key      the name the fixture is shared under
+   * @param supplier {@link ThrowingSupplier} function that either generates the value, or throws a
+   *                 {@link Throwable}
+   * @param closer   {@link ThrowingConsumer} which releases the value when it is no longer needed
+   * @return supplier of the shared value, for use within running specs
+   */
+  static <T> Supplier<T> sharedFixture(final String key, final ThrowingSupplier<T> supplier,
+      final ThrowingConsumer<T> closer) {
+    SharedFixtureHook<T> sharedFixtureHook =
+        new SharedFixtureHook<>(key, supplier, closer, Optional.empty());
+    DeclarationState.instance().addHook(sharedFixtureHook, AppliesTo.ONCE, Precedence.OUTER);
+
+    return sharedFixtureHook;
+  }
+
+  /**
+   * A value that is shared by every suite which declares the same {@code key}, across test
+   * classes, and closed when no running suite has needed it for {@code idleTimeout}.
+   *
+   * <p>
+   * This is {@link #sharedFixture(String, ThrowingSupplier, ThrowingConsumer)}, except that an
+   * expensive value need not be kept until the end of the run. With an {@code idleTimeout} of
+   * {@link Duration#ZERO} the value is closed as soon as the last suite using it finishes.
+   * </p>
+   *
+   * @param <T>         The type of value
+   * @param key         the name the fixture is shared under
+   * @param supplier    {@link ThrowingSupplier} function that either generates the value, or
+   *                    throws a {@link Throwable}
+   * @param closer      {@link ThrowingConsumer} which releases the value when it is no longer
+   *                    needed
+   * @param idleTimeout how long to keep the value once no running suite needs it
+   * @return supplier of the shared value, for use within running specs
+   */
+  static <T> Supplier<T> sharedFixture(final String key, final ThrowingSupplier<T> supplier,
+      final ThrowingConsumer<T> closer, final Duration idleTimeout) {
+    SharedFixtureHook<T> sharedFixtureHook =
+        new SharedFixtureHook<>(key, supplier, closer, Optional.of(idleTimeout));
+    DeclarationState.instance().addHook(sharedFixtureHook, AppliesTo.ONCE, Precedence.OUTER);
+
+    return sharedFixtureHook;
+  }
+
   /**
    * Define a test context. Alias for {@link #describe}.
    *
@@ -264,6 +391,31 @@ public interface Specification {
         Precedence.GUARANTEED_CLEAN_UP_LOCAL);
   }
 
+  /**
+   * Declare asynchronous code that runs around each spec, partly before and partly after. The
+   * function is given an {@link AsyncBlock} which runs the spec, and returns a stage which
+   * completes once all of its work is done. You must call {@link AsyncBlock#run} in one of the
+   * function's stages, for example:
+   *
+   * <pre>{@code
+   * aroundEachAsync(spec -> server.start()
+   *     .thenCompose(started -> spec.run())
+   *     .whenComplete((ran, failure) -> server.stop()));
+   * }</pre>
+   *
+   * <p>
+   * The spec itself runs on its own thread, in its proper place among the other hooks. In a
+   * {@link com.greghaskins.spectrum.Configure#parallel() parallel} suite, the other children of
+   * the suite carry on running while the function's stages are pending.
+   * </p>
+   *
+   * @param around the work to do around each spec
+   */
+  static void aroundEachAsync(final Function<AsyncBlock, ? extends CompletionStage<?>> around) {
+    DeclarationState.instance().addHook(new AsyncHook(around), AppliesTo.ATOMIC_ONLY,
+        Precedence.GUARANTEED_CLEAN_UP_LOCAL);
+  }
+
   /**
    * Declare a block of code that runs once around all specs, partly before and partly after specs
    * are run. You must call {@link Block#run} inside this Consumer. This code is applied once per
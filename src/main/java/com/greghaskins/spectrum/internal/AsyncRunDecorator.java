@@ -0,0 +1,273 @@
+package com.greghaskins.spectrum.internal;
+
+import com.greghaskins.spectrum.Configure;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Moves the reporting of a run off the threads which run the specs. Events go into a bounded,
+ * lock free ring buffer, and a reporter thread of its own takes them out in batches and
+ * passes them on to the decoratee, in the order they went in - so the events of each spec
+ * arrive in the order the spec reported them. When the buffer is full, the spec waits for
+ * the reporter to catch up.
+ *
+ * <p>The decoratee hears of events after they happen, so whatever it throws is thrown from
+ * the next event reported, or when the decorator is closed. Closing waits for the events
+ * already reported to be delivered, as does the JVM shutting down.
+ */
+public final class AsyncRunDecorator<T, F> implements RunReporting<T, F>, AutoCloseable {
+  private static final byte IGNORED = 0;
+  private static final byte STARTED = 1;
+  private static final byte FINISHED = 2;
+  private static final byte FAILURE = 3;
+  private static final byte ASSUMPTION_FAILED = 4;
+
+  private static final int MAX_CAPACITY = 1 << 20;
+
+  private static final long IDLE_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+  private static final long WAIT_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+  private static final long SHUTDOWN_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+  private final RunReporting<T, F> decoratee;
+  private final int mask;
+  // each slot holds the position of the event it may be written with next, plus one once
+  // the event is in it
+  private final AtomicLongArray sequences;
+  private final byte[] kinds;
+  private final Object[] payloads;
+  private final AtomicLong tail = new AtomicLong();
+  private final AtomicReference<Throwable> thrown = new AtomicReference<>();
+  private final Thread reporter;
+  private final Thread shutdownHook;
+  private long head;
+  private volatile long delivered;
+  private volatile boolean reporterWaiting;
+  private volatile boolean closed;
+
+  /**
+   * Decorate the reporting of a run so that it is done on a thread of its own, if the
+   * {@link Configure#REPORTING_BUFFER_PROPERTY} is set.
+   * @param reporting to decorate
+   * @param <T> type of description
+   * @param <F> type of failure
+   * @return the reporting to use for the run - close it once the run is over
+   */
+  public static <T, F> AsyncRunDecorator<T, F> decorate(final RunReporting<T, F> reporting) {
+    return new AsyncRunDecorator<>(reporting,
+        Integer.getInteger(Configure.REPORTING_BUFFER_PROPERTY, 0));
+  }
+
+  /**
+   * Construct the decorator.
+   * @param decoratee the reporting to pass the events on to
+   * @param capacity how many events can wait to be reported - rounded up to a power of two, up
+   *                 to a million or so, or zero to report each event straight away on the thread
+   *                 which fired it
+   */
+  AsyncRunDecorator(final RunReporting<T, F> decoratee, final int capacity) {
+    this.decoratee = decoratee;
+    if (capacity <= 0) {
+      this.mask = -1;
+      this.sequences = null;
+      this.kinds = null;
+      this.payloads = null;
+      this.reporter = null;
+      this.shutdownHook = null;
+
+      return;
+    }
+
+    // at least two slots, so that a full slot can be told from one which is free
+    final int size =
+        Math.max(2, Integer.highestOneBit(Math.min(capacity, MAX_CAPACITY) * 2 - 1));
+    this.mask = size - 1;
+    this.sequences = new AtomicLongArray(size);
+    for (int i = 0; i < size; i++) {
+      this.sequences.set(i, i);
+    }
+    this.kinds = new byte[size];
+    this.payloads = new Object[size];
+
+    this.reporter = new Thread(this::report, "spectrum-reporter");
+    this.reporter.setDaemon(true);
+    this.reporter.start();
+    this.shutdownHook = new Thread(() -> flush(SHUTDOWN_NANOS), "spectrum-reporter-flush");
+    Runtime.getRuntime().addShutdownHook(this.shutdownHook);
+  }
+
+  @Override
+  public void fireTestIgnored(final T description) {
+    publish(IGNORED, description);
+  }
+
+  @Override
+  public void fireTestStarted(final T description) {
+    publish(STARTED, description);
+  }
+
+  @Override
+  public void fireTestFinished(final T description) {
+    publish(FINISHED, description);
+  }
+
+  @Override
+  public void fireTestFailure(final F failure) {
+    publish(FAILURE, failure);
+  }
+
+  @Override
+  public void fireTestAssumptionFailed(final F failure) {
+    publish(ASSUMPTION_FAILED, failure);
+  }
+
+  /**
+   * Wait for every event reported so far to be passed on, then stop the reporter thread.
+   */
+  @Override
+  public void close() {
+    if (this.reporter == null || this.closed) {
+      return;
+    }
+    flush(Long.MAX_VALUE);
+    this.closed = true;
+    LockSupport.unpark(this.reporter);
+    try {
+      Runtime.getRuntime().removeShutdownHook(this.shutdownHook);
+    } catch (IllegalStateException alreadyShuttingDown) {
+      // the hook is running, and has nothing left to do
+    }
+    rethrow();
+  }
+
+  private void publish(final byte kind, final Object payload) {
+    if (this.reporter == null || this.closed) {
+      deliver(kind, payload);
+
+      return;
+    }
+    rethrow();
+
+    boolean interrupted = false;
+    try {
+      while (true) {
+        final long position = this.tail.get();
+        final int index = (int) position & this.mask;
+        final long sequence = this.sequences.get(index);
+        if (sequence == position) {
+          if (this.tail.compareAndSet(position, position + 1)) {
+            this.kinds[index] = kind;
+            this.payloads[index] = payload;
+            this.sequences.lazySet(index, position + 1);
+            if (this.reporterWaiting) {
+              LockSupport.unpark(this.reporter);
+            }
+
+            return;
+          }
+        } else if (sequence < position) {
+          // full - the slot still holds an event which has not been taken out
+          interrupted |= waitForReporter();
+        }
+      }
+    } finally {
+      if (interrupted) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  // an interrupted thread does not park at all, so the interrupt is cleared while waiting -
+  // tell whether it was, so that the caller can restore it once done
+  private boolean waitForReporter() {
+    LockSupport.unpark(this.reporter);
+    LockSupport.parkNanos(WAIT_NANOS);
+
+    return Thread.interrupted();
+  }
+
+  private void report() {
+    while (!this.closed) {
+      if (!drain()) {
+        this.reporterWaiting = true;
+        // an event may have come in before the flag was seen
+        if (!drain() && !this.closed) {
+          LockSupport.parkNanos(this, IDLE_NANOS);
+        }
+        this.reporterWaiting = false;
+      }
+    }
+  }
+
+  // deliver a buffer's worth of the events there are, and tell whether there were any
+  private boolean drain() {
+    final long start = this.head;
+    while (this.head - start <= this.mask) {
+      final int index = (int) this.head & this.mask;
+      if (this.sequences.get(index) != this.head + 1) {
+        break;
+      }
+      final byte kind = this.kinds[index];
+      final Object payload = this.payloads[index];
+      this.payloads[index] = null;
+      this.sequences.lazySet(index, this.head + this.mask + 1);
+      this.head++;
+      try {
+        deliver(kind, payload);
+      } catch (Throwable throwable) {
+        this.thrown.compareAndSet(null, throwable);
+      }
+    }
+    this.delivered = this.head;
+
+    return this.head != start;
+  }
+
+  @SuppressWarnings("unchecked")
+  private void deliver(final byte kind, final Object payload) {
+    switch (kind) {
+      case IGNORED:
+        this.decoratee.fireTestIgnored((T) payload);
+        break;
+      case STARTED:
+        this.decoratee.fireTestStarted((T) payload);
+        break;
+      case FINISHED:
+        this.decoratee.fireTestFinished((T) payload);
+        break;
+      case FAILURE:
+        this.decoratee.fireTestFailure((F) payload);
+        break;
+      default:
+        this.decoratee.fireTestAssumptionFailed((F) payload);
+    }
+  }
+
+  private void flush(final long timeoutNanos) {
+    final long target = this.tail.get();
+    final long deadline = System.nanoTime() + Math.min(timeoutNanos, Long.MAX_VALUE / 2);
+    boolean interrupted = false;
+    while (this.delivered < target && !this.closed && System.nanoTime() - deadline < 0) {
+      interrupted |= waitForReporter();
+    }
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void rethrow() {
+    final Throwable throwable = this.thrown.getAndSet(null);
+    if (throwable instanceof RuntimeException) {
+      throw (RuntimeException) throwable;
+    }
+    if (throwable instanceof Error) {
+      throw (Error) throwable;
+    }
+    if (throwable != null) {
+      throw new IllegalStateException(throwable);
+    }
+  }
+}
@@ -0,0 +1,58 @@
+package com.greghaskins.spectrum.internal;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Writes the files a run leaves for the next one - its timings, metrics and outcomes - so
+ * that a reader sees either the old file or the new one, never half of it.
+ */
+public final class AtomicFile {
+  private AtomicFile() {}
+
+  /**
+   * What to write to the file.
+   */
+  @FunctionalInterface
+  public interface Contents {
+    /**
+     * Write the contents.
+     * @param output to the temporary file
+     * @throws IOException if they cannot be written
+     */
+    void writeTo(OutputStream output) throws IOException;
+  }
+
+  /**
+   * Write the file into a temporary file beside it, and then move that into its place.
+   * @param path of the file
+   * @param contents to write
+   * @throws IOException if the file cannot be written
+   */
+  public static void write(final Path path, final Contents contents) throws IOException {
+    final Path directory = path.toAbsolutePath().getParent();
+    Files.createDirectories(directory);
+    final Path temporary = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+    try {
+      try (OutputStream output = Files.newOutputStream(temporary)) {
+        contents.writeTo(output);
+      }
+      moveInto(temporary, path);
+    } finally {
+      Files.deleteIfExists(temporary);
+    }
+  }
+
+  private static void moveInto(final Path temporary, final Path path) throws IOException {
+    try {
+      Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE,
+          StandardCopyOption.REPLACE_EXISTING);
+    } catch (AtomicMoveNotSupportedException notAtomic) {
+      Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+}
@@ -41,4 +41,10 @@ public interface Child {
   default boolean isLeaf() {
     return false;
   }
+
+  /**
+   * Compile the hooks of this child, and of everything below it, into the chains which run
+   * them. Called once declaration has finished, so that running never has to do it again.
+   */
+  default void compileHooks() {}
 }
@@ -1,6 +1,8 @@
 package com.greghaskins.spectrum.internal;
 
 import com.greghaskins.spectrum.Block;
+import com.greghaskins.spectrum.internal.hooks.ConcurrentEagerLets;
+import com.greghaskins.spectrum.internal.hooks.EagerLetHook;
 import com.greghaskins.spectrum.internal.hooks.Hook;
 import com.greghaskins.spectrum.internal.hooks.HookContext;
 import com.greghaskins.spectrum.internal.hooks.HookContext.AppliesTo;
@@ -45,7 +47,24 @@ public final class DeclarationState {
   }
 
   public void addHook(final Hook hook, final AppliesTo appliesTo, final Precedence precedence) {
-    addHook(new HookContext(hook, instance().getCurrentDepth(), appliesTo, precedence));
+    addHook(new HookContext(hook, instance().getCurrentDepth(), appliesTo, precedence,
+        getCurrentSuiteBeingDeclared().getPath()));
+  }
+
+  /**
+   * Add an {@code eagerLet} to the suite being declared. Where the suite calculates its eager
+   * lets concurrently, it joins the eager lets declared just before it, if there are any.
+   * @param eagerLet the hook to add
+   */
+  public void addEagerLet(final EagerLetHook<?> eagerLet) {
+    final Suite suite = getCurrentSuiteBeingDeclared();
+    if (!suite.evaluatesEagerLetsConcurrently()) {
+      addHook(eagerLet, AppliesTo.ATOMIC_ONLY, Precedence.LOCAL);
+    } else if (suite.getLastHook() instanceof ConcurrentEagerLets) {
+      ((ConcurrentEagerLets) suite.getLastHook()).add(eagerLet);
+    } else {
+      addHook(new ConcurrentEagerLets(eagerLet), AppliesTo.ATOMIC_ONLY, Precedence.LOCAL);
+    }
   }
 
   private void addHook(HookContext hook) {
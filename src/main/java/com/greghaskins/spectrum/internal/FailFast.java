@@ -0,0 +1,103 @@
+package com.greghaskins.spectrum.internal;
+
+import com.greghaskins.spectrum.Configure;
+
+import org.junit.runner.Description;
+import org.junit.runner.notification.Failure;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The state of fail-fast for the whole run. Once {@link Configure#FAIL_FAST_PROPERTY} specs
+ * have failed, the run stops: specs which are running are interrupted, and nothing more is
+ * started, though the cleanup of suites which have already started still runs. This is
+ * shared by every class in the JVM, so it reaches specs running on other threads too.
+ */
+public final class FailFast {
+  private static final FailFast instance = new FailFast();
+
+  public static FailFast instance() {
+    return instance;
+  }
+
+  private volatile boolean stopped = false;
+
+  // all guarded by this
+  private final Set<Description> failed = new HashSet<>();
+  private final Map<Description, Thread> running = new HashMap<>();
+  private final Set<Description> interrupted = new HashSet<>();
+
+  private FailFast() {}
+
+  /**
+   * Start counting failures from scratch, for a new run in the same JVM.
+   */
+  public static void reset() {
+    synchronized (instance) {
+      instance.stopped = false;
+      instance.failed.clear();
+      instance.running.clear();
+      instance.interrupted.clear();
+    }
+  }
+
+  /**
+   * Decorate the reporting of a run so that its failures count towards fail-fast, if the
+   * {@link Configure#FAIL_FAST_PROPERTY} is set.
+   * @param reporting to decorate
+   * @return the reporting to use for the run
+   */
+  public static RunReporting<Description, Failure> decorate(
+      final RunReporting<Description, Failure> reporting) {
+    final int maxFailures = Integer.getInteger(Configure.FAIL_FAST_PROPERTY, 0);
+
+    return maxFailures > 0 ? new FailFastRunDecorator(reporting, instance, maxFailures)
+        : reporting;
+  }
+
+  /**
+   * Has the run stopped because too many specs failed.
+   * @return true if nothing more should be started
+   */
+  public boolean hasStopped() {
+    return this.stopped;
+  }
+
+  synchronized void started(final Description description) {
+    if (!this.stopped) {
+      this.running.put(description, Thread.currentThread());
+    }
+  }
+
+  synchronized void finished(final Description description) {
+    this.running.remove(description);
+    if (this.interrupted.remove(description)) {
+      // the interruption was for this spec only, not whatever runs next on the thread
+      Thread.interrupted();
+    }
+  }
+
+  synchronized boolean wasInterrupted(final Description description) {
+    return this.interrupted.contains(description);
+  }
+
+  synchronized void failed(final Description description, final int maxFailures) {
+    this.failed.add(description);
+    if (!this.stopped && this.failed.size() >= maxFailures) {
+      stop();
+    }
+  }
+
+  private void stop() {
+    this.stopped = true;
+    this.running.forEach((description, thread) -> {
+      if (thread != Thread.currentThread()) {
+        this.interrupted.add(description);
+        thread.interrupt();
+      }
+    });
+  }
+}
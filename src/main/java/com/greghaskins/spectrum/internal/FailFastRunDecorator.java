@@ -0,0 +1,59 @@
+package com.greghaskins.spectrum.internal;
+
+import org.junit.AssumptionViolatedException;
+import org.junit.runner.Description;
+import org.junit.runner.notification.Failure;
+
+/**
+ * Counts the failures of a run towards {@link FailFast}. A spec which was interrupted because
+ * the run stopped is reported as skipped rather than failed, whatever the interruption did
+ * to it.
+ */
+final class FailFastRunDecorator implements RunReporting<Description, Failure> {
+  private final RunReporting<Description, Failure> decoratee;
+  private final FailFast failFast;
+  private final int maxFailures;
+
+  FailFastRunDecorator(final RunReporting<Description, Failure> decoratee,
+      final FailFast failFast, final int maxFailures) {
+    this.decoratee = decoratee;
+    this.failFast = failFast;
+    this.maxFailures = maxFailures;
+  }
+
+  @Override
+  public void fireTestIgnored(final Description description) {
+    this.decoratee.fireTestIgnored(description);
+  }
+
+  @Override
+  public void fireTestStarted(final Description description) {
+    this.failFast.started(description);
+    this.decoratee.fireTestStarted(description);
+  }
+
+  @Override
+  public void fireTestFinished(final Description description) {
+    this.decoratee.fireTestFinished(description);
+    this.failFast.finished(description);
+  }
+
+  @Override
+  public void fireTestFailure(final Failure failure) {
+    if (this.failFast.wasInterrupted(failure.getDescription())) {
+      this.decoratee.fireTestAssumptionFailed(new Failure(failure.getDescription(),
+          new AssumptionViolatedException(
+              "The run stopped after " + this.maxFailures + " failures", failure.getException())));
+
+      return;
+    }
+
+    this.decoratee.fireTestFailure(failure);
+    this.failFast.failed(failure.getDescription(), this.maxFailures);
+  }
+
+  @Override
+  public void fireTestAssumptionFailed(final Failure failure) {
+    this.decoratee.fireTestAssumptionFailed(failure);
+  }
+}
@@ -0,0 +1,67 @@
+package com.greghaskins.spectrum.internal;
+
+import com.greghaskins.spectrum.internal.hooks.HookContext;
+
+import org.junit.runner.Description;
+
+/**
+ * Emits Java Flight Recorder events for the declaration of test classes, the running of
+ * specs and the running of hooks. This is the Java 8 version, which has no Flight Recorder API
+ * to emit events with, so every method does nothing. The multi-release jar replaces it with a
+ * version which emits events on Java 11 and above.
+ *
+ * <p>Each event is started with a {@code begin} method, which returns the event, or null if it
+ * is not being recorded, and finished by passing that to the matching {@code end} method.
+ */
+public final class FlightRecording {
+  private FlightRecording() {}
+
+  /**
+   * Start the event for declaring a test class.
+   * @return null, as no events are recorded
+   */
+  public static Object beginDeclaration() {
+    return null;
+  }
+
+  /**
+   * Finish the event for declaring a test class.
+   * @param event from {@link #beginDeclaration()}
+   * @param description of the test class
+   */
+  public static void endDeclaration(final Object event, final Description description) {}
+
+  /**
+   * Start the event for running a spec.
+   * @return null, as no events are recorded
+   */
+  static Object beginSpec() {
+    return null;
+  }
+
+  /**
+   * Finish the event for running a spec.
+   * @param event from {@link #beginSpec()}
+   * @param path of the spec
+   * @param description of the spec
+   */
+  static void endSpec(final Object event, final String path, final Description description) {}
+
+  /**
+   * Start the event for a step of a hook.
+   * @return null, as no events are recorded
+   */
+  public static Object beginHook() {
+    return null;
+  }
+
+  /**
+   * Finish the event for a step of a hook.
+   * @param event from {@link #beginHook()}
+   * @param context of the hook
+   * @param step which part of the hook ran - before, after or around its inner block
+   * @param description of the test the hook ran for
+   */
+  public static void endHook(final Object event, final HookContext context, final String step,
+      final Description description) {}
+}
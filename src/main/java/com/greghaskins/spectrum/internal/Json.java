@@ -0,0 +1,30 @@
+package com.greghaskins.spectrum.internal;
+
+import java.util.Locale;
+
+/**
+ * The little JSON which the reports of a run need, without a library for it.
+ */
+public final class Json {
+  private Json() {}
+
+  /**
+   * Quote text as a JSON string.
+   * @param text to quote
+   * @return the JSON string, in quotes
+   */
+  public static String string(final String text) {
+    final StringBuilder json = new StringBuilder("\"");
+    for (char character : text.toCharArray()) {
+      if (character == '"' || character == '\\') {
+        json.append('\\').append(character);
+      } else if (character < 0x20) {
+        json.append(String.format(Locale.ROOT, "\\u%04x", (int) character));
+      } else {
+        json.append(character);
+      }
+    }
+
+    return json.append('"').toString();
+  }
+}
@@ -0,0 +1,161 @@
+package com.greghaskins.spectrum.internal;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A histogram of durations with log-linear buckets - each power of two is split into
+ * {@value #SUB_BUCKETS} buckets of equal width, so a value is known to within an eighth of
+ * itself whatever its size, in a fixed array of counts. Values are recorded in microseconds.
+ * Recording is lock free, so it can be shared by specs running on several threads.
+ */
+public final class LogLinearHistogram {
+  private static final int SUB_BUCKET_BITS = 3;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+  /**
+   * Receives the buckets of a histogram.
+   */
+  @FunctionalInterface
+  public interface BucketConsumer {
+    /**
+     * Accept a bucket.
+     * @param upperBound the values in the bucket are below this many microseconds
+     * @param count how many values are in the bucket
+     */
+    void accept(long upperBound, long count);
+  }
+
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+  private final LongAdder count = new LongAdder();
+  private final LongAdder sum = new LongAdder();
+
+  /**
+   * Record a duration.
+   * @param micros the duration in microseconds - negative durations count as zero
+   */
+  public void record(final long micros) {
+    final long value = Math.max(micros, 0);
+    this.counts.incrementAndGet(indexOf(value));
+    this.count.increment();
+    this.sum.add(value);
+  }
+
+  /**
+   * Add all the durations recorded by another histogram to this one.
+   * @param other histogram to add
+   */
+  public void add(final LogLinearHistogram other) {
+    for (int i = 0; i < BUCKETS; i++) {
+      final long bucketCount = other.counts.get(i);
+      if (bucketCount > 0) {
+        this.counts.addAndGet(i, bucketCount);
+      }
+    }
+    this.count.add(other.count());
+    this.sum.add(other.sum());
+  }
+
+  /**
+   * How many durations have been recorded.
+   * @return the number of durations
+   */
+  public long count() {
+    return this.count.sum();
+  }
+
+  /**
+   * The total of the durations recorded.
+   * @return the total in microseconds
+   */
+  public long sum() {
+    return this.sum.sum();
+  }
+
+  /**
+   * Visit the buckets which have values in them, smallest first.
+   * @param consumer of each bucket
+   */
+  public void forEachBucket(final BucketConsumer consumer) {
+    for (int i = 0; i < BUCKETS; i++) {
+      final long bucketCount = this.counts.get(i);
+      if (bucketCount > 0) {
+        consumer.accept(upperBoundOf(i), bucketCount);
+      }
+    }
+  }
+
+  /**
+   * The upper bound of the highest bucket which has values in it.
+   * @return the bound in microseconds, or zero if nothing has been recorded
+   */
+  public long highestUpperBound() {
+    for (int i = BUCKETS - 1; i >= 0; i--) {
+      if (this.counts.get(i) > 0) {
+        return upperBoundOf(i);
+      }
+    }
+
+    return 0;
+  }
+
+  /**
+   * Visit every bucket up to the one with the given upper bound, smallest first, whether it
+   * has values in it or not - so histograms visited up to the same bound have the same
+   * buckets.
+   * @param upperBound of the last bucket to visit, in microseconds
+   * @param consumer of each bucket
+   */
+  public void forEachBucketUpTo(final long upperBound, final BucketConsumer consumer) {
+    for (int i = 0; i < BUCKETS && upperBoundOf(i) <= upperBound; i++) {
+      consumer.accept(upperBoundOf(i), this.counts.get(i));
+    }
+  }
+
+  /**
+   * The duration below which the given percentage of the recorded durations fall, to the
+   * accuracy of the buckets.
+   * @param percentile between 0 and 100
+   * @return the upper bound of the bucket holding that percentile in microseconds, or zero if
+   *         nothing has been recorded
+   */
+  public long valueAtPercentile(final double percentile) {
+    final long total = count();
+    if (total == 0) {
+      return 0;
+    }
+    final long rank = Math.max(1, (long) Math.ceil(total * Math.min(percentile, 100) / 100));
+    long seen = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      seen += this.counts.get(i);
+      if (seen >= rank) {
+        return upperBoundOf(i);
+      }
+    }
+
+    return upperBoundOf(BUCKETS - 1);
+  }
+
+  static int indexOf(final long value) {
+    if (value < SUB_BUCKETS) {
+      return (int) value;
+    }
+    final int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+    final int shift = exponent - SUB_BUCKET_BITS;
+    final int subBucket = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+
+    return (shift + 1) * SUB_BUCKETS + subBucket;
+  }
+
+  static long upperBoundOf(final int index) {
+    if (index < SUB_BUCKETS) {
+      return index + 1;
+    }
+    final int shift = index / SUB_BUCKETS - 1;
+    final long upper = (long) (SUB_BUCKETS + index % SUB_BUCKETS + 1) << shift;
+
+    // the last bucket reaches the largest value there is
+    return upper < 0 ? Long.MAX_VALUE : upper;
+  }
+}
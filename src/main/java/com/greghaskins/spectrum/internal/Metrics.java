@@ -0,0 +1,254 @@
+package com.greghaskins.spectrum.internal;
+
+import com.greghaskins.spectrum.Configure;
+import com.greghaskins.spectrum.internal.hooks.HookTimings;
+
+import org.junit.runner.Description;
+import org.junit.runner.notification.Failure;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Counters and latency histograms for a run, for dashboards which follow the run time of the
+ * tests from build to build. For each suite, the specs are counted by their outcome and the
+ * duration of each spec - including its hooks - is kept in a {@link LogLinearHistogram}, as is
+ * the duration of each hook from the {@link HookTimings}.
+ *
+ * <p>Metrics are only kept when the {@link Configure#METRICS_FILE_PROPERTY} system property
+ * names a file, which is written when the JVM exits - as JSON if its name ends with
+ * {@code .json}, or otherwise in the Prometheus text format. Any {@code {pid}} in the name is
+ * replaced with the id of the process, so that JVMs running at the same time can each write
+ * their own file.
+ */
+public final class Metrics {
+  private static final Metrics instance =
+      new Metrics(metricsFile(), () -> HookTimings.instance().hookTimings());
+
+  public static Metrics instance() {
+    return instance;
+  }
+
+  /**
+   * How a spec turned out.
+   */
+  enum Outcome {
+    PASSED, FAILED, SKIPPED, IGNORED;
+
+    String label() {
+      return name().toLowerCase(Locale.ROOT);
+    }
+  }
+
+  private final Optional<Path> file;
+  private final Supplier<List<HookTimings.Timing>> hookTimings;
+  private final Map<String, SuiteMetrics> suites = new ConcurrentHashMap<>();
+  private final AtomicBoolean writeOnExit = new AtomicBoolean();
+
+  Metrics(final Optional<Path> file, final Supplier<List<HookTimings.Timing>> hookTimings) {
+    this.file = file;
+    this.hookTimings = hookTimings;
+  }
+
+  /**
+   * Are metrics being kept for this run.
+   * @return true if the {@link Configure#METRICS_FILE_PROPERTY} names a file
+   */
+  public static boolean isEnabled() {
+    return instance.file.isPresent();
+  }
+
+  /**
+   * Decorate the reporting of a run so that its specs are counted and timed, if metrics are
+   * being kept.
+   * @param reporting to decorate
+   * @return the reporting to use for the run
+   */
+  public static RunReporting<Description, Failure> decorate(
+      final RunReporting<Description, Failure> reporting) {
+    return isEnabled() ? new MetricsRunDecorator(reporting, instance) : reporting;
+  }
+
+  /**
+   * Record the outcome of a spec.
+   * @param suite the name of the suite the spec belongs to
+   * @param outcome how it turned out
+   * @param nanos how long it took, or a negative number if it did not run
+   */
+  void record(final String suite, final Outcome outcome, final long nanos) {
+    final SuiteMetrics metrics = this.suites.computeIfAbsent(suite, name -> new SuiteMetrics());
+    metrics.outcomes.get(outcome).increment();
+    if (nanos >= 0) {
+      metrics.durations.record(nanos / 1000);
+    }
+    if (this == instance && this.writeOnExit.compareAndSet(false, true)) {
+      Runtime.getRuntime().addShutdownHook(new Thread(this::write, "spectrum-metrics"));
+    }
+  }
+
+  /**
+   * Write the metrics of this run, and start counting again from nothing. Call it before
+   * {@link HookTimings#finishRun}, whose timings are part of the metrics.
+   */
+  public void finishRun() {
+    write();
+    this.suites.clear();
+  }
+
+  void write() {
+    // nothing has been recorded since the last run finished
+    if (!this.file.isPresent() || this.suites.isEmpty()) {
+      return;
+    }
+    final Path path = this.file.get();
+    final String contents = path.toString().endsWith(".json") ? toJson() : toPrometheusText();
+    try {
+      AtomicFile.write(path, output -> output.write(contents.getBytes(StandardCharsets.UTF_8)));
+    } catch (IOException | RuntimeException ignored) {
+      // metrics are for dashboards - never fail a run over them
+    }
+  }
+
+  String toPrometheusText() {
+    final StringBuilder text = new StringBuilder();
+    text.append("# HELP spectrum_specs_total Specs which ran or were ignored, by outcome.\n")
+        .append("# TYPE spectrum_specs_total counter\n");
+    sortedSuites().forEach((suite, metrics) -> metrics.outcomes.forEach((outcome, count) ->
+        text.append("spectrum_specs_total{suite=\"").append(escapeLabel(suite))
+            .append("\",outcome=\"").append(outcome.label()).append("\"} ").append(count.sum())
+            .append('\n')));
+
+    text.append("# HELP spectrum_spec_duration_seconds How long each spec took, with its hooks.\n")
+        .append("# TYPE spectrum_spec_duration_seconds histogram\n");
+    final Map<String, SuiteMetrics> suites = sortedSuites();
+    final long specBound = highestUpperBound(suites.values().stream()
+        .map(metrics -> metrics.durations).collect(Collectors.toList()));
+    suites.forEach((suite, metrics) -> appendHistogram(text,
+        "spectrum_spec_duration_seconds", "suite=\"" + escapeLabel(suite) + "\"",
+        metrics.durations, specBound));
+
+    text.append("# HELP spectrum_hook_duration_seconds How long each run of a hook took.\n")
+        .append("# TYPE spectrum_hook_duration_seconds histogram\n");
+    final Map<List<String>, LogLinearHistogram> hooks = hooksBySuiteKindAndPrecedence();
+    final long hookBound = highestUpperBound(hooks.values());
+    hooks.forEach((hook, durations) -> appendHistogram(text,
+        "spectrum_hook_duration_seconds", "suite=\"" + escapeLabel(hook.get(0))
+            + "\",kind=\"" + escapeLabel(hook.get(1)) + "\",precedence=\""
+            + escapeLabel(hook.get(2)) + "\"",
+        durations, hookBound));
+
+    return text.toString();
+  }
+
+  String toJson() {
+    final List<String> specs = new ArrayList<>();
+    sortedSuites().forEach((suite, metrics) -> {
+      final StringBuilder counts = new StringBuilder();
+      metrics.outcomes.forEach((outcome, count) -> counts.append(",\"").append(outcome.label())
+          .append("\":").append(count.sum()));
+      specs.add("{\"suite\":" + Json.string(suite) + counts + ",\"duration\":"
+          + jsonHistogram(metrics.durations) + "}");
+    });
+
+    final List<String> hooks = new ArrayList<>();
+    hooksBySuiteKindAndPrecedence().forEach((hook, durations) -> hooks.add("{\"suite\":"
+        + Json.string(hook.get(0)) + ",\"kind\":" + Json.string(hook.get(1))
+        + ",\"precedence\":" + Json.string(hook.get(2)) + ",\"duration\":"
+        + jsonHistogram(durations) + "}"));
+
+    return "{\"specs\":[" + String.join(",", specs) + "],\"hooks\":["
+        + String.join(",", hooks) + "]}\n";
+  }
+
+  private Map<String, SuiteMetrics> sortedSuites() {
+    return new TreeMap<>(this.suites);
+  }
+
+  // hooks of the same sort in the same suite, such as two beforeEach blocks, share a series
+  private Map<List<String>, LogLinearHistogram> hooksBySuiteKindAndPrecedence() {
+    final Map<List<String>, LogLinearHistogram> hooks =
+        new TreeMap<>(Comparator.comparing((List<String> key) -> String.join("\n", key)));
+    this.hookTimings.get().forEach(timing -> hooks.computeIfAbsent(
+        Arrays.asList(timing.getSuite(), timing.getKind(), timing.getPrecedence()),
+        key -> new LogLinearHistogram()).add(timing.getHistogram()));
+
+    return hooks;
+  }
+
+  // every series of a histogram has the same buckets, so series can be added up bucket by bucket
+  private static long highestUpperBound(final Collection<LogLinearHistogram> histograms) {
+    return histograms.stream().mapToLong(LogLinearHistogram::highestUpperBound).max().orElse(0);
+  }
+
+  private static void appendHistogram(final StringBuilder text, final String name,
+      final String labels, final LogLinearHistogram histogram, final long highestUpperBound) {
+    final long[] cumulative = {0};
+    histogram.forEachBucketUpTo(highestUpperBound, (upperBound, count) -> {
+      cumulative[0] += count;
+      text.append(name).append("_bucket{").append(labels).append(",le=\"")
+          .append(seconds(upperBound)).append("\"} ").append(cumulative[0]).append('\n');
+    });
+    text.append(name).append("_bucket{").append(labels).append(",le=\"+Inf\"} ")
+        .append(histogram.count()).append('\n')
+        .append(name).append("_sum{").append(labels).append("} ")
+        .append(seconds(histogram.sum())).append('\n')
+        .append(name).append("_count{").append(labels).append("} ")
+        .append(histogram.count()).append('\n');
+  }
+
+  private static String jsonHistogram(final LogLinearHistogram histogram) {
+    final List<String> buckets = new ArrayList<>();
+    histogram.forEachBucket((upperBound, count) ->
+        buckets.add("{\"le\":" + seconds(upperBound) + ",\"count\":" + count + "}"));
+
+    return "{\"count\":" + histogram.count() + ",\"sum\":" + seconds(histogram.sum())
+        + ",\"buckets\":[" + String.join(",", buckets) + "]}";
+  }
+
+  private static String seconds(final long micros) {
+    return Double.toString(micros / 1_000_000d);
+  }
+
+  private static String escapeLabel(final String value) {
+    return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+  }
+
+  private static Optional<Path> metricsFile() {
+    final String file = System.getProperty(Configure.METRICS_FILE_PROPERTY, "").trim();
+    if (file.isEmpty()) {
+      return Optional.empty();
+    }
+    final String pid = ManagementFactory.getRuntimeMXBean().getName().split("@")[0];
+
+    return Optional.of(Paths.get(file.replace("{pid}", pid)));
+  }
+
+  private static final class SuiteMetrics {
+    private final Map<Outcome, LongAdder> outcomes = new EnumMap<>(Outcome.class);
+    private final LogLinearHistogram durations = new LogLinearHistogram();
+
+    SuiteMetrics() {
+      for (Outcome outcome : Outcome.values()) {
+        this.outcomes.put(outcome, new LongAdder());
+      }
+    }
+  }
+}
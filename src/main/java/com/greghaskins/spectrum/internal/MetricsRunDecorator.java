@@ -0,0 +1,72 @@
+package com.greghaskins.spectrum.internal;
+
+import org.junit.runner.Description;
+import org.junit.runner.notification.Failure;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Counts and times the specs of a run for its {@link Metrics}. A spec is timed from when it
+ * is reported as started to when it is reported as finished, and counted against the suite
+ * its description names, by the worst thing reported about it in between.
+ */
+final class MetricsRunDecorator implements RunReporting<Description, Failure> {
+  private final RunReporting<Description, Failure> decoratee;
+  private final Metrics metrics;
+  private final Map<Description, Running> running = new ConcurrentHashMap<>();
+
+  MetricsRunDecorator(final RunReporting<Description, Failure> decoratee,
+      final Metrics metrics) {
+    this.decoratee = decoratee;
+    this.metrics = metrics;
+  }
+
+  @Override
+  public void fireTestIgnored(final Description description) {
+    this.decoratee.fireTestIgnored(description);
+    this.metrics.record(description.getClassName(), Metrics.Outcome.IGNORED, -1);
+  }
+
+  @Override
+  public void fireTestStarted(final Description description) {
+    this.running.put(description, new Running());
+    this.decoratee.fireTestStarted(description);
+  }
+
+  @Override
+  public void fireTestFinished(final Description description) {
+    this.decoratee.fireTestFinished(description);
+    final Running spec = this.running.remove(description);
+    if (spec != null) {
+      this.metrics.record(description.getClassName(), spec.outcome,
+          System.nanoTime() - spec.started);
+    }
+  }
+
+  @Override
+  public void fireTestFailure(final Failure failure) {
+    this.decoratee.fireTestFailure(failure);
+    final Running spec = this.running.get(failure.getDescription());
+    if (spec != null) {
+      spec.outcome = Metrics.Outcome.FAILED;
+    } else {
+      // such as an afterAll failing, after the specs of its suite have finished
+      this.metrics.record(failure.getDescription().getClassName(), Metrics.Outcome.FAILED, -1);
+    }
+  }
+
+  @Override
+  public void fireTestAssumptionFailed(final Failure failure) {
+    this.decoratee.fireTestAssumptionFailed(failure);
+    final Running spec = this.running.get(failure.getDescription());
+    if (spec != null && spec.outcome == Metrics.Outcome.PASSED) {
+      spec.outcome = Metrics.Outcome.SKIPPED;
+    }
+  }
+
+  private static final class Running {
+    private final long started = System.nanoTime();
+    private volatile Metrics.Outcome outcome = Metrics.Outcome.PASSED;
+  }
+}
@@ -0,0 +1,94 @@
+package com.greghaskins.spectrum.internal;
+
+import static com.greghaskins.spectrum.internal.SynchronizedRunDecorator.synchronizedReporting;
+import static java.util.stream.Collectors.toList;
+
+import com.greghaskins.spectrum.Configure;
+import com.greghaskins.spectrum.internal.hooks.ExecutionContext;
+
+import org.junit.runner.Description;
+import org.junit.runner.notification.Failure;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Strategy for running the children of a suite concurrently on a {@link ForkJoinPool}.
+ * The once hooks of the suite surround the whole of this, so an {@code afterAll} runs only
+ * once every child has finished. Reporting is serialised so the notifier receives one
+ * event at a time. Children which took longest in previous runs are started first.
+ */
+final class ParallelChildRunner implements Suite.ChildRunner {
+  private static final Map<Integer, ForkJoinPool> POOLS = new ConcurrentHashMap<>();
+
+  private final int parallelism;
+
+  /**
+   * Construct a runner which uses the default parallelism - either the
+   * {@link Configure#PARALLEL_THREADS_PROPERTY} or the number of available processors.
+   */
+  ParallelChildRunner() {
+    this(defaultParallelism());
+  }
+
+  /**
+   * Construct a runner with a specific number of threads.
+   * @param parallelism the number of children which may run at once
+   */
+  ParallelChildRunner(final int parallelism) {
+    this.parallelism = parallelism;
+  }
+
+  @Override
+  public void runChildren(final Suite suite, final RunReporting<Description, Failure> reporting) {
+    final RunReporting<Description, Failure> synchronizedReporting = synchronizedReporting(reporting);
+    final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+    final List<ForkJoinTask<?>> tasks = suite.childrenLongestFirst().stream()
+        .map(child -> ForkJoinTask.adapt(ExecutionContext.propagating(
+            () -> runChild(suite, child, synchronizedReporting, contextClassLoader))))
+        .collect(toList());
+
+    final ForkJoinPool pool = pool();
+    if (ForkJoinTask.getPool() == pool) {
+      ForkJoinTask.invokeAll(tasks);
+    } else {
+      pool.invoke(ForkJoinTask.adapt(() -> {
+        ForkJoinTask.invokeAll(tasks);
+      }));
+    }
+  }
+
+  private static void runChild(final Suite suite, final Child child,
+      final RunReporting<Description, Failure> reporting, final ClassLoader contextClassLoader) {
+    // pool threads are shared, so run with the class loader of the thread which owns the run
+    final Thread thread = Thread.currentThread();
+    final ClassLoader previous = thread.getContextClassLoader();
+    thread.setContextClassLoader(contextClassLoader);
+    try {
+      suite.runChild(child, reporting);
+    } finally {
+      thread.setContextClassLoader(previous);
+    }
+  }
+
+  /**
+   * Stop the threads of every pool - each pool thread keeps the class loader of the run which
+   * started it.
+   */
+  static void shutDownPools() {
+    POOLS.values().forEach(ForkJoinPool::shutdown);
+    POOLS.clear();
+  }
+
+  private ForkJoinPool pool() {
+    return POOLS.computeIfAbsent(this.parallelism, ForkJoinPool::new);
+  }
+
+  private static int defaultParallelism() {
+    return Integer.getInteger(Configure.PARALLEL_THREADS_PROPERTY,
+        Runtime.getRuntime().availableProcessors());
+  }
+}
@@ -1,6 +1,6 @@
 package com.greghaskins.spectrum.internal;
 
-import com.greghaskins.spectrum.internal.hooks.Hooks;
+import com.greghaskins.spectrum.internal.hooks.HookLineage;
 
 public interface Parent {
 
@@ -8,7 +8,7 @@ public interface Parent {
 
   boolean isIgnored();
 
-  Hooks getInheritableHooks();
+  HookLineage getInheritableHooks();
 
   Parent NONE = new Parent() {
     @Override
@@ -20,8 +20,8 @@ public interface Parent {
     }
 
     @Override
-    public Hooks getInheritableHooks() {
-      return new Hooks();
+    public HookLineage getInheritableHooks() {
+      return HookLineage.NONE;
     }
   };
 }
@@ -0,0 +1,40 @@
+package com.greghaskins.spectrum.internal;
+
+import com.greghaskins.spectrum.internal.hooks.ExecutionContext;
+
+import org.junit.runner.Description;
+import org.junit.runner.notification.Failure;
+
+import java.util.List;
+
+/**
+ * Strategy for running the children of a suite one after the other, while starting the
+ * {@code beforeAll} blocks of the next child suite on a background thread. By the time the
+ * next suite starts, its set up has finished or is under way, and its first spec waits for
+ * whatever is left of it. A set up which fails is replayed within that suite, so the failure
+ * is reported there, as it would be without prefetching.
+ */
+final class PrefetchingChildRunner implements Suite.ChildRunner {
+  @Override
+  public void runChildren(final Suite suite, final RunReporting<Description, Failure> reporting) {
+    final List<Child> children = suite.children;
+    for (int i = 0; i < children.size(); i++) {
+      if (i + 1 < children.size()) {
+        prefetch(suite, children.get(i + 1));
+      }
+      suite.runChild(children.get(i), reporting);
+    }
+  }
+
+  private static void prefetch(final Suite suite, final Child next) {
+    if (!(next instanceof Suite) || !suite.willRun(next)) {
+      return;
+    }
+    // the thread inherits the context class loader of this one, and is given its context
+    final Runnable setUp = ExecutionContext.propagating(((Suite) next)::prefetchSetUp);
+    final Thread prefetcher =
+        new Thread(setUp, "spectrum-prefetch-" + next.getDescription().getDisplayName());
+    prefetcher.setDaemon(true);
+    prefetcher.start();
+  }
+}
@@ -0,0 +1,143 @@
+package com.greghaskins.spectrum.internal;
+
+import com.greghaskins.spectrum.Configure;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * One of several disjoint parts of a run, so that separate JVMs can each run a share of the
+ * specs. Every JVM makes the same choices from the same inputs, so together the shards run
+ * every spec exactly once. Composite tests are never split.
+ */
+public final class Shard {
+  private static final Pattern SHARD = Pattern.compile("\\s*(\\d+)\\s*/\\s*(\\d+)\\s*");
+
+  /**
+   * How the atomic children are shared between the shards.
+   */
+  public enum Strategy {
+    /**
+     * By a stable hash of the path of each child.
+     */
+    HASH,
+
+    /**
+     * By balancing the durations in the {@link TimingHistory} across the shards, longest first.
+     * Children with no history are shared by hash. Each shard must read the same history.
+     */
+    TIMING
+  }
+
+  private final int index;
+  private final int total;
+  private final Strategy strategy;
+  private final TimingHistory history;
+
+  /**
+   * Construct a shard.
+   * @param number which shard this is, from 1 to {@code total}
+   * @param total how many shards there are
+   * @param strategy how to share the children out
+   */
+  public Shard(final int number, final int total, final Strategy strategy) {
+    this(number, total, strategy, TimingHistory.instance());
+  }
+
+  Shard(final int number, final int total, final Strategy strategy,
+      final TimingHistory history) {
+    if (total < 1 || number < 1 || number > total) {
+      throw new IllegalArgumentException("There is no shard " + number + " of " + total);
+    }
+    this.index = number - 1;
+    this.total = total;
+    this.strategy = strategy;
+    this.history = history;
+  }
+
+  /**
+   * The shard of this run, from the {@link Configure#SHARD_PROPERTY} and
+   * {@link Configure#SHARD_BY_PROPERTY} system properties.
+   * @return the shard, or empty when the run is not sharded
+   */
+  public static Optional<Shard> fromSystemProperties() {
+    final String shard = System.getProperty(Configure.SHARD_PROPERTY, "");
+    if (shard.trim().isEmpty()) {
+      return Optional.empty();
+    }
+
+    final Matcher matcher = SHARD.matcher(shard);
+    if (!matcher.matches()) {
+      throw new IllegalArgumentException(
+          Configure.SHARD_PROPERTY + " should look like 3/8, not " + shard);
+    }
+
+    final Strategy strategy = strategyFromSystemProperty();
+    if (strategy == Strategy.TIMING) {
+      TimingHistory.instance().enable();
+    }
+
+    return Optional.of(new Shard(Integer.parseInt(matcher.group(1)),
+        Integer.parseInt(matcher.group(2)), strategy));
+  }
+
+  /**
+   * Choose the items which belong to this shard.
+   * @param scope the path which the items are all below - normally the test class
+   * @param items the atomic items, in declaration order
+   * @param pathOf the path of each item
+   * @param <T> type of item
+   * @return the items this shard should run
+   */
+  public <T> Set<T> select(final String scope, final List<T> items,
+      final Function<T, String> pathOf) {
+    final Set<T> selected = Collections.newSetFromMap(new IdentityHashMap<>());
+    final List<T> timed = new ArrayList<>();
+    for (T item : items) {
+      final String path = pathOf.apply(item);
+      if (this.strategy == Strategy.TIMING && this.history.durationOf(path).isPresent()) {
+        timed.add(item);
+      } else if (Math.floorMod(path.hashCode(), this.total) == this.index) {
+        selected.add(item);
+      }
+    }
+
+    // start each scope from a different shard, so the small classes do not all land on one
+    final int firstShard = Math.floorMod(scope.hashCode(), this.total);
+    final long[] load = new long[this.total];
+    for (T item : this.history.longestFirst(timed, pathOf)) {
+      int lightest = firstShard;
+      for (int i = 1; i < this.total; i++) {
+        final int shard = (firstShard + i) % this.total;
+        if (load[shard] < load[lightest]) {
+          lightest = shard;
+        }
+      }
+      // count every item as at least a millisecond, so that quick ones are shared out too
+      load[lightest] += this.history.durationOf(pathOf.apply(item)).orElse(0) + 1;
+      if (lightest == this.index) {
+        selected.add(item);
+      }
+    }
+
+    return selected;
+  }
+
+  private static Strategy strategyFromSystemProperty() {
+    final String strategy = System.getProperty(Configure.SHARD_BY_PROPERTY, Strategy.HASH.name());
+    try {
+      return Strategy.valueOf(strategy.trim().toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException unknown) {
+      throw new IllegalArgumentException(
+          Configure.SHARD_BY_PROPERTY + " should be hash or timing, not " + strategy);
+    }
+  }
+}
@@ -0,0 +1,240 @@
+package com.greghaskins.spectrum.internal;
+
+import com.greghaskins.spectrum.ThrowingConsumer;
+import com.greghaskins.spectrum.ThrowingSupplier;
+
+import org.junit.runner.Result;
+import org.junit.runner.notification.RunListener;
+import org.junit.runner.notification.RunNotifier;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The shared fixtures of every suite in the JVM, by key. A fixture is created the first time
+ * a spec asks for its value, and then shared by every suite which declares the same key, in
+ * any test class. Each suite which declares the fixture holds a reference to it while it runs.
+ * Once nothing refers to a fixture, it is closed after its idle timeout, if it has one, and
+ * otherwise when the JUnit run finishes - or when the JVM exits, for runners which never say
+ * that the run has finished.
+ */
+public final class SharedFixtures {
+  private static final SharedFixtures instance = new SharedFixtures();
+
+  public static SharedFixtures instance() {
+    return instance;
+  }
+
+  // all guarded by this
+  private final Map<String, Fixture<?>> fixtures = new HashMap<>();
+  private final Set<RunNotifier> runs = Collections.newSetFromMap(new WeakHashMap<>());
+  private ScheduledExecutorService idleCloser;
+  private boolean closeOnExit = false;
+
+  private SharedFixtures() {}
+
+  /**
+   * Take a reference to a fixture, registering it if it is new.
+   * @param key of the fixture
+   * @param supplier creates the value of the fixture
+   * @param closer closes the value
+   * @param idleTimeout how long to keep the value when nothing refers to it, or empty to keep
+   *        it until the run finishes
+   * @param <T> type of the value
+   */
+  public synchronized <T> void acquire(final String key, final ThrowingSupplier<T> supplier,
+      final ThrowingConsumer<T> closer, final Optional<Duration> idleTimeout) {
+    Fixture<?> fixture = this.fixtures.get(key);
+    if (fixture == null) {
+      fixture = new Fixture<>(key, supplier, closer, idleTimeout);
+      this.fixtures.put(key, fixture);
+    }
+    fixture.references++;
+    if (fixture.pendingClose != null) {
+      fixture.pendingClose.cancel(false);
+      fixture.pendingClose = null;
+    }
+  }
+
+  /**
+   * Give up a reference to a fixture. A fixture with an idle timeout of zero is closed
+   * straight away when nothing refers to it any more.
+   * @param key of the fixture
+   * @throws Throwable if closing the fixture fails
+   */
+  public void release(final String key) throws Throwable {
+    final Fixture<?> toClose;
+    synchronized (this) {
+      final Fixture<?> fixture = this.fixtures.get(key);
+      if (fixture == null || --fixture.references > 0 || !fixture.idleTimeout.isPresent()) {
+        return;
+      }
+      final long idleMillis = fixture.idleTimeout.get().toMillis();
+      if (idleMillis > 0) {
+        fixture.pendingClose = idleCloser().schedule(() -> closeIfIdle(fixture), idleMillis,
+            TimeUnit.MILLISECONDS);
+
+        return;
+      }
+      this.fixtures.remove(key);
+      toClose = fixture;
+    }
+    toClose.close();
+  }
+
+  /**
+   * Provide the value of a fixture, creating it if this is the first time it is needed.
+   * @param key of the fixture
+   * @return the value
+   */
+  public Object get(final String key) {
+    final Fixture<?> fixture;
+    synchronized (this) {
+      fixture = this.fixtures.get(key);
+      if (fixture == null || fixture.references == 0) {
+        throw new IllegalStateException("The shared fixture \"" + key
+            + "\" may only be used within a running suite which declares it.");
+      }
+      closeOnExit();
+    }
+
+    return fixture.value();
+  }
+
+  /**
+   * Close the fixtures nothing refers to when the run being reported to the notifier
+   * finishes.
+   * @param notifier of the run
+   */
+  public synchronized void closeWhenFinished(final RunNotifier notifier) {
+    if (this.runs.add(notifier)) {
+      notifier.addListener(new RunListener() {
+        @Override
+        public void testRunFinished(final Result result) {
+          closeUnused();
+        }
+      });
+    }
+  }
+
+  /**
+   * Close every fixture which nothing refers to.
+   */
+  public void closeUnused() {
+    final List<Fixture<?>> unused = new ArrayList<>();
+    synchronized (this) {
+      this.fixtures.values().removeIf(fixture -> {
+        if (fixture.references > 0) {
+          return false;
+        }
+        unused.add(fixture);
+
+        return true;
+      });
+    }
+    unused.forEach(SharedFixtures::closeQuietly);
+  }
+
+  private void closeIfIdle(final Fixture<?> fixture) {
+    synchronized (this) {
+      if (fixture.references > 0 || this.fixtures.get(fixture.key) != fixture) {
+        return;
+      }
+      this.fixtures.remove(fixture.key);
+    }
+    closeQuietly(fixture);
+  }
+
+  private void closeAll() {
+    final List<Fixture<?>> all;
+    synchronized (this) {
+      all = new ArrayList<>(this.fixtures.values());
+      this.fixtures.clear();
+    }
+    all.forEach(SharedFixtures::closeQuietly);
+  }
+
+  private static void closeQuietly(final Fixture<?> fixture) {
+    try {
+      fixture.close();
+    } catch (final Throwable closeFailure) {
+      // there is no test left to report this against
+      System.err.println("Could not close the shared fixture \"" + fixture.key + "\"");
+      closeFailure.printStackTrace();
+    }
+  }
+
+  private ScheduledExecutorService idleCloser() {
+    if (this.idleCloser == null) {
+      this.idleCloser = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "spectrum-shared-fixtures");
+        thread.setDaemon(true);
+
+        return thread;
+      });
+    }
+
+    return this.idleCloser;
+  }
+
+  private void closeOnExit() {
+    if (!this.closeOnExit) {
+      this.closeOnExit = true;
+      Runtime.getRuntime().addShutdownHook(new Thread(this::closeAll, "spectrum-shared-fixtures"));
+    }
+  }
+
+  private static final class Fixture<T> {
+    private final String key;
+    private final ThrowingSupplier<T> supplier;
+    private final ThrowingConsumer<T> closer;
+    private final Optional<Duration> idleTimeout;
+
+    // guarded by SharedFixtures
+    private int references = 0;
+    private ScheduledFuture<?> pendingClose;
+
+    // guarded by this
+    private boolean created = false;
+    private T value;
+
+    Fixture(final String key, final ThrowingSupplier<T> supplier,
+        final ThrowingConsumer<T> closer, final Optional<Duration> idleTimeout) {
+      this.key = key;
+      this.supplier = supplier;
+      this.closer = closer;
+      this.idleTimeout = idleTimeout;
+    }
+
+    synchronized T value() {
+      if (!this.created) {
+        // only one thread creates the value, while the others wait for it
+        this.value = this.supplier.get();
+        this.created = true;
+      }
+
+      return this.value;
+    }
+
+    synchronized void close() throws Throwable {
+      if (!this.created) {
+        return;
+      }
+      final T toClose = this.value;
+      this.created = false;
+      this.value = null;
+      this.closer.accept(toClose);
+    }
+  }
+}
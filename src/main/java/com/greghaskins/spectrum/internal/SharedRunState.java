@@ -0,0 +1,28 @@
+package com.greghaskins.spectrum.internal;
+
+import com.greghaskins.spectrum.internal.hooks.HookTimings;
+
+import java.io.PrintStream;
+
+/**
+ * What the runs in a JVM share - the timing history, the hook timings, the metrics, the shared
+ * fixtures and the thread pools of parallel suites.
+ */
+public final class SharedRunState {
+  private SharedRunState() {}
+
+  /**
+   * Write out and close what the run which has just finished left behind, so that the next
+   * run in this JVM starts from nothing. Most of it would otherwise be written out or closed
+   * when the JVM exits, which is too late for runners which do one run after another in the
+   * same JVM.
+   * @param output where to print the hook timings, if they are printed
+   */
+  public static void finishRun(final PrintStream output) {
+    TimingHistory.instance().finishRun();
+    Metrics.instance().finishRun();
+    HookTimings.instance().finishRun(output);
+    SharedFixtures.instance().closeUnused();
+    ParallelChildRunner.shutDownPools();
+  }
+}
@@ -3,7 +3,9 @@ package com.greghaskins.spectrum.internal;
 
 import com.greghaskins.spectrum.Block;
 import com.greghaskins.spectrum.internal.hooks.Hook;
+import com.greghaskins.spectrum.internal.hooks.HookChain;
 import com.greghaskins.spectrum.internal.hooks.HookContext;
+import com.greghaskins.spectrum.internal.hooks.HookTimings;
 import com.greghaskins.spectrum.internal.hooks.Hooks;
 import com.greghaskins.spectrum.internal.hooks.NonReportingHook;
 
@@ -17,6 +19,7 @@ final class Spec implements LeafChild {
   private final Parent parent;
   private boolean ignored = false;
   private Hooks leafHooks = new Hooks();
+  private HookChain leafHookChain;
 
   Spec(final Description description, final Block block, final Parent parent) {
     this.description = description;
@@ -38,7 +41,21 @@ final class Spec implements LeafChild {
     }
 
     // apply leaf hooks around the inner block
-    leafHooks.sorted().runAround(this.description, notifier, block);
+    leafHookChain.runAround(this.description, notifier,
+        HookTimings.instance().isEnabled() ? this::runTimedBlock : block);
+  }
+
+  private void runTimedBlock() throws Throwable {
+    final long started = System.nanoTime();
+    try {
+      this.block.run();
+    } finally {
+      HookTimings.instance().recordBody(suitePath(), System.nanoTime() - started);
+    }
+  }
+
+  private String suitePath() {
+    return this.parent instanceof Suite ? ((Suite) this.parent).getPath() : "";
   }
 
   @Override
@@ -75,9 +92,15 @@ final class Spec implements LeafChild {
     return ignored;
   }
 
+  @Override
+  public void compileHooks() {
+    this.leafHookChain = this.leafHooks.sorted().compile();
+  }
+
   @Override
   public void addLeafHook(NonReportingHook leafHook, HookContext.Precedence precedence) {
     // hooks at this level are always at the same point in the hierarchy and applying to each child
-    leafHooks.add(new HookContext(leafHook, 0, HookContext.AppliesTo.EACH_CHILD, precedence));
+    leafHooks.add(new HookContext(leafHook, 0, HookContext.AppliesTo.EACH_CHILD, precedence,
+        suitePath()));
   }
 }
@@ -3,32 +3,55 @@ package com.greghaskins.spectrum.internal;
 import static com.greghaskins.spectrum.internal.configuration.BlockConfiguration.merge;
 
 import com.greghaskins.spectrum.Block;
+import com.greghaskins.spectrum.Configure;
 import com.greghaskins.spectrum.internal.configuration.BlockConfiguration;
+import com.greghaskins.spectrum.internal.configuration.BlockParallel;
 import com.greghaskins.spectrum.internal.configuration.ConfiguredBlock;
 import com.greghaskins.spectrum.internal.configuration.TaggingFilterCriteria;
+import com.greghaskins.spectrum.internal.hooks.ExecutionContext;
 import com.greghaskins.spectrum.internal.hooks.Hook;
+import com.greghaskins.spectrum.internal.hooks.HookChain;
 import com.greghaskins.spectrum.internal.hooks.HookContext;
+import com.greghaskins.spectrum.internal.hooks.HookLineage;
 import com.greghaskins.spectrum.internal.hooks.Hooks;
+import com.greghaskins.spectrum.internal.hooks.SimpleHook;
 
 import org.junit.runner.Description;
 import org.junit.runner.notification.Failure;
 
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
 import java.util.Set;
+import java.util.function.Predicate;
 
 public class Suite implements Parent, Child {
-  private Hooks hooks = new Hooks();
+  private final Hooks hooks = new Hooks();
+  private final HookLineage lineage;
+
+  // compiled once declaration has finished - see compileHooks
+  private HookChain onceHooks;
+  private HookChain eachChildHooks;
+  private HookChain eachLeafHooks;
+  private HookChain atomicChildHooks;
+  private HookChain nonAtomicChildHooks;
+  private final Map<Child, String> childPaths = new HashMap<>();
 
   protected final List<Child> children = new ArrayList<>();
   private final Set<Child> focusedChildren = new HashSet<>();
 
-  private final ChildRunner childRunner;
+  private ChildRunner childRunner;
 
   private final Description description;
   private final Parent parent;
+  private final String path;
   private boolean ignored;
+  private boolean concurrentEagerLets;
 
   private final TaggingFilterCriteria tagging;
   private BlockConfiguration configuration = BlockConfiguration.defaultConfiguration();
@@ -43,8 +66,15 @@ public class Suite implements Parent, Child {
   }
 
   public static Suite rootSuite(final Description description) {
-    return new Suite(description, Parent.NONE, Suite::defaultChildRunner,
+    final Suite suite = new Suite(description, Parent.NONE, Suite::defaultChildRunner,
         new TaggingFilterCriteria());
+    if (Boolean.getBoolean(Configure.PARALLEL_PROPERTY)) {
+      // the root has no block to carry configuration, so apply the default directly
+      suite.configuration.add(new BlockParallel());
+      suite.runChildrenInParallel(OptionalInt.empty());
+    }
+
+    return suite;
   }
 
   /**
@@ -61,6 +91,9 @@ public class Suite implements Parent, Child {
       final TaggingFilterCriteria taggingFilterCriteria) {
     this.description = description;
     this.parent = parent;
+    this.lineage = parent.getInheritableHooks().inheritedBy(this.hooks);
+    this.path = parent instanceof Suite ? ((Suite) parent).path + "/" + description.getDisplayName()
+        : description.getDisplayName();
     this.ignored = parent.isIgnored();
     this.childRunner = childRunner;
     this.tagging = taggingFilterCriteria;
@@ -123,6 +156,47 @@ public class Suite implements Parent, Child {
     this.configuration.applyTo(this, this.tagging);
   }
 
+  /**
+   * Run the children of this suite concurrently, rather than one after the other.
+   *
+   * @param threads the number of children which may run at once, or empty for the default
+   */
+  public void runChildrenInParallel(final OptionalInt threads) {
+    runChildrenConcurrentlyWith(threads.isPresent() ? new ParallelChildRunner(threads.getAsInt())
+        : new ParallelChildRunner());
+  }
+
+  /**
+   * Run each child of this suite on its own virtual thread where the JVM supports them,
+   * or on its own platform thread otherwise.
+   *
+   * @param maxConcurrency the number of children which may run at once, or empty for the
+   *        default of the JVM - no limit with virtual threads
+   */
+  public void runChildrenOnVirtualThreads(final OptionalInt maxConcurrency) {
+    runChildrenConcurrentlyWith(
+        new VirtualThreadChildRunner(maxConcurrency.orElseGet(VirtualThreads::defaultConcurrency)));
+  }
+
+  /**
+   * Start the {@code beforeAll} blocks of each child suite in the background while the child
+   * before it runs. Children which already run concurrently overlap their set up anyway.
+   */
+  public void prefetchSetUpOfChildren() {
+    if (!isAtomic() && !(this.childRunner instanceof ParallelChildRunner)
+        && !(this.childRunner instanceof VirtualThreadChildRunner)) {
+      this.childRunner = new PrefetchingChildRunner();
+    }
+  }
+
+  private void runChildrenConcurrentlyWith(final ChildRunner concurrentChildRunner) {
+    // the children of an atomic suite build on each other, so always run them in order
+    if (!isAtomic()) {
+      this.childRunner = concurrentChildRunner;
+      TimingHistory.instance().enable();
+    }
+  }
+
   private void addChild(final Child child) {
     this.children.add(child);
   }
@@ -137,19 +211,53 @@ public class Suite implements Parent, Child {
     this.hooks.add(hook);
   }
 
-  private Hooks getHooksFor(final Child child) {
+  /**
+   * The hook most recently added to this suite.
+   * @return the hook, or null if there are none
+   */
+  public Hook getLastHook() {
+    return this.hooks.isEmpty() ? null : this.hooks.get(this.hooks.size() - 1).getHook();
+  }
+
+  /**
+   * Calculate the values of {@code eagerLet}s declared one after another in this suite at
+   * the same time, rather than in turn.
+   */
+  public void evaluateEagerLetsConcurrently() {
+    this.concurrentEagerLets = true;
+  }
+
+  public boolean evaluatesEagerLetsConcurrently() {
+    return this.concurrentEagerLets;
+  }
+
+  private Hooks getHooksFor(final boolean atomic) {
     Hooks allHooks = this.parent.getInheritableHooks().plus(this.hooks);
 
-    return child.isAtomic() ? allHooks.forAtomic() : allHooks.forNonAtomic();
+    return atomic ? allHooks.forAtomic() : allHooks.forNonAtomic();
+  }
+
+  @Override
+  public void compileHooks() {
+    this.onceHooks = this.hooks.once().sorted().compile();
+    final Hooks eachChild = this.hooks.forThisLevel().sorted();
+    this.eachChildHooks = eachChild.compile();
+    // leaves are reported as tests outside all of their hooks
+    eachChild.add(testNotifier());
+    this.eachLeafHooks = eachChild.compile();
+    this.atomicChildHooks = getHooksFor(true).sorted().compile();
+    this.nonAtomicChildHooks = getHooksFor(false).sorted().compile();
+    this.children.forEach(child -> this.childPaths.put(child, pathOf(child)));
+    this.children.forEach(Child::compileHooks);
   }
 
   @Override
-  public Hooks getInheritableHooks() {
+  public HookLineage getInheritableHooks() {
     // only the atomic hooks can be used by the children of this suite,
     // all other hooks would be executed at suite level only - either for
     // each child of the suite, or once
 
-    return this.parent.getInheritableHooks().plus(this.hooks.forAtomic());
+    return this.lineage;
   }
 
   /**
@@ -206,11 +314,10 @@ public class Suite implements Parent, Child {
   }
 
   private void runSuite(final RunReporting<Description, Failure> reporting) {
-    if (isEffectivelyIgnored()) {
+    if (isEffectivelyIgnored() || FailFast.instance().hasStopped()) {
       runChildren(reporting);
     } else {
-      this.hooks.once().sorted()
-          .runAround(this.description, reporting, () -> runChildren(reporting));
+      this.onceHooks.runAround(this.description, reporting, () -> runChildren(reporting));
     }
   }
 
@@ -224,44 +331,190 @@ public class Suite implements Parent, Child {
       child.run(reporting);
     } else if (childIsNotInFocus(child)) {
       reporting.fireTestIgnored(child.getDescription());
+    } else if (FailFast.instance().hasStopped()) {
+      reportIgnored(child.getDescription(), reporting);
     } else {
-      addLeafHook(this.hooks.forThisLevel().sorted(), child).runAround(child.getDescription(), reporting,
-          () -> runChildWithHooks(child, reporting));
+      final Object event = child.isAtomic() ? FlightRecording.beginSpec() : null;
+      final long started = System.nanoTime();
+      runChildInContext(child, reporting);
+      TimingHistory.instance().record(this.childPaths.get(child), System.nanoTime() - started);
+      FlightRecording.endSpec(event, this.childPaths.get(child), child.getDescription());
     }
   }
 
-  private boolean childIsNotInFocus(Child child) {
-    return !this.focusedChildren.isEmpty() && !this.focusedChildren.contains(child);
+  private static void reportIgnored(final Description description,
+      final RunReporting<Description, Failure> reporting) {
+    if (description.getChildren().isEmpty()) {
+      reporting.fireTestIgnored(description);
+    } else {
+      description.getChildren().forEach(child -> reportIgnored(child, reporting));
+    }
+  }
+
+  private void runChildInContext(final Child child,
+      final RunReporting<Description, Failure> reporting) {
+    if (!child.isAtomic()) {
+      runChildInFocus(child, this.nonAtomicChildHooks, reporting);
+    } else if (this.atomicChildHooks.needsExecutionContext()) {
+      // each atomic child has its own context for the values of its hooks
+      ExecutionContext.runWithin(new ExecutionContext(this.atomicChildHooks),
+          () -> runChildInFocus(child, this.atomicChildHooks, reporting));
+    } else {
+      runChildInFocus(child, this.atomicChildHooks, reporting);
+    }
+  }
+
+  /**
+   * The path of this suite - the name of its test class followed by the names of the suites
+   * leading to it.
+   * @return the path
+   */
+  String getPath() {
+    return this.path;
+  }
+
+  /**
+   * Whether running a child will run its specs, rather than just report them as ignored.
+   * @param child of this suite
+   * @return true if the child will run
+   */
+  boolean willRun(final Child child) {
+    return child.testCount() > 0 && !child.isEffectivelyIgnored() && !childIsNotInFocus(child)
+        && !FailFast.instance().hasStopped();
+  }
+
+  /**
+   * Run the {@code beforeAll} blocks of this suite on the calling thread, ahead of its specs.
+   * Those of the suites above it run first, as they would before its first spec, since its own
+   * set up may build on theirs. Each block still only runs once.
+   */
+  void prefetchSetUp() {
+    // sorted innermost first, so run them from the end
+    final Hooks setUp = getHooksFor(true).sorted();
+    for (int i = setUp.size() - 1; i >= 0; i--) {
+      final Hook hook = setUp.get(i).getHook();
+      if (hook instanceof SimpleHook) {
+        ((SimpleHook) hook).prefetchSetUp();
+      }
+    }
+  }
+
+  /**
+   * The children of this suite, ordered so that those which took longest in previous runs
+   * come first. For strategies which start several children at once.
+   * @return the children, longest first
+   */
+  List<Child> childrenLongestFirst() {
+    return TimingHistory.instance().longestFirst(this.children, this::pathOf);
+  }
+
+  /**
+   * Remove the atomic children below this suite which belong to other shards of the run,
+   * along with any suites left with nothing in them, so that this shard never runs their hooks.
+   *
+   * @param shard the shard of the run
+   */
+  public void selectShard(final Shard shard) {
+    final Map<Child, String> atomicChildren = new LinkedHashMap<>();
+    collectAtomicChildren(atomicChildren);
+    retainOnly(shard.select(this.path, new ArrayList<>(atomicChildren.keySet()),
+        atomicChildren::get));
+  }
+
+  /**
+   * Remove the children below this suite which should not run, along with any suites left
+   * with nothing in them, so that none of their hooks run. The steps of an atomic child are
+   * kept whole.
+   *
+   * @param shouldRun whether the child with a description should run
+   */
+  public void filter(final Predicate<Description> shouldRun) {
+    this.children.removeIf(child -> {
+      if (!shouldRun.test(child.getDescription())) {
+        return true;
+      }
+      if (child.isAtomic() || !(child instanceof Suite)) {
+        return false;
+      }
+      final Suite suite = (Suite) child;
+      final boolean wasEmpty = suite.children.isEmpty();
+      suite.filter(shouldRun);
+
+      return !wasEmpty && suite.children.isEmpty();
+    });
+  }
+
+  /**
+   * Put the children below this suite into a different order. The steps of an atomic child
+   * build on each other, so they stay in the order they were declared.
+   *
+   * @param order of the descriptions of the children
+   */
+  public void sort(final Comparator<Description> order) {
+    if (isAtomic()) {
+      return;
+    }
+    final Map<Child, Description> descriptions = new HashMap<>();
+    this.children.forEach(child -> descriptions.put(child, child.getDescription()));
+    this.children.sort(Comparator.comparing(descriptions::get, order));
+    this.children.stream()
+        .filter(child -> child instanceof Suite)
+        .forEach(child -> ((Suite) child).sort(order));
+  }
+
+  private void collectAtomicChildren(final Map<Child, String> paths) {
+    for (Child child : this.children) {
+      if (child.isAtomic()) {
+        paths.put(child, pathOf(child));
+      } else if (child instanceof Suite) {
+        ((Suite) child).collectAtomicChildren(paths);
+      }
+    }
   }
 
-  private void runChildWithHooks(final Child child, final RunReporting<Description, Failure> reporting) {
-    getHooksFor(child).sorted().runAround(child.getDescription(), reporting,
-        () -> child.run(reporting));
+  private void retainOnly(final Set<Child> selected) {
+    this.children.removeIf(child -> {
+      if (child.isAtomic()) {
+        return !selected.contains(child);
+      }
+      if (child instanceof Suite) {
+        final Suite suite = (Suite) child;
+        final boolean wasEmpty = suite.children.isEmpty();
+        suite.retainOnly(selected);
+
+        return !wasEmpty && suite.children.isEmpty();
+      }
 
+      return false;
+    });
   }
 
-  private Hooks addLeafHook(final Hooks hooks, final Child child) {
-    if (child.isLeaf()) {
-      hooks.add(testNotifier());
+  private String pathOf(final Child child) {
+    if (child instanceof Suite) {
+      return ((Suite) child).path;
     }
 
-    return hooks;
+    return this.path + "/" + child.getDescription().getMethodName();
+  }
+
+  private void runChildInFocus(final Child child, final HookChain hooksForChild,
+      final RunReporting<Description, Failure> reporting) {
+    (child.isLeaf() ? this.eachLeafHooks : this.eachChildHooks).runAround(child, hooksForChild,
+        reporting);
+  }
+
+  private boolean childIsNotInFocus(Child child) {
+    return !this.focusedChildren.isEmpty() && !this.focusedChildren.contains(child);
   }
 
   private HookContext testNotifier() {
     return new HookContext(testNotificationHook(), 0, HookContext.AppliesTo.ONCE,
-        HookContext.Precedence.ROOT);
+        HookContext.Precedence.ROOT, this.path);
   }
 
   private Hook testNotificationHook() {
-    return (description, notifier, block) -> {
-      notifier.fireTestStarted(description);
-      try {
-        block.run();
-      } finally {
-        notifier.fireTestFinished(description);
-      }
-    };
+    return SimpleHook.around((description, notifier) -> notifier.fireTestStarted(description),
+        (description, notifier) -> notifier.fireTestFinished(description));
   }
 
   @Override
@@ -0,0 +1,84 @@
+package com.greghaskins.spectrum.internal;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Serialises the reporting of a run, so that children running on several threads
+ * report to the decoratee one event at a time.
+ */
+public class SynchronizedRunDecorator<T, F> implements RunReporting<T, F> {
+  private final RunReporting<T, F> decoratee;
+
+  // a lock rather than a monitor, so that waiting virtual threads do not pin their carrier
+  private final Lock lock = new ReentrantLock();
+
+  /**
+   * Provide a synchronized version of the reporting, without wrapping it twice.
+   * @param reporting to make synchronized
+   * @param <T> type of description
+   * @param <F> type of failure
+   * @return reporting which is safe to call from several threads
+   */
+  public static <T, F> RunReporting<T, F> synchronizedReporting(RunReporting<T, F> reporting) {
+    if (reporting instanceof SynchronizedRunDecorator) {
+      return reporting;
+    }
+
+    return new SynchronizedRunDecorator<>(reporting);
+  }
+
+  private SynchronizedRunDecorator(RunReporting<T, F> decoratee) {
+    this.decoratee = decoratee;
+  }
+
+  @Override
+  public void fireTestIgnored(T description) {
+    lock.lock();
+    try {
+      decoratee.fireTestIgnored(description);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public void fireTestStarted(T description) {
+    lock.lock();
+    try {
+      decoratee.fireTestStarted(description);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public void fireTestFinished(T description) {
+    lock.lock();
+    try {
+      decoratee.fireTestFinished(description);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public void fireTestFailure(F failure) {
+    lock.lock();
+    try {
+      decoratee.fireTestFailure(failure);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public void fireTestAssumptionFailed(F failure) {
+    lock.lock();
+    try {
+      decoratee.fireTestAssumptionFailed(failure);
+    } finally {
+      lock.unlock();
+    }
+  }
+}
@@ -0,0 +1,186 @@
+package com.greghaskins.spectrum.internal;
+
+import static java.util.Comparator.comparingLong;
+import static java.util.stream.Collectors.toSet;
+
+import com.greghaskins.spectrum.Configure;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * Durations of test classes, suites and specs from earlier runs, kept in a small file under
+ * the project directory so that concurrent runs can start the longest work first. Each item
+ * is known by its path - the name of its test class followed by the names of the suites and
+ * spec leading to it. The history is only ever a hint, so a missing or unreadable file just
+ * means there is no history.
+ *
+ * <p>Nothing is recorded unless the history is asked for - with the
+ * {@link Configure#TIMINGS_FILE_PROPERTY} system property, or by something which runs work
+ * concurrently and so has a use for it calling {@link #enable()}.
+ */
+public final class TimingHistory {
+  private static final String DEFAULT_FILE = ".spectrum/timings.properties";
+
+  private static final TimingHistory instance = new TimingHistory(historyFile(),
+      System.getProperty(Configure.TIMINGS_FILE_PROPERTY) != null);
+
+  public static TimingHistory instance() {
+    return instance;
+  }
+
+  private final Optional<Path> file;
+  private final boolean enabledByProperty;
+  private volatile Map<String, Long> previousRuns;
+  private final Map<String, Long> thisRun = new ConcurrentHashMap<>();
+  private final AtomicBoolean saveOnExit = new AtomicBoolean();
+  private volatile boolean enabled;
+
+  TimingHistory(final Optional<Path> file, final boolean enabled) {
+    this.file = file;
+    this.previousRuns = file.map(TimingHistory::load).orElseGet(HashMap::new);
+    this.enabledByProperty = enabled && file.isPresent();
+    this.enabled = this.enabledByProperty;
+  }
+
+  /**
+   * Record the durations of this run from now on, to be written when the JVM exits. Does
+   * nothing when the {@link Configure#TIMINGS_FILE_PROPERTY} is set to an empty value.
+   */
+  public void enable() {
+    this.enabled = this.file.isPresent();
+  }
+
+  /**
+   * The duration of an item the last time it ran.
+   * @param path the path of the item
+   * @return the duration in milliseconds, or empty if it has not run before
+   */
+  public OptionalLong durationOf(final String path) {
+    final Long millis = this.previousRuns.get(path);
+
+    return millis == null ? OptionalLong.empty() : OptionalLong.of(millis);
+  }
+
+  /**
+   * Record how long an item took in this run, if the history is enabled. The history is written
+   * when the JVM exits.
+   * @param path the path of the item
+   * @param nanos how long it took
+   */
+  public void record(final String path, final long nanos) {
+    if (!this.enabled) {
+      return;
+    }
+    this.thisRun.put(path, TimeUnit.NANOSECONDS.toMillis(nanos));
+    if (this.saveOnExit.compareAndSet(false, true)) {
+      Runtime.getRuntime().addShutdownHook(new Thread(this::save, "spectrum-timing-history"));
+    }
+  }
+
+  /**
+   * Order items so the ones which took longest last time come first. Items with no history
+   * come before all others, as they could be the longest of all, and items which took the
+   * same time stay in their original order - so with no history nothing moves.
+   * @param items to order
+   * @param pathOf the path of each item
+   * @param <T> type of item
+   * @return a new list of the items, longest first
+   */
+  public <T> List<T> longestFirst(final Collection<T> items, final Function<T, String> pathOf) {
+    final List<T> ordered = new ArrayList<>(items);
+    ordered.sort(comparingLong(
+        (T item) -> durationOf(pathOf.apply(item)).orElse(Long.MAX_VALUE)).reversed());
+
+    return ordered;
+  }
+
+  /**
+   * Write the history of this run, and start another run, ordered by the one which has just
+   * finished.
+   */
+  public void finishRun() {
+    save();
+    this.previousRuns = this.file.map(TimingHistory::load).orElseGet(HashMap::new);
+    this.thisRun.clear();
+    this.enabled = this.enabledByProperty;
+  }
+
+  void save() {
+    if (!this.file.isPresent() || this.thisRun.isEmpty()) {
+      return;
+    }
+    final Path path = this.file.get();
+
+    // other JVMs may have run other classes meanwhile, so keep what is there now for those -
+    // but of the classes run here, only what was seen in this run, so the file doesn't grow
+    final Set<String> classesRun = this.thisRun.keySet().stream()
+        .map(TimingHistory::classOf)
+        .collect(toSet());
+    final Properties merged = new Properties();
+    load(path).forEach((key, millis) -> {
+      if (!classesRun.contains(classOf(key))) {
+        merged.setProperty(key, millis.toString());
+      }
+    });
+    this.thisRun.forEach((key, millis) -> merged.setProperty(key, millis.toString()));
+
+    try {
+      AtomicFile.write(path,
+          output -> merged.store(output, "Spectrum timing history - durations in milliseconds"));
+    } catch (IOException | RuntimeException ignored) {
+      // the history only improves scheduling - never fail a run over it
+    }
+  }
+
+  private static String classOf(final String path) {
+    final int end = path.indexOf('/');
+
+    return end < 0 ? path : path.substring(0, end);
+  }
+
+  private static Map<String, Long> load(final Path path) {
+    final Map<String, Long> durations = new HashMap<>();
+    if (!Files.isReadable(path)) {
+      return durations;
+    }
+
+    final Properties properties = new Properties();
+    try (InputStream input = Files.newInputStream(path)) {
+      properties.load(input);
+    } catch (IOException | RuntimeException unreadable) {
+      return durations;
+    }
+    properties.stringPropertyNames().forEach(key -> {
+      try {
+        durations.put(key, Long.parseLong(properties.getProperty(key)));
+      } catch (NumberFormatException ignored) {
+        // skip the entry
+      }
+    });
+
+    return durations;
+  }
+
+  private static Optional<Path> historyFile() {
+    final String file = System.getProperty(Configure.TIMINGS_FILE_PROPERTY, DEFAULT_FILE).trim();
+
+    return file.isEmpty() ? Optional.empty() : Optional.of(Paths.get(file));
+  }
+}
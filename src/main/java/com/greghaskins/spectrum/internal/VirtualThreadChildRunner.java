@@ -0,0 +1,64 @@
+package com.greghaskins.spectrum.internal;
+
+import static com.greghaskins.spectrum.internal.SynchronizedRunDecorator.synchronizedReporting;
+
+import com.greghaskins.spectrum.internal.hooks.ExecutionContext;
+
+import org.junit.runner.Description;
+import org.junit.runner.notification.Failure;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Strategy for running each child of a suite on its own thread - a virtual thread where the
+ * JVM supports them. At most {@code maxConcurrency} children run at once. The once hooks of
+ * the suite surround the whole of this, so an {@code afterAll} runs only once every child
+ * has finished. Children which took longest in previous runs are started first.
+ */
+final class VirtualThreadChildRunner implements Suite.ChildRunner {
+  private final int maxConcurrency;
+
+  /**
+   * Construct the runner.
+   * @param maxConcurrency the number of children which may run at once
+   */
+  VirtualThreadChildRunner(final int maxConcurrency) {
+    this.maxConcurrency = maxConcurrency;
+  }
+
+  @Override
+  public void runChildren(final Suite suite, final RunReporting<Description, Failure> reporting) {
+    final RunReporting<Description, Failure> synchronizedReporting = synchronizedReporting(reporting);
+    final Semaphore permits = new Semaphore(this.maxConcurrency);
+    final List<Thread> threads = new ArrayList<>(suite.children.size());
+
+    for (Child child : suite.childrenLongestFirst()) {
+      permits.acquireUninterruptibly();
+      threads.add(VirtualThreads.start(ExecutionContext.propagating(() -> {
+        try {
+          suite.runChild(child, synchronizedReporting);
+        } finally {
+          permits.release();
+        }
+      })));
+    }
+
+    threads.forEach(VirtualThreadChildRunner::joinUninterruptibly);
+  }
+
+  private static void joinUninterruptibly(final Thread thread) {
+    boolean interrupted = false;
+    while (thread.isAlive()) {
+      try {
+        thread.join();
+      } catch (InterruptedException interruption) {
+        interrupted = true;
+      }
+    }
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
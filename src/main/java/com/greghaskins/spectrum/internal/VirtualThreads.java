@@ -0,0 +1,32 @@
+package com.greghaskins.spectrum.internal;
+
+/**
+ * Starts threads for running children. This is the Java 8 version, which has no virtual
+ * threads and uses a daemon platform thread instead. The multi-release jar replaces it
+ * with a virtual thread version on Java 21 and above.
+ */
+final class VirtualThreads {
+  private VirtualThreads() {}
+
+  /**
+   * How many children of a suite run at once when no limit is given. Each child takes a
+   * platform thread here, so no more than there are processors to run them.
+   * @return the number of children
+   */
+  static int defaultConcurrency() {
+    return Runtime.getRuntime().availableProcessors();
+  }
+
+  /**
+   * Start a thread to run the task.
+   * @param task to run
+   * @return the started thread
+   */
+  static Thread start(final Runnable task) {
+    final Thread thread = new Thread(task, "spectrum-child");
+    thread.setDaemon(true);
+    thread.start();
+
+    return thread;
+  }
+}
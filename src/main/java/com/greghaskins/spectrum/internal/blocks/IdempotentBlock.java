@@ -2,10 +2,19 @@ package com.greghaskins.spectrum.internal.blocks;
 
 import com.greghaskins.spectrum.Block;
 
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A block which runs its inner block only once, then replays the outcome on every later run.
+ * When several threads run it at the same time, one of them runs the inner block and the
+ * others wait for its outcome.
+ */
 public final class IdempotentBlock implements Block {
 
   private final Block block;
-  private Block result;
+  private final Lock lock = new ReentrantLock();
+  private volatile Block result;
 
   public IdempotentBlock(final Block block) {
     this.block = block;
@@ -14,7 +23,15 @@ public final class IdempotentBlock implements Block {
   @Override
   public void run() throws Throwable {
     if (this.result == null) {
-      this.result = runBlockOnce(this.block);
+      // a lock rather than a monitor, so that waiting virtual threads do not pin their carrier
+      this.lock.lock();
+      try {
+        if (this.result == null) {
+          this.result = runBlockOnce(this.block);
+        }
+      } finally {
+        this.lock.unlock();
+      }
     }
     this.result.run();
   }
@@ -0,0 +1,27 @@
+package com.greghaskins.spectrum.internal.configuration;
+
+import com.greghaskins.spectrum.internal.Child;
+import com.greghaskins.spectrum.internal.Suite;
+
+/**
+ * Applies concurrent calculation of {@code eagerLet} values to a suite, and to any suites
+ * below it.
+ */
+public class BlockConcurrentEagerLets implements BlockConfigurable<BlockConcurrentEagerLets> {
+  @Override
+  public boolean inheritedByChild() {
+    return true;
+  }
+
+  @Override
+  public void applyTo(Child child, TaggingFilterCriteria state) {
+    if (child instanceof Suite) {
+      ((Suite) child).evaluateEagerLetsConcurrently();
+    }
+  }
+
+  @Override
+  public BlockConfigurable<BlockConcurrentEagerLets> merge(BlockConfigurable<?> other) {
+    return this;
+  }
+}
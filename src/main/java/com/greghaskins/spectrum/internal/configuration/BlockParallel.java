@@ -0,0 +1,51 @@
+package com.greghaskins.spectrum.internal.configuration;
+
+import com.greghaskins.spectrum.internal.Child;
+import com.greghaskins.spectrum.internal.Suite;
+
+import java.util.OptionalInt;
+
+/**
+ * Applies parallel execution to a suite. The children of the suite, and of any
+ * suites below it, run concurrently.
+ */
+public class BlockParallel implements BlockConfigurable<BlockParallel> {
+  private final OptionalInt threads;
+
+  /**
+   * Run in parallel with the default number of threads.
+   */
+  public BlockParallel() {
+    this.threads = OptionalInt.empty();
+  }
+
+  /**
+   * Run in parallel with a given number of threads.
+   * @param threads how many children may run at once
+   */
+  public BlockParallel(int threads) {
+    if (threads < 1) {
+      throw new IllegalArgumentException("Parallel execution needs at least one thread");
+    }
+    this.threads = OptionalInt.of(threads);
+  }
+
+  @Override
+  public boolean inheritedByChild() {
+    return true;
+  }
+
+  @Override
+  public void applyTo(Child child, TaggingFilterCriteria state) {
+    if (child instanceof Suite) {
+      ((Suite) child).runChildrenInParallel(threads);
+    }
+  }
+
+  @Override
+  public BlockConfigurable<BlockParallel> merge(BlockConfigurable<?> other) {
+    // my thread count supersedes any inherited one
+
+    return this;
+  }
+}
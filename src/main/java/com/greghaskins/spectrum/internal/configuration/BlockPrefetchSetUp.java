@@ -0,0 +1,28 @@
+package com.greghaskins.spectrum.internal.configuration;
+
+import com.greghaskins.spectrum.internal.Child;
+import com.greghaskins.spectrum.internal.Suite;
+
+/**
+ * Applies prefetching of set up to a suite. While each child of the suite, and of any suites
+ * below it, runs, the {@code beforeAll} blocks of the child suite after it start in the
+ * background.
+ */
+public class BlockPrefetchSetUp implements BlockConfigurable<BlockPrefetchSetUp> {
+  @Override
+  public boolean inheritedByChild() {
+    return true;
+  }
+
+  @Override
+  public void applyTo(Child child, TaggingFilterCriteria state) {
+    if (child instanceof Suite) {
+      ((Suite) child).prefetchSetUpOfChildren();
+    }
+  }
+
+  @Override
+  public BlockConfigurable<BlockPrefetchSetUp> merge(BlockConfigurable<?> other) {
+    return this;
+  }
+}
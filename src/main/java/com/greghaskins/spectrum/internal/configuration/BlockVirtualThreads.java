@@ -0,0 +1,52 @@
+package com.greghaskins.spectrum.internal.configuration;
+
+import com.greghaskins.spectrum.internal.Child;
+import com.greghaskins.spectrum.internal.Suite;
+
+import java.util.OptionalInt;
+
+/**
+ * Applies virtual thread execution to a suite. Each child of the suite, and of any
+ * suites below it, runs on its own virtual thread.
+ */
+public class BlockVirtualThreads implements BlockConfigurable<BlockVirtualThreads> {
+  private final OptionalInt maxConcurrency;
+
+  /**
+   * Run every child at once on virtual threads, or as many as there are processors on the
+   * platform threads of older JVMs.
+   */
+  public BlockVirtualThreads() {
+    this.maxConcurrency = OptionalInt.empty();
+  }
+
+  /**
+   * Run children at once, up to a limit.
+   * @param maxConcurrency how many children of each suite may run at once
+   */
+  public BlockVirtualThreads(int maxConcurrency) {
+    if (maxConcurrency < 1) {
+      throw new IllegalArgumentException("Virtual thread execution needs a concurrency of at least one");
+    }
+    this.maxConcurrency = OptionalInt.of(maxConcurrency);
+  }
+
+  @Override
+  public boolean inheritedByChild() {
+    return true;
+  }
+
+  @Override
+  public void applyTo(Child child, TaggingFilterCriteria state) {
+    if (child instanceof Suite) {
+      ((Suite) child).runChildrenOnVirtualThreads(maxConcurrency);
+    }
+  }
+
+  @Override
+  public BlockConfigurable<BlockVirtualThreads> merge(BlockConfigurable<?> other) {
+    // my limit supersedes any inherited one
+
+    return this;
+  }
+}
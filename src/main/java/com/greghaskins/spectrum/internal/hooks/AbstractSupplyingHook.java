@@ -14,12 +14,12 @@ import org.junit.runner.notification.Failure;
  * <p>Override {@link #before} or {@link #after}. Return the singleton value from the before method.
  * You can use this to write any plugin which needs to make a value visible to the specs.
  * This is not the only way to achieve that - you can also build from {@link SupplyingHook}
- * but this captures the template for a complex hook.
+ * but this captures the template for a complex hook. The value is held in the
+ * {@link ExecutionContext} of the running spec, so specs running at the same time each
+ * have their own.
  */
 abstract class AbstractSupplyingHook<T> implements SupplyingHook<T> {
 
-  private final Variable<T> value = new Variable<>();
-
   /**
    * Override this to supply behaviour for before the block is run.
    *
@@ -51,14 +51,15 @@ abstract class AbstractSupplyingHook<T> implements SupplyingHook<T> {
   @Override
   public void accept(final Description description, final RunReporting<Description, Failure> reporting,
       final Block block) throws Throwable {
+    final ExecutionContext context = ExecutionContext.current();
     try {
-      this.value.set(before());
+      context.store(this, new Variable<>(before()));
       block.run();
     } finally {
       try {
         after();
       } finally {
-        clear();
+        context.clear(this);
       }
     }
   }
@@ -67,11 +68,9 @@ abstract class AbstractSupplyingHook<T> implements SupplyingHook<T> {
   public T get() {
     assertSpectrumIsRunningTestsNotDeclaringThem();
 
-    return this.value.get();
-  }
+    final Variable<T> value = ExecutionContext.ofRunningChild().find(this);
 
-  private void clear() {
-    this.value.set(null);
+    return value == null ? null : value.get();
   }
 
   /**
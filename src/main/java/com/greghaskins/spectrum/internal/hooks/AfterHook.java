@@ -13,12 +13,6 @@ public interface AfterHook {
    * @return new {@link Hook} which runs the inner then the provided block
    */
   static Hook after(final Block block) {
-    return (description, notifier, inner) -> {
-      try {
-        inner.run();
-      } finally {
-        block.run();
-      }
-    };
+    return SimpleHook.after(block);
   }
 }
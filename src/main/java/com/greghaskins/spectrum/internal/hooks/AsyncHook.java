@@ -0,0 +1,73 @@
+package com.greghaskins.spectrum.internal.hooks;
+
+import com.greghaskins.spectrum.AsyncBlock;
+import com.greghaskins.spectrum.Block;
+import com.greghaskins.spectrum.internal.RunReporting;
+
+import org.junit.runner.Description;
+import org.junit.runner.notification.Failure;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A hook whose work around the block completes asynchronously, as a {@link CompletionStage}.
+ *
+ * <p>The block itself still runs on the thread which runs the hook, where the context of the
+ * running spec belongs, so the hook takes its place among the other hooks as any hook would.
+ * While the hook's stages are pending, that thread waits on a {@link CompletableFuture}, which
+ * a {@link java.util.concurrent.ForkJoinPool} counts as managed blocking - a parallel suite's
+ * pool starts another thread in the meantime, so the other children of the suite carry on.
+ */
+public final class AsyncHook implements Hook {
+  private final Function<AsyncBlock, ? extends CompletionStage<?>> around;
+
+  public AsyncHook(final Function<AsyncBlock, ? extends CompletionStage<?>> around) {
+    this.around = around;
+  }
+
+  /**
+   * Create a block which waits for an asynchronous step to complete.
+   * @param step starts the step
+   * @return a block which starts the step and fails if the step does
+   */
+  public static Block awaiting(final Supplier<? extends CompletionStage<?>> step) {
+    return () -> await(step.get());
+  }
+
+  @Override
+  public void accept(final Description description,
+      final RunReporting<Description, Failure> reporting, final Block block) throws Throwable {
+    final CompletableFuture<Void> blockRequested = new CompletableFuture<>();
+    final CompletableFuture<Void> blockFinished = new CompletableFuture<>();
+    final CompletionStage<?> finished = this.around.apply(() -> {
+      if (!blockRequested.complete(null)) {
+        throw new IllegalStateException("An asynchronous hook may only run its block once.");
+      }
+
+      return blockFinished;
+    });
+
+    await(CompletableFuture.anyOf(blockRequested, finished.toCompletableFuture()));
+    if (blockRequested.isDone()) {
+      try {
+        block.run();
+        blockFinished.complete(null);
+      } catch (final Throwable blockFailure) {
+        blockFinished.completeExceptionally(blockFailure);
+      }
+    }
+    await(finished);
+  }
+
+  private static void await(final CompletionStage<?> stage) throws Throwable {
+    try {
+      stage.toCompletableFuture().join();
+    } catch (final CompletionException failure) {
+      throw failure.getCause() == null ? failure : failure.getCause();
+    }
+  }
+}
@@ -13,9 +13,6 @@ public interface BeforeHook {
    * @return new {@link Hook} which runs the provided block then the inner
    */
   static Hook before(final Block block) {
-    return (description, notifier, inner) -> {
-      block.run();
-      inner.run();
-    };
+    return SimpleHook.before(block);
   }
 }
@@ -0,0 +1,130 @@
+package com.greghaskins.spectrum.internal.hooks;
+
+import com.greghaskins.spectrum.Block;
+import com.greghaskins.spectrum.Variable;
+import com.greghaskins.spectrum.internal.RunReporting;
+
+import org.junit.runner.Description;
+import org.junit.runner.notification.Failure;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * The {@code eagerLet} hooks declared one after another in a suite, whose values are calculated
+ * at the same time rather than in turn. The first value is calculated on the thread running the
+ * spec and the others on background threads, within the context of the spec. All of them have
+ * been calculated before the inner block runs.
+ *
+ * <p>If any of the values cannot be calculated, the spec fails with the failure of the first of
+ * them in declaration order - as it would if they had been calculated in turn - with the
+ * failures of any later ones added as suppressed exceptions.
+ *
+ * <p>The values are stored only once they have all been calculated, so the supplier of one
+ * cannot see the others. Values which depend on each other should be declared with
+ * {@code let}, or separated by another hook.
+ */
+public final class ConcurrentEagerLets implements Hook {
+  private static final ExecutorService evaluators = Executors.newCachedThreadPool(runnable -> {
+    final Thread thread = new Thread(runnable, "spectrum-eager-let");
+    thread.setDaemon(true);
+
+    return thread;
+  });
+
+  private final List<EagerLetHook<?>> eagerLets = new ArrayList<>();
+
+  public ConcurrentEagerLets(final EagerLetHook<?> first) {
+    this.eagerLets.add(first);
+  }
+
+  /**
+   * Add the next {@code eagerLet} declared in the suite.
+   * @param next the hook to calculate along with the others
+   */
+  public void add(final EagerLetHook<?> next) {
+    this.eagerLets.add(next);
+  }
+
+  @Override
+  public void accept(final Description description,
+      final RunReporting<Description, Failure> reporting, final Block block) throws Throwable {
+    final List<Object> values = calculateValues();
+    final ExecutionContext context = ExecutionContext.current();
+    try {
+      for (int i = 0; i < this.eagerLets.size(); i++) {
+        context.store(this.eagerLets.get(i), new Variable<>(values.get(i)));
+      }
+      block.run();
+    } finally {
+      this.eagerLets.forEach(context::clear);
+    }
+  }
+
+  private List<Object> calculateValues() throws Throwable {
+    final List<CompletableFuture<Object>> inBackground = new ArrayList<>();
+    for (EagerLetHook<?> eagerLet : this.eagerLets.subList(1, this.eagerLets.size())) {
+      inBackground.add(calculateInBackground(eagerLet));
+    }
+    final List<CompletableFuture<Object>> pending = new ArrayList<>(this.eagerLets.size());
+    pending.add(calculate(this.eagerLets.get(0)));
+    pending.addAll(inBackground);
+
+    final List<Object> values = new ArrayList<>(pending.size());
+    Throwable firstFailure = null;
+    for (CompletableFuture<Object> value : pending) {
+      try {
+        values.add(value.join());
+      } catch (final CompletionException failure) {
+        if (firstFailure == null) {
+          firstFailure = failure.getCause();
+        } else {
+          firstFailure.addSuppressed(failure.getCause());
+        }
+      }
+    }
+    if (firstFailure != null) {
+      throw firstFailure;
+    }
+
+    return values;
+  }
+
+  private static CompletableFuture<Object> calculateInBackground(final EagerLetHook<?> eagerLet) {
+    final CompletableFuture<Object> value = new CompletableFuture<>();
+    final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+    evaluators.execute(ExecutionContext.propagating(() -> {
+      // pool threads are shared, so run with the class loader of the thread running the spec
+      final Thread thread = Thread.currentThread();
+      final ClassLoader previous = thread.getContextClassLoader();
+      thread.setContextClassLoader(contextClassLoader);
+      try {
+        complete(value, eagerLet);
+      } finally {
+        thread.setContextClassLoader(previous);
+      }
+    }));
+
+    return value;
+  }
+
+  private static CompletableFuture<Object> calculate(final EagerLetHook<?> eagerLet) {
+    final CompletableFuture<Object> value = new CompletableFuture<>();
+    complete(value, eagerLet);
+
+    return value;
+  }
+
+  private static void complete(final CompletableFuture<Object> value,
+      final EagerLetHook<?> eagerLet) {
+    try {
+      value.complete(eagerLet.before());
+    } catch (final Throwable failure) {
+      value.completeExceptionally(failure);
+    }
+  }
+}
@@ -0,0 +1,232 @@
+package com.greghaskins.spectrum.internal.hooks;
+
+import com.greghaskins.spectrum.Block;
+import com.greghaskins.spectrum.Variable;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The values which hooks hold for the atomic child that is running. Each atomic child runs
+ * within its own context, so children running at the same time on different threads never
+ * see or clear each other's values.
+ *
+ * <p>A thread only has a context while one is given to it - Spectrum passes the context on to
+ * the threads it runs children and hooks on, such as the one which enforces a timeout. Other
+ * threads, such as those of an executor made by a spec, may outlive the child which made them,
+ * so they do not inherit its context. When one of them asks for the current context, it gets
+ * the innermost context of the children which are running, as long as they are all running
+ * within each other, as they do when nothing runs in parallel.
+ *
+ * <p>Contexts nest: a spec which itself runs specs - as Spectrum's own specs do - is the
+ * parent of their contexts, and its values remain visible to them.
+ */
+public final class ExecutionContext {
+  private static final ThreadLocal<ExecutionContext> current = new ThreadLocal<>();
+
+  // the contexts some thread is running within, with how many threads are doing so
+  private static final Map<ExecutionContext, Integer> running = new ConcurrentHashMap<>();
+
+  private final ExecutionContext parent;
+  private final int depth;
+  private final HookChain hooks;
+  private final boolean detached;
+  private final Map<Object, Variable<?>> values = new ConcurrentHashMap<>();
+
+  /**
+   * Construct a context for a child, nested within the current context of this thread.
+   * @param hooks the hooks which run around the child
+   */
+  public ExecutionContext(final HookChain hooks) {
+    this(current.get(), hooks, false);
+  }
+
+  private ExecutionContext(final ExecutionContext parent, final HookChain hooks,
+      final boolean detached) {
+    this.parent = parent;
+    this.depth = parent == null ? 0 : parent.depth + 1;
+    this.hooks = hooks;
+    this.detached = detached;
+  }
+
+  /**
+   * Provide the context of the child running on this thread. On a thread which was not given
+   * a context, this is the innermost context of the running children, if they are all running
+   * within each other. Otherwise it is a detached context, so nothing stored in it outlives
+   * the call.
+   * @return the current context
+   */
+  public static ExecutionContext current() {
+    final ExecutionContext context = current.get();
+    if (context != null) {
+      return context;
+    }
+    final ExecutionContext innermost = innermostRunning();
+
+    return innermost == null ? new ExecutionContext(null, HookChain.EMPTY, true) : innermost;
+  }
+
+  /**
+   * Provide the context of the child running on this thread, for a value which has to belong
+   * to one.
+   * @return the current context
+   * @throws IllegalStateException if the current context is detached, as it is on a thread
+   *         which was not given one while children run side by side
+   */
+  public static ExecutionContext ofRunningChild() {
+    final ExecutionContext context = current();
+    if (context.detached) {
+      throw new IllegalStateException("There is no running spec to hold the value of a hook "
+          + "on this thread. Give the work to other threads with "
+          + "ExecutionContext.propagating(), so it runs within the context of its spec.");
+    }
+
+    return context;
+  }
+
+  private static ExecutionContext innermostRunning() {
+    ExecutionContext innermost = null;
+    for (ExecutionContext context : running.keySet()) {
+      if (innermost == null || context.depth > innermost.depth) {
+        innermost = context;
+      }
+    }
+    if (innermost == null) {
+      return null;
+    }
+
+    final Set<ExecutionContext> enclosing = Collections.newSetFromMap(new IdentityHashMap<>());
+    for (ExecutionContext context = innermost; context != null; context = context.parent) {
+      enclosing.add(context);
+    }
+
+    // children running side by side leave no way to tell which one this thread is helping
+    return enclosing.containsAll(running.keySet()) ? innermost : null;
+  }
+
+  /**
+   * Run the runnable with the given context as the current one on this thread.
+   * @param context the context to use
+   * @param runnable what to run within it
+   */
+  public static void runWithin(final ExecutionContext context, final Runnable runnable) {
+    final ExecutionContext previous = enter(context);
+    try {
+      runnable.run();
+    } finally {
+      leave(context, previous);
+    }
+  }
+
+  private static ExecutionContext enter(final ExecutionContext context) {
+    final ExecutionContext previous = current.get();
+    if (context == null) {
+      current.remove();
+    } else {
+      current.set(context);
+      running.merge(context, 1, Integer::sum);
+    }
+
+    return previous;
+  }
+
+  private static void leave(final ExecutionContext context, final ExecutionContext previous) {
+    if (context != null) {
+      running.computeIfPresent(context, (key, threads) -> threads == 1 ? null : threads - 1);
+    }
+    // a pooled thread is left without a context, rather than one which has finished
+    if (previous == null) {
+      current.remove();
+    } else {
+      current.set(previous);
+    }
+  }
+
+  /**
+   * Wrap a runnable so that it runs within this thread's current context, even when it is
+   * run by another thread - such as one from a pool.
+   * @param runnable to wrap
+   * @return a runnable which uses the context of the thread that called this method
+   */
+  public static Runnable propagating(final Runnable runnable) {
+    final ExecutionContext context = current.get();
+
+    return () -> runWithin(context, runnable);
+  }
+
+  /**
+   * Wrap a block so that it runs within this thread's current context, even when it is run
+   * by another thread - such as the one which enforces a timeout.
+   * @param block to wrap
+   * @return a block which uses the context of the thread that called this method
+   */
+  public static Block propagatingBlock(final Block block) {
+    final ExecutionContext context = current.get();
+
+    return () -> {
+      final ExecutionContext previous = enter(context);
+      try {
+        block.run();
+      } finally {
+        leave(context, previous);
+      }
+    };
+  }
+
+  /**
+   * Find the context of the child whose hooks include the given hook.
+   * @param hook to look for
+   * @return the nearest context running the hook, or this one if there is none
+   */
+  public ExecutionContext contextRunning(final Hook hook) {
+    for (ExecutionContext context = this; context != null; context = context.parent) {
+      if (context.hooks.contains(hook)) {
+        return context;
+      }
+    }
+
+    return this;
+  }
+
+  /**
+   * Find the value stored by its owner, in this context or the ones it is nested within.
+   * @param owner the object which stored the value - usually a hook
+   * @param <T> type of the value
+   * @return the stored value, or null if there is none
+   */
+  @SuppressWarnings("unchecked")
+  public <T> Variable<T> find(final Object owner) {
+    for (ExecutionContext context = this; context != null; context = context.parent) {
+      final Variable<?> value = context.values.get(owner);
+      if (value != null) {
+        return (Variable<T>) value;
+      }
+    }
+
+    return null;
+  }
+
+  /**
+   * Store a value for its owner.
+   * @param owner the object storing the value - usually a hook
+   * @param value the value to store
+   * @param <T> type of the value
+   * @return the stored value, for fluent use
+   */
+  public <T> Variable<T> store(final Object owner, final Variable<T> value) {
+    this.values.put(owner, value);
+
+    return value;
+  }
+
+  /**
+   * Remove the value stored by its owner.
+   * @param owner the object which stored the value
+   */
+  public void clear(final Object owner) {
+    this.values.remove(owner);
+  }
+}
@@ -0,0 +1,152 @@
+package com.greghaskins.spectrum.internal.hooks;
+
+import com.greghaskins.spectrum.ThrowingSupplier;
+import com.greghaskins.spectrum.internal.blocks.IdempotentBlock;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.Serializable;
+import java.lang.reflect.InvocationTargetException;
+import java.util.function.UnaryOperator;
+
+/**
+ * Implementation of {@code letForked} as a supplying hook.
+ *
+ * <p>Semantics are the same as with {@link LetHook}, except that the supplier is called only
+ * once for the suite which declares the hook. That value is kept as a template, and each spec
+ * is given its own copy of it. The template is dropped once the suite has finished - see
+ * {@link #releaseTemplate()}.
+ */
+public class ForkedLetHook<T> extends LetHook<T> {
+  private final Template<T> template;
+
+  public ForkedLetHook(final ThrowingSupplier<T> supplier, final UnaryOperator<T> copier) {
+    this(new Template<>(supplier), copier);
+  }
+
+  private ForkedLetHook(final Template<T> template, final UnaryOperator<T> copier) {
+    super(() -> copier.apply(template.get()));
+    this.template = template;
+  }
+
+  /**
+   * Drop the template, so that the next spec to need the value builds it again.
+   */
+  public void releaseTemplate() {
+    this.template.release();
+  }
+
+  @Override
+  protected String getExceptionMessageIfUsedAtDeclarationTime() {
+    return "Cannot use the value from letForked() in a suite declaration. "
+        + "It may only be used in the context of a running spec.";
+  }
+
+  /**
+   * Copy a value the best way it allows - by serializing and deserializing it if it is
+   * {@link Serializable}, which copies everything it refers to, or else with its public
+   * {@code clone} method if it is {@link Cloneable}.
+   * @param value to copy
+   * @param <T> type of the value
+   * @return the copy
+   * @throws IllegalArgumentException if the value cannot be copied either way
+   */
+  public static <T> T copyOf(final T value) {
+    if (value == null) {
+      return null;
+    }
+    if (value instanceof Serializable) {
+      return serializedCopyOf(value);
+    }
+    if (value instanceof Cloneable) {
+      return clonedCopyOf(value);
+    }
+    throw new IllegalArgumentException(value.getClass().getName()
+        + " is neither Serializable nor Cloneable, so letForked() needs a copier for it");
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> T serializedCopyOf(final T value) {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try {
+      try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+        output.writeObject(value);
+      }
+      try (ObjectInputStream input = new ClassLoaderObjectInputStream(
+          new ByteArrayInputStream(bytes.toByteArray()), value.getClass().getClassLoader())) {
+        return (T) input.readObject();
+      }
+    } catch (IOException | ClassNotFoundException notCopied) {
+      throw new IllegalArgumentException("Could not copy " + value.getClass().getName()
+          + " by serializing it - give letForked() a copier for it", notCopied);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> T clonedCopyOf(final T value) {
+    try {
+      return (T) value.getClass().getMethod("clone").invoke(value);
+    } catch (NoSuchMethodException | IllegalAccessException notCloneable) {
+      throw new IllegalArgumentException(value.getClass().getName()
+          + " has no public clone method, so letForked() needs a copier for it", notCloneable);
+    } catch (InvocationTargetException cloneFailed) {
+      throw new IllegalArgumentException("Could not clone " + value.getClass().getName(),
+          cloneFailed.getCause());
+    }
+  }
+
+  /**
+   * The value built by the supplier, built at most once until it is released. If building it
+   * fails, the failure is replayed to every spec rather than building it again for each.
+   */
+  private static final class Template<T> {
+    private final ThrowingSupplier<T> supplier;
+    private volatile IdempotentBlock build;
+    private volatile T value;
+
+    Template(final ThrowingSupplier<T> supplier) {
+      this.supplier = supplier;
+      release();
+    }
+
+    T get() throws Throwable {
+      this.build.run();
+
+      return this.value;
+    }
+
+    void release() {
+      this.value = null;
+      this.build = new IdempotentBlock(() -> this.value = this.supplier.getOrThrow());
+    }
+  }
+
+  /**
+   * Resolves the classes of a copy with the class loader of the original, which may not be
+   * one the stream would find by itself.
+   */
+  private static final class ClassLoaderObjectInputStream extends ObjectInputStream {
+    private final ClassLoader classLoader;
+
+    ClassLoaderObjectInputStream(final InputStream input, final ClassLoader classLoader)
+        throws IOException {
+      super(input);
+      this.classLoader = classLoader;
+    }
+
+    @Override
+    protected Class<?> resolveClass(final ObjectStreamClass description)
+        throws IOException, ClassNotFoundException {
+      try {
+        return Class.forName(description.getName(), false, this.classLoader);
+      } catch (ClassNotFoundException notInThatLoader) {
+        return super.resolveClass(description);
+      }
+    }
+  }
+}
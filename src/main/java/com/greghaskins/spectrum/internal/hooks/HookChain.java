@@ -0,0 +1,281 @@
+package com.greghaskins.spectrum.internal.hooks;
+
+import static com.greghaskins.spectrum.internal.blocks.NotifyingBlock.wrapWithReporting;
+
+import com.greghaskins.spectrum.Block;
+import com.greghaskins.spectrum.Variable;
+import com.greghaskins.spectrum.internal.Child;
+import com.greghaskins.spectrum.internal.FlightRecording;
+import com.greghaskins.spectrum.internal.RunReporting;
+
+import org.junit.AssumptionViolatedException;
+import org.junit.runner.Description;
+import org.junit.runner.notification.Failure;
+
+import java.util.List;
+
+/**
+ * Hooks compiled into the chain of responsibility which runs them around a block. The chain is
+ * compiled once, when declaration has finished, and can then be run any number of times - from
+ * any number of threads at once, as it never changes.
+ *
+ * <p>A chain made only of {@link SimpleHook}s - including an empty chain - runs its hooks in a
+ * loop, so running it allocates nothing. Other chains build a block for each of their hooks.
+ *
+ * <p>When {@link HookTimings} are enabled, each hook's own time - not counting what it runs
+ * around - is recorded against it. Each hook also emits a {@link FlightRecording} event when
+ * Flight Recorder is recording them.
+ */
+public final class HookChain {
+  static final HookChain EMPTY = new HookChain(new Hooks());
+
+  // the innermost hook first, as in the list they were compiled from
+  private final HookContext[] contexts;
+  private final Hook[] hooks;
+  private final boolean[] reportsInner;
+  private final SimpleHook[] simpleHooks;
+  private final HookTimings timings;
+
+  HookChain(final List<HookContext> contexts) {
+    this(contexts, HookTimings.instance());
+  }
+
+  HookChain(final List<HookContext> contexts, final HookTimings timings) {
+    this.contexts = contexts.toArray(new HookContext[0]);
+    this.hooks = contexts.stream().map(HookContext::getHook).toArray(Hook[]::new);
+    this.reportsInner = new boolean[this.hooks.length];
+    for (int i = 1; i < this.hooks.length; i++) {
+      this.reportsInner[i] = !this.hooks[i - 1].requiresUnreportedInnerBlock();
+    }
+    this.simpleHooks = allSimple(this.hooks) ? toSimpleHooks(this.hooks) : null;
+    this.timings = timings;
+    contexts.forEach(timings::register);
+  }
+
+  /**
+   * Is the hook part of this chain.
+   * @param hook to look for
+   * @return true if the chain runs the hook
+   */
+  public boolean contains(final Hook hook) {
+    for (Hook each : this.hooks) {
+      if (each == hook) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  /**
+   * Do any of the hooks keep values in the {@link ExecutionContext} of the child they run
+   * around. Simple hooks never do.
+   * @return true if the child needs a context of its own
+   */
+  public boolean needsExecutionContext() {
+    return this.simpleHooks == null;
+  }
+
+  /**
+   * Execute the block within the chain, reporting any failure.
+   * @param description test node being run
+   * @param reporting test result notifier
+   * @param block to execute
+   */
+  public void runAround(final Description description,
+      final RunReporting<Description, Failure> reporting, final Block block) {
+    run(description, reporting, block, null, null);
+  }
+
+  /**
+   * Run the child within the chain, reporting any failure.
+   * @param child to run
+   * @param reporting test result notifier
+   */
+  public void runAround(final Child child, final RunReporting<Description, Failure> reporting) {
+    run(child.getDescription(), reporting, null, child, null);
+  }
+
+  /**
+   * Run the child within the inner chain, within this one, reporting any failure.
+   * @param child to run
+   * @param inner the chain which runs closest around the child
+   * @param reporting test result notifier
+   */
+  public void runAround(final Child child, final HookChain inner,
+      final RunReporting<Description, Failure> reporting) {
+    run(child.getDescription(), reporting, null, child, inner);
+  }
+
+  private void run(final Description description,
+      final RunReporting<Description, Failure> reporting, final Block block, final Child child,
+      final HookChain inner) {
+    try {
+      if (this.simpleHooks != null) {
+        runSimple(this.simpleHooks.length - 1, description, reporting, block, child, inner);
+      } else {
+        runAroundInternal(description, reporting,
+            () -> runTarget(description, reporting, block, child, inner));
+      }
+    } catch (final AssumptionViolatedException assumptionViolation) {
+      reporting.fireTestAssumptionFailed(new Failure(description, assumptionViolation));
+    } catch (final Throwable throwable) {
+      reporting.fireTestFailure(new Failure(description, throwable));
+    }
+  }
+
+  private static void runTarget(final Description description,
+      final RunReporting<Description, Failure> reporting, final Block block, final Child child,
+      final HookChain inner) throws Throwable {
+    if (block != null) {
+      block.run();
+    } else if (inner != null) {
+      inner.run(description, reporting, null, child, null);
+    } else {
+      child.run(reporting);
+    }
+  }
+
+  private void runSimple(final int index, final Description description,
+      final RunReporting<Description, Failure> reporting, final Block block, final Child child,
+      final HookChain inner) throws Throwable {
+    if (index < 0) {
+      runTarget(description, reporting, block, child, inner);
+
+      return;
+    }
+
+    final SimpleHook hook = this.simpleHooks[index];
+    // the time of the hook is the time outside the inner, which is taken away from it
+    long spent = -this.timings.now();
+    try {
+      runBefore(index, description, reporting);
+      spent += this.timings.now();
+      try {
+        if (index == 0) {
+          runSimple(index - 1, description, reporting, block, child, inner);
+        } else {
+          // as in the chain of blocks, each inner hook reports its own failure
+          runSimpleAndReport(index - 1, description, reporting, block, child, inner);
+        }
+      } finally {
+        spent -= this.timings.now();
+        runAfter(index, description, reporting);
+      }
+    } finally {
+      spent += this.timings.now();
+      this.timings.record(hook, spent);
+    }
+  }
+
+  private void runBefore(final int index, final Description description,
+      final RunReporting<Description, Failure> reporting) throws Throwable {
+    final Object event = FlightRecording.beginHook();
+    try {
+      this.simpleHooks[index].runBefore(description, reporting);
+    } finally {
+      FlightRecording.endHook(event, this.contexts[index], "before", description);
+    }
+  }
+
+  private void runAfter(final int index, final Description description,
+      final RunReporting<Description, Failure> reporting) throws Throwable {
+    final Object event = FlightRecording.beginHook();
+    try {
+      this.simpleHooks[index].runAfter(description, reporting);
+    } finally {
+      FlightRecording.endHook(event, this.contexts[index], "after", description);
+    }
+  }
+
+  private void runSimpleAndReport(final int index, final Description description,
+      final RunReporting<Description, Failure> reporting, final Block block, final Child child,
+      final HookChain inner) throws Throwable {
+    try {
+      runSimple(index, description, reporting, block, child, inner);
+    } catch (final AssumptionViolatedException assumptionViolation) {
+      reporting.fireTestAssumptionFailed(new Failure(description, assumptionViolation));
+      throw assumptionViolation;
+    } catch (final Throwable throwable) {
+      reporting.fireTestFailure(new Failure(description, throwable));
+      throw throwable;
+    }
+  }
+
+  private void runAroundInternal(final Description description,
+      final RunReporting<Description, Failure> reporting, final Block block) throws Throwable {
+    Variable<Boolean> hooksRememberedToRunTheInner = new Variable<>(false);
+
+    runFrom(this.hooks.length - 1, description, reporting, block, hooksRememberedToRunTheInner);
+
+    if (!hooksRememberedToRunTheInner.get()) {
+      throw new RuntimeException("At least one of the test hooks did not run the test block.");
+    }
+  }
+
+  private void runFrom(final int index, final Description description,
+      final RunReporting<Description, Failure> reporting, final Block block,
+      final Variable<Boolean> hooksRememberedToRunTheInner) throws Throwable {
+    if (index < 0) {
+      hooksRememberedToRunTheInner.set(true);
+      block.run();
+
+      return;
+    }
+
+    final Block inner =
+        () -> runFrom(index - 1, description, reporting, block, hooksRememberedToRunTheInner);
+    final Object event = FlightRecording.beginHook();
+    try {
+      runHook(index, description, reporting, inner);
+    } finally {
+      FlightRecording.endHook(event, this.contexts[index], "around", description);
+    }
+  }
+
+  private void runHook(final int index, final Description description,
+      final RunReporting<Description, Failure> reporting, final Block inner) throws Throwable {
+    if (!this.timings.isEnabled()) {
+      this.hooks[index].accept(description, reporting,
+          this.reportsInner[index] ? wrapWithReporting(description, reporting, inner) : inner);
+
+      return;
+    }
+
+    final long[] innerNanos = new long[1];
+    final Block timedInner = () -> {
+      final long started = System.nanoTime();
+      try {
+        inner.run();
+      } finally {
+        innerNanos[0] += System.nanoTime() - started;
+      }
+    };
+    final long started = System.nanoTime();
+    try {
+      this.hooks[index].accept(description, reporting, this.reportsInner[index]
+          ? wrapWithReporting(description, reporting, timedInner) : timedInner);
+    } finally {
+      this.timings.record(this.hooks[index], System.nanoTime() - started - innerNanos[0]);
+    }
+  }
+
+  private static boolean allSimple(final Hook[] hooks) {
+    for (Hook hook : hooks) {
+      if (!(hook instanceof SimpleHook)) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  private static SimpleHook[] toSimpleHooks(final Hook[] hooks) {
+    final SimpleHook[] simpleHooks = new SimpleHook[hooks.length];
+    for (int i = 0; i < hooks.length; i++) {
+      simpleHooks[i] = (SimpleHook) hooks[i];
+    }
+
+    return simpleHooks;
+  }
+}
@@ -16,6 +16,8 @@ public class HookContext implements Comparable<HookContext> {
   private final int sequenceNumber;
   private final Precedence precedence;
   private final int hierarchyDepth;
+  private final String declaredIn;
+  private String kind;
 
   private static final AtomicInteger SEQUENCE_GENERATOR = new AtomicInteger();
 
@@ -102,11 +104,25 @@ public class HookContext implements Comparable<HookContext> {
    */
   public HookContext(final Hook hook, final int hierarchyDepth,
       final AppliesTo appliesTo, final Precedence precedence) {
+    this(hook, hierarchyDepth, appliesTo, precedence, "");
+  }
+
+  /**
+   * Construct a hook context for a hook declared in a suite.
+   * @param hook the hook being wrapped
+   * @param hierarchyDepth where in the hierarchy this was created
+   * @param appliesTo where in the lifecycle is this hook applied?
+   * @param precedence the importance of this within the lifecycle
+   * @param declaredIn the path of the suite which declared the hook
+   */
+  public HookContext(final Hook hook, final int hierarchyDepth,
+      final AppliesTo appliesTo, final Precedence precedence, final String declaredIn) {
     this.hook = hook;
     this.appliesTo = appliesTo;
     this.sequenceNumber = SEQUENCE_GENERATOR.incrementAndGet();
     this.precedence = precedence;
     this.hierarchyDepth = hierarchyDepth;
+    this.declaredIn = declaredIn;
   }
 
   /**
@@ -117,6 +133,71 @@ public class HookContext implements Comparable<HookContext> {
     return hook;
   }
 
+  /**
+   * Where in the lifecycle the hook is applied.
+   * @return what the hook applies to
+   */
+  public AppliesTo getAppliesTo() {
+    return appliesTo;
+  }
+
+  /**
+   * The importance of the hook within the lifecycle.
+   * @return the precedence
+   */
+  public Precedence getPrecedence() {
+    return precedence;
+  }
+
+  /**
+   * Where in the hierarchy the hook was declared.
+   * @return the depth of the declaration
+   */
+  public int getHierarchyDepth() {
+    return hierarchyDepth;
+  }
+
+  /**
+   * The suite which declared the hook.
+   * @return the path of the suite, or empty if the hook was not declared in one
+   */
+  public String getDeclaredIn() {
+    return declaredIn;
+  }
+
+  /**
+   * What sort of hook this is, such as {@code beforeAll} or {@code let}, for reporting.
+   * @return the sort of hook
+   */
+  public String getKind() {
+    if (kind == null) {
+      kind = kindOf(hook);
+    }
+
+    return kind;
+  }
+
+  private String kindOf(final Hook hook) {
+    if (hook instanceof SimpleHook) {
+      final String kind = ((SimpleHook) hook).kind();
+
+      return kind.equals("after") && isOnce() ? "afterAll" : kind;
+    }
+    if (hook instanceof LetHook || hook instanceof EagerLetHook) {
+      return "let";
+    }
+
+    // hooks written as lambdas are named after the class which declares them, such as the
+    // RuleContext of JUnit rules, apart from those made from blocks by Hook.from
+    final String name = hook.getClass().getSimpleName();
+    final int lambda = name.indexOf("$$Lambda");
+    if (lambda < 0) {
+      return name;
+    }
+
+    return name.startsWith("Hook$$") ? "around" : name.substring(0, lambda);
+  }
+
   /**
    * Does this hook apply only to atomic items. Atomic hooks will propagate
    * down to the most atomic level.
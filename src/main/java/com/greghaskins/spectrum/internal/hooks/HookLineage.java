@@ -0,0 +1,46 @@
+package com.greghaskins.spectrum.internal.hooks;
+
+/**
+ * The hooks which a suite passes down to everything below it - the atomic hooks of the suite
+ * and of each suite above it. Each lineage points at the lineage of the parent suite rather
+ * than copying it, so passing hooks down a generation costs the same at any depth, and a
+ * whole tree of suites shares the lineage of its root.
+ *
+ * <p>A lineage refers to the hooks of its suite rather than to a copy of them, so it also
+ * passes down hooks which are declared after the suites below it.
+ */
+public final class HookLineage {
+  public static final HookLineage NONE = new HookLineage(null, new Hooks());
+
+  private final HookLineage parent;
+  private final Hooks hooks;
+
+  private HookLineage(final HookLineage parent, final Hooks hooks) {
+    this.parent = parent;
+    this.hooks = hooks;
+  }
+
+  /**
+   * Extend this lineage with the hooks of a suite below it.
+   * @param hooks of the suite, of which only the atomic ones are passed down
+   * @return the lineage of the suite
+   */
+  public HookLineage inheritedBy(final Hooks hooks) {
+    return new HookLineage(this, hooks);
+  }
+
+  /**
+   * Collect the hooks passed down to a suite along with its own hooks.
+   * @param own the hooks of the suite which inherits this lineage
+   * @return a new list of the inherited hooks followed by its own
+   */
+  public Hooks plus(final Hooks own) {
+    final Hooks all = new Hooks();
+    for (HookLineage lineage = this; lineage != null; lineage = lineage.parent) {
+      lineage.hooks.stream().filter(HookContext::isAtomicOnly).forEach(all::add);
+    }
+    all.addAll(own);
+
+    return all;
+  }
+}
@@ -0,0 +1,292 @@
+package com.greghaskins.spectrum.internal.hooks;
+
+import static java.util.Comparator.comparingLong;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.summingLong;
+
+import com.greghaskins.spectrum.Configure;
+import com.greghaskins.spectrum.internal.LogLinearHistogram;
+import com.greghaskins.spectrum.internal.Metrics;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Where the time of a run goes - how long each declared hook took, attributed to its
+ * precedence, its depth in the hierarchy and the suite which declared it, and how long the
+ * bodies of the specs in each suite took. A hook's time is its own: the hooks and specs it runs
+ * around are not counted in it. The time taken to build a {@code let} value is counted against
+ * its {@code let}, and also within the body of the spec which first needed it.
+ *
+ * <p>Timing is off unless the {@link Configure#HOOK_TIMINGS_PROPERTY} system property is
+ * {@code true}, in which case the totals are printed at the end of the run - to stderr when the
+ * JVM exits, unless a runner has already printed them in its own report. The timings are also
+ * collected, without being printed, for the {@link Metrics} of the run when there are any.
+ */
+public final class HookTimings {
+  private static final HookTimings instance =
+      new HookTimings(Boolean.getBoolean(Configure.HOOK_TIMINGS_PROPERTY) || Metrics.isEnabled(),
+          Boolean.getBoolean(Configure.HOOK_TIMINGS_PROPERTY));
+
+  public static HookTimings instance() {
+    return instance;
+  }
+
+  private final boolean enabled;
+  private final boolean printed;
+  private final Map<Hook, Totals> hooks = new ConcurrentHashMap<>();
+  private final Map<String, Totals> bodies = new ConcurrentHashMap<>();
+  private final AtomicBoolean printOnExit = new AtomicBoolean();
+  private final LongAdder unprinted = new LongAdder();
+
+  HookTimings(final boolean enabled) {
+    this(enabled, enabled);
+  }
+
+  HookTimings(final boolean enabled, final boolean printed) {
+    this.enabled = enabled;
+    this.printed = printed;
+  }
+
+  /**
+   * Are hooks being timed in this run.
+   * @return true if the timings are being collected
+   */
+  public boolean isEnabled() {
+    return this.enabled;
+  }
+
+  /**
+   * The time now, if hooks are being timed.
+   * @return {@link System#nanoTime()}, or zero when nothing is being timed
+   */
+  public long now() {
+    return this.enabled ? System.nanoTime() : 0;
+  }
+
+  /**
+   * Make the hook of a context known, so that its time can be attributed to where it was
+   * declared.
+   * @param context the context of the hook
+   */
+  void register(final HookContext context) {
+    if (this.enabled) {
+      this.hooks.computeIfAbsent(context.getHook(), hook -> new Totals(context.getKind(),
+          context.getPrecedence().name(), Integer.toString(context.getHierarchyDepth()),
+          context.getAppliesTo().name(), context.getDeclaredIn()));
+    }
+  }
+
+  /**
+   * Record one run of a hook.
+   * @param hook which ran
+   * @param nanos the time the hook took, not counting what it ran around
+   */
+  void record(final Hook hook, final long nanos) {
+    if (this.enabled) {
+      add(this.hooks.get(hook), nanos, 1);
+    }
+  }
+
+  /**
+   * Add to the time of a hook without counting another run of it - such as the time taken
+   * to build a value it supplies.
+   * @param hook which took the time
+   * @param nanos how long it took
+   */
+  void addTime(final Hook hook, final long nanos) {
+    if (this.enabled) {
+      add(this.hooks.get(hook), nanos, 0);
+    }
+  }
+
+  /**
+   * Record the body of a spec.
+   * @param suite the path of the suite the spec belongs to
+   * @param nanos how long the body took
+   */
+  public void recordBody(final String suite, final long nanos) {
+    if (this.enabled) {
+      add(this.bodies.computeIfAbsent(suite, path -> new Totals("body", "", "", "", path)),
+          nanos, 1);
+    }
+  }
+
+  /**
+   * Print the totals recorded since they were last printed, if there are any.
+   * @param output where to print them
+   */
+  public synchronized void printReport(final PrintStream output) {
+    if (!this.printed || this.unprinted.sum() == 0) {
+      return;
+    }
+    this.unprinted.reset();
+
+    final List<Totals> rows = new ArrayList<>();
+    rows.addAll(this.hooks.values());
+    rows.addAll(this.bodies.values());
+    rows.removeIf(row -> row.runs.sum() == 0);
+    rows.sort(comparingLong((Totals row) -> row.nanos.sum()).reversed());
+
+    output.println();
+    output.println("Hook timings:");
+    final Map<String, Long> byPrecedence = rows.stream().collect(groupingBy(
+        row -> row.precedence.isEmpty() ? "spec bodies" : row.precedence, TreeMap::new,
+        summingLong(row -> row.nanos.sum())));
+    byPrecedence.forEach((precedence, nanos) ->
+        output.println(String.format("  %-28s %10s ms", precedence, millis(nanos))));
+    output.println();
+    output.println(String.format("  %10s %8s %10s  %-16s %-26s %5s  %-11s %s", "total ms",
+        "runs", "mean ms", "hook", "precedence", "depth", "applies to", "suite"));
+    rows.forEach(row -> output.println(row.format()));
+    output.println();
+    output.flush();
+  }
+
+  /**
+   * Print the totals of this run, and start counting again from nothing.
+   * @param output where to print them
+   */
+  public synchronized void finishRun(final PrintStream output) {
+    printReport(output);
+    this.hooks.clear();
+    this.bodies.clear();
+    this.unprinted.reset();
+  }
+
+  /**
+   * The timings of the hooks which have run.
+   * @return the timing of each hook
+   */
+  public List<Timing> hookTimings() {
+    final List<Timing> timings = new ArrayList<>();
+    this.hooks.values().stream().filter(totals -> totals.runs.sum() > 0).forEach(timings::add);
+
+    return timings;
+  }
+
+  /**
+   * The total time recorded against a hook.
+   * @param hook to look up
+   * @return the time in nanoseconds, or zero if it has not run
+   */
+  long nanosOf(final Hook hook) {
+    final Totals totals = this.hooks.get(hook);
+
+    return totals == null ? 0 : totals.nanos.sum();
+  }
+
+  /**
+   * The number of times a hook has run.
+   * @param hook to look up
+   * @return how many runs were recorded
+   */
+  long runsOf(final Hook hook) {
+    final Totals totals = this.hooks.get(hook);
+
+    return totals == null ? 0 : totals.runs.sum();
+  }
+
+  private void add(final Totals totals, final long nanos, final int runs) {
+    if (totals == null) {
+      return;
+    }
+    totals.nanos.add(nanos);
+    totals.runs.add(runs);
+    totals.histogram.record(TimeUnit.NANOSECONDS.toMicros(nanos));
+    this.unprinted.increment();
+    if (this == instance && this.printed && this.printOnExit.compareAndSet(false, true)) {
+      Runtime.getRuntime().addShutdownHook(
+          new Thread(() -> printReport(System.err), "spectrum-hook-timings"));
+    }
+  }
+
+  private static String millis(final long nanos) {
+    return String.format("%.1f", nanos / (double) TimeUnit.MILLISECONDS.toNanos(1));
+  }
+
+  /**
+   * The timing of one hook, or of the spec bodies of one suite.
+   */
+  public interface Timing {
+    /**
+     * What sort of hook this is.
+     * @return the kind, as from {@link HookContext#getKind()}
+     */
+    String getKind();
+
+    /**
+     * The precedence of the hook.
+     * @return the name of the precedence
+     */
+    String getPrecedence();
+
+    /**
+     * The suite which declared the hook.
+     * @return the path of the suite
+     */
+    String getSuite();
+
+    /**
+     * The duration of each run of the hook, and of each value it built.
+     * @return the histogram of durations
+     */
+    LogLinearHistogram getHistogram();
+  }
+
+  private static final class Totals implements Timing {
+    private final String kind;
+    private final String precedence;
+    private final String depth;
+    private final String appliesTo;
+    private final String suite;
+    private final LongAdder nanos = new LongAdder();
+    private final LongAdder runs = new LongAdder();
+    private final LogLinearHistogram histogram = new LogLinearHistogram();
+
+    Totals(final String kind, final String precedence, final String depth,
+        final String appliesTo, final String suite) {
+      this.kind = kind;
+      this.precedence = precedence;
+      this.depth = depth;
+      this.appliesTo = appliesTo;
+      this.suite = suite;
+    }
+
+    @Override
+    public String getKind() {
+      return this.kind;
+    }
+
+    @Override
+    public String getPrecedence() {
+      return this.precedence;
+    }
+
+    @Override
+    public String getSuite() {
+      return this.suite;
+    }
+
+    @Override
+    public LogLinearHistogram getHistogram() {
+      return this.histogram;
+    }
+
+    String format() {
+      final long total = this.nanos.sum();
+      final long count = this.runs.sum();
+
+      return String.format("  %10s %8d %10s  %-16s %-26s %5s  %-11s %s", millis(total), count,
+          millis(total / Math.max(count, 1)), this.kind, this.precedence, this.depth,
+          this.appliesTo, this.suite);
+    }
+  }
+}
@@ -18,16 +18,14 @@ import org.junit.runner.notification.Failure;
  *
  * <p>Values are lazily initialized and then cached, so a value is not calculated until the first
  * time it is needed in a given test. Subsequent fetches of the value within the same test will
- * return the cached value.
+ * return the cached value. The cache belongs to the running spec, so specs running at the same
+ * time each have their own value.
  */
 public class LetHook<T> implements SupplyingHook<T> {
   private final ThrowingSupplier<T> supplier;
-  private final Variable<T> cachedValue = new Variable<>();
-  private boolean isCached;
 
   public LetHook(final ThrowingSupplier<T> supplier) {
     this.supplier = supplier;
-    this.isCached = false;
   }
 
   @Override
@@ -45,13 +43,17 @@ public class LetHook<T> implements SupplyingHook<T> {
   public T get() {
     assertSpectrumIsRunningTestsNotDeclaringThem();
 
-    if (!this.isCached) {
-      this.cachedValue.set(supplier.get());
-
-      this.isCached = true;
+    // the value is cached in the context of the running spec, not in this shared hook
+    final ExecutionContext context = ExecutionContext.ofRunningChild().contextRunning(this);
+    Variable<T> cachedValue = context.find(this);
+    if (cachedValue == null) {
+      final HookTimings timings = HookTimings.instance();
+      final long started = timings.now();
+      cachedValue = context.store(this, new Variable<>(supplier.get()));
+      timings.addTime(this, timings.now() - started);
     }
 
-    return this.cachedValue.get();
+    return cachedValue.get();
   }
 
   protected String getExceptionMessageIfUsedAtDeclarationTime() {
@@ -60,8 +62,7 @@ public class LetHook<T> implements SupplyingHook<T> {
   }
 
   private void clear() {
-    this.isCached = false;
-    this.cachedValue.set(null);
+    ExecutionContext.current().contextRunning(this).clear(this);
   }
 
   /**
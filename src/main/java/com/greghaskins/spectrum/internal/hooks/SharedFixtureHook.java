@@ -0,0 +1,60 @@
+package com.greghaskins.spectrum.internal.hooks;
+
+import com.greghaskins.spectrum.Block;
+import com.greghaskins.spectrum.ThrowingConsumer;
+import com.greghaskins.spectrum.ThrowingSupplier;
+import com.greghaskins.spectrum.internal.DeclarationState;
+import com.greghaskins.spectrum.internal.RunReporting;
+import com.greghaskins.spectrum.internal.SharedFixtures;
+
+import org.junit.runner.Description;
+import org.junit.runner.notification.Failure;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Implementation of {@code sharedFixture} as a supplying hook.
+ *
+ * <p>The hook runs once around the suite which declares the fixture, and holds a reference
+ * to the fixture in {@link SharedFixtures} while the suite runs. The value itself belongs to
+ * the registry, so every suite which declares the same key - in this test class or any other -
+ * gets the same value.
+ */
+public class SharedFixtureHook<T> implements SupplyingHook<T> {
+  private final String key;
+  private final ThrowingSupplier<T> supplier;
+  private final ThrowingConsumer<T> closer;
+  private final Optional<Duration> idleTimeout;
+
+  public SharedFixtureHook(final String key, final ThrowingSupplier<T> supplier,
+      final ThrowingConsumer<T> closer, final Optional<Duration> idleTimeout) {
+    this.key = key;
+    this.supplier = supplier;
+    this.closer = closer;
+    this.idleTimeout = idleTimeout;
+  }
+
+  @Override
+  public void accept(final Description description,
+      final RunReporting<Description, Failure> reporting, final Block block)
+      throws Throwable {
+    SharedFixtures.instance().acquire(this.key, this.supplier, this.closer, this.idleTimeout);
+    try {
+      block.run();
+    } finally {
+      SharedFixtures.instance().release(this.key);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public T get() {
+    if (DeclarationState.instance().getCurrentSuiteBeingDeclared() != null) {
+      throw new IllegalStateException("Cannot use the value from sharedFixture() in a suite "
+          + "declaration. It may only be used in the context of a running spec.");
+    }
+
+    return (T) SharedFixtures.instance().get(this.key);
+  }
+}
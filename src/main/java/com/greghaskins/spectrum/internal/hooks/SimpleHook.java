@@ -0,0 +1,136 @@
+package com.greghaskins.spectrum.internal.hooks;
+
+import com.greghaskins.spectrum.Block;
+import com.greghaskins.spectrum.internal.RunReporting;
+import com.greghaskins.spectrum.internal.blocks.IdempotentBlock;
+
+import org.junit.runner.Description;
+import org.junit.runner.notification.Failure;
+
+/**
+ * A hook which does something before the inner block, after it, or both - and nothing else.
+ * As it always runs the inner block exactly once, a {@link HookChain} made of these hooks can
+ * run them in a loop, without building a block for each level of the chain.
+ */
+public final class SimpleHook implements Hook {
+  /**
+   * Something to do before or after the inner block.
+   */
+  @FunctionalInterface
+  public interface Step {
+    void run(final Description description, final RunReporting<Description, Failure> reporting)
+        throws Throwable;
+  }
+
+  private final Step before;
+  private final Step after;
+  private final IdempotentBlock setUp;
+
+  private SimpleHook(final Step before, final Step after) {
+    this(before, after, null);
+  }
+
+  private SimpleHook(final Step before, final Step after, final IdempotentBlock setUp) {
+    this.before = before;
+    this.after = after;
+    this.setUp = setUp;
+  }
+
+  /**
+   * Create a hook which runs the block before the inner.
+   * @param block to run first
+   * @return the hook
+   */
+  public static SimpleHook before(final Block block) {
+    return new SimpleHook((description, reporting) -> block.run(), null);
+  }
+
+  /**
+   * Create a hook which runs a set up block before the first inner block, and replays its
+   * outcome before every later one. The set up may also be started early, with
+   * {@link #prefetchSetUp()}.
+   * @param block to run once
+   * @return the hook
+   */
+  public static SimpleHook setUp(final Block block) {
+    final IdempotentBlock setUp = new IdempotentBlock(block);
+
+    return new SimpleHook((description, reporting) -> setUp.run(), null, setUp);
+  }
+
+  /**
+   * Create a hook which runs the block after the inner, even if the inner fails.
+   * @param block to run last
+   * @return the hook
+   */
+  public static SimpleHook after(final Block block) {
+    return new SimpleHook(null, (description, reporting) -> block.run());
+  }
+
+  /**
+   * Create a hook with a step before the inner and a step after it. The step after runs even
+   * if the inner fails, but not if the step before fails.
+   * @param before the step to run first
+   * @param after the step to run last
+   * @return the hook
+   */
+  public static SimpleHook around(final Step before, final Step after) {
+    return new SimpleHook(before, after);
+  }
+
+  @Override
+  public void accept(final Description description,
+      final RunReporting<Description, Failure> reporting, final Block block) throws Throwable {
+    runBefore(description, reporting);
+    try {
+      block.run();
+    } finally {
+      runAfter(description, reporting);
+    }
+  }
+
+  /**
+   * Run the set up of a hook made by {@link #setUp(Block)} on the calling thread, ahead of the
+   * first inner block. Any failure is kept to be replayed when the hook runs, so that it is
+   * reported against the test which needed the set up. Other hooks do nothing.
+   */
+  public void prefetchSetUp() {
+    if (this.setUp == null) {
+      return;
+    }
+    try {
+      this.setUp.run();
+    } catch (final Throwable failure) {
+      // replayed by the hook itself
+    }
+  }
+
+  /**
+   * What sort of hook this is, as reported by {@link HookContext#getKind()}.
+   * @return the sort of hook
+   */
+  String kind() {
+    if (this.setUp != null) {
+      return "beforeAll";
+    }
+    if (this.after == null) {
+      return "before";
+    }
+
+    return this.before == null ? "after" : "around";
+  }
+
+  void runBefore(final Description description,
+      final RunReporting<Description, Failure> reporting) throws Throwable {
+    if (this.before != null) {
+      this.before.run(description, reporting);
+    }
+  }
+
+  void runAfter(final Description description,
+      final RunReporting<Description, Failure> reporting) throws Throwable {
+    if (this.after != null) {
+      this.after.run(description, reporting);
+    }
+  }
+}
@@ -3,7 +3,9 @@ package com.greghaskins.spectrum.internal.junit;
 import static com.greghaskins.spectrum.internal.junit.StubJUnitFrameworkMethod.stubFrameworkMethod;
 
 import com.greghaskins.spectrum.Block;
+import com.greghaskins.spectrum.Variable;
 import com.greghaskins.spectrum.internal.blocks.ConstructorBlock;
+import com.greghaskins.spectrum.internal.hooks.ExecutionContext;
 import com.greghaskins.spectrum.internal.hooks.Hook;
 
 import org.junit.AfterClass;
@@ -31,12 +33,13 @@ import java.util.stream.Stream;
 public class RuleContext<T> implements Supplier<T> {
   private final Class<T> ruleClass;
   private final TestClass testClass;
-  private T currentTestObject;
+  private final T currentTestObject;
   private final boolean constructEveryTime;
 
   RuleContext(final Class<T> ruleClass) {
     this.ruleClass = ruleClass;
     this.testClass = new TestClass(ruleClass);
+    this.currentTestObject = null;
     this.constructEveryTime = true;
   }
 
@@ -50,6 +53,12 @@ public class RuleContext<T> implements Supplier<T> {
 
   @Override
   public T get() {
+    if (constructEveryTime) {
+      final Variable<T> testObject = ExecutionContext.current().find(this);
+
+      return testObject == null ? null : testObject.get();
+    }
+
     return currentTestObject;
   }
 
@@ -80,32 +89,33 @@ public class RuleContext<T> implements Supplier<T> {
    * @throws Throwable on error
    */
   private Statement decorate(final Statement base, final Description description) throws Throwable {
-    if (constructEveryTime) {
-      constructTestObject();
-    }
+    final T testObject = constructEveryTime ? constructTestObject() : currentTestObject;
 
-    return withTestRules(getTestRules(currentTestObject),
-        withMethodRules(base, getMethodRules(currentTestObject)), description);
+    return withTestRules(getTestRules(testObject),
+        withMethodRules(base, getMethodRules(testObject), testObject), description);
   }
 
-  private void constructTestObject() throws Throwable {
+  private T constructTestObject() throws Throwable {
     ConstructorBlock<T> constructor = new ConstructorBlock<>(ruleClass);
     constructor.run();
-    currentTestObject = constructor.get();
+
+    // each running spec has its own test object, held in its context
+    return ExecutionContext.current().store(this, new Variable<>(constructor.get())).get();
   }
 
-  private Statement withMethodRules(final Statement base, final List<MethodRule> methodRules) {
+  private Statement withMethodRules(final Statement base, final List<MethodRule> methodRules,
+      final T testObject) {
     FrameworkMethod method = stubFrameworkMethod();
 
-    return decorateWithMethodRules(base, methodRules, method);
+    return decorateWithMethodRules(base, methodRules, method, testObject);
   }
 
   private Statement decorateWithMethodRules(final Statement base,
       final List<MethodRule> methodRules,
-      final FrameworkMethod method) {
+      final FrameworkMethod method, final T testObject) {
     Statement result = base;
     for (MethodRule each : methodRules) {
-      result = each.apply(result, method, currentTestObject);
+      result = each.apply(result, method, testObject);
     }
 
     return result;
@@ -6,16 +6,19 @@ import org.junit.runner.Description;
 import org.junit.runner.notification.Failure;
 import org.junit.runner.notification.RunNotifier;
 
-import java.util.HashSet;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Wraps the JUnit RunNotifier with the Spectrum run reporting interface.
+ * Wraps the JUnit RunNotifier with the Spectrum run reporting interface. The same failure is
+ * only reported once for each test - the failures reported for a test are forgotten when it
+ * finishes, so that a long run holds on to no more of them than its running tests have.
  */
 public class RunNotifierReporting implements RunReporting<Description, Failure> {
   private RunNotifier notifier;
-  private Set<FailureWrapper> reportedForFailure = new HashSet<>();
+  private Map<Description, Set<FailureWrapper>> reportedForFailure = new ConcurrentHashMap<>();
 
   static class FailureWrapper {
     private Failure failure;
@@ -61,6 +64,7 @@ public class RunNotifierReporting implements RunReporting<Description, Failure>
   @Override
   public void fireTestFinished(Description description) {
     notifier.fireTestFinished(description);
+    reportedForFailure.remove(description);
   }
 
   @Override
@@ -70,10 +74,10 @@ public class RunNotifierReporting implements RunReporting<Description, Failure>
 
   @Override
   public void fireTestFailure(Failure failure) {
-    FailureWrapper wrapper = new FailureWrapper(failure);
-    if (!reportedForFailure.contains(wrapper)) {
+    Set<FailureWrapper> reported = reportedForFailure.computeIfAbsent(failure.getDescription(),
+        description -> ConcurrentHashMap.newKeySet());
+    if (reported.add(new FailureWrapper(failure))) {
       notifier.fireTestFailure(failure);
-      reportedForFailure.add(wrapper);
     }
   }
 }
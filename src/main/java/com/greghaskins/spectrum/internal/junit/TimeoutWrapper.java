@@ -3,6 +3,7 @@ package com.greghaskins.spectrum.internal.junit;
 import static com.greghaskins.spectrum.internal.hooks.NonReportingHook.nonReportingHookFrom;
 import static com.greghaskins.spectrum.internal.junit.RuleContext.statementOf;
 
+import com.greghaskins.spectrum.internal.hooks.ExecutionContext;
 import com.greghaskins.spectrum.internal.hooks.NonReportingHook;
 
 import org.junit.internal.runners.statements.FailOnTimeout;
@@ -16,14 +17,15 @@ import java.util.concurrent.TimeUnit;
 public interface TimeoutWrapper {
   /**
    * Convert the timeout into a {@link NonReportingHook} which executes
-   * the inner inside a daemon thread, failing if it takes too long.
+   * the inner inside a daemon thread, failing if it takes too long. The thread runs
+   * within the {@link ExecutionContext} of the spec.
    * @param timeout duration of the timeout
    * @return hook which implements the timeout
    */
   static NonReportingHook timeoutHook(Duration timeout) {
     return nonReportingHookFrom(
         (description, reporting, block) -> withAppliedTimeout(FailOnTimeout.builder(), timeout)
-            .build(statementOf(block))
+            .build(statementOf(ExecutionContext.propagatingBlock(block)))
             .evaluate());
   }
 
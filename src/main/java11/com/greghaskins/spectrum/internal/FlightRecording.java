@@ -0,0 +1,171 @@
+package com.greghaskins.spectrum.internal;
+
+import com.greghaskins.spectrum.internal.hooks.HookContext;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Emits Java Flight Recorder events for the declaration of test classes, the running of
+ * specs and the running of hooks. This is the Java 11 version, packaged in the multi-release
+ * jar for Java 11 and above, where Flight Recorder's {@code jdk.jfr} API is there. An event which is not enabled in the recording is never created, so there is nothing
+ * to pay for the events when Flight Recorder is off.
+ *
+ * <p>Each event is started with a {@code begin} method, which returns the event, or null if it
+ * is not being recorded, and finished by passing that to the matching {@code end} method.
+ */
+public final class FlightRecording {
+  // isEnabled reads the state of the event type, so one instance can ask for all of them
+  private static final DeclarationEvent DECLARATION = new DeclarationEvent();
+  private static final SpecEvent SPEC = new SpecEvent();
+  private static final HookEvent HOOK = new HookEvent();
+
+  private FlightRecording() {}
+
+  /**
+   * Start the event for declaring a test class.
+   * @return the event, or null if it is not being recorded
+   */
+  public static Object beginDeclaration() {
+    return DECLARATION.isEnabled() ? begun(new DeclarationEvent()) : null;
+  }
+
+  /**
+   * Finish the event for declaring a test class.
+   * @param event from {@link #beginDeclaration()}
+   * @param description of the test class
+   */
+  public static void endDeclaration(final Object event,
+      final org.junit.runner.Description description) {
+    if (event instanceof DeclarationEvent) {
+      final DeclarationEvent declaration = (DeclarationEvent) event;
+      declaration.end();
+      if (declaration.shouldCommit()) {
+        declaration.testClass = description.getDisplayName();
+        declaration.commit();
+      }
+    }
+  }
+
+  /**
+   * Start the event for running a spec.
+   * @return the event, or null if it is not being recorded
+   */
+  static Object beginSpec() {
+    return SPEC.isEnabled() ? begun(new SpecEvent()) : null;
+  }
+
+  /**
+   * Finish the event for running a spec.
+   * @param event from {@link #beginSpec()}
+   * @param path of the spec
+   * @param description of the spec
+   */
+  static void endSpec(final Object event, final String path,
+      final org.junit.runner.Description description) {
+    if (event instanceof SpecEvent) {
+      final SpecEvent spec = (SpecEvent) event;
+      spec.end();
+      if (spec.shouldCommit()) {
+        spec.path = path;
+        spec.testClass = description.getClassName();
+        spec.commit();
+      }
+    }
+  }
+
+  /**
+   * Start the event for a step of a hook.
+   * @return the event, or null if it is not being recorded
+   */
+  public static Object beginHook() {
+    return HOOK.isEnabled() ? begun(new HookEvent()) : null;
+  }
+
+  /**
+   * Finish the event for a step of a hook.
+   * @param event from {@link #beginHook()}
+   * @param context of the hook
+   * @param step which part of the hook ran - before, after or around its inner block
+   * @param description of the test the hook ran for
+   */
+  public static void endHook(final Object event, final HookContext context, final String step,
+      final org.junit.runner.Description description) {
+    if (event instanceof HookEvent) {
+      final HookEvent hook = (HookEvent) event;
+      hook.end();
+      if (hook.shouldCommit()) {
+        hook.kind = context.getKind();
+        hook.step = step;
+        hook.precedence = context.getPrecedence().name();
+        hook.depth = context.getHierarchyDepth();
+        hook.appliesTo = context.getAppliesTo().name();
+        hook.suite = context.getDeclaredIn();
+        hook.test = description.getDisplayName();
+        hook.commit();
+      }
+    }
+  }
+
+  private static <T extends Event> T begun(final T event) {
+    event.begin();
+
+    return event;
+  }
+
+  @Name("com.greghaskins.spectrum.Declaration")
+  @Label("Test Class Declaration")
+  @Category("Spectrum")
+  @Description("The declaration of the suites and specs of a test class")
+  static final class DeclarationEvent extends Event {
+    @Label("Test Class")
+    String testClass;
+  }
+
+  @Name("com.greghaskins.spectrum.Spec")
+  @Label("Spec")
+  @Category("Spectrum")
+  @Description("A spec, from its start to its end, including the hooks around it")
+  static final class SpecEvent extends Event {
+    @Label("Path")
+    @Description("The test class followed by the suites and spec leading to it")
+    String path;
+
+    @Label("Test Class")
+    String testClass;
+  }
+
+  @Name("com.greghaskins.spectrum.Hook")
+  @Label("Hook")
+  @Category("Spectrum")
+  @Description("A step of a hook, such as a beforeEach, a beforeAll or the set up of a let")
+  static final class HookEvent extends Event {
+    @Label("Kind")
+    String kind;
+
+    @Label("Step")
+    @Description("Before or after the inner block, or around it for hooks which wrap it")
+    String step;
+
+    @Label("Precedence")
+    String precedence;
+
+    @Label("Depth")
+    @Description("How deep in the hierarchy of suites the hook was declared")
+    int depth;
+
+    @Label("Applies To")
+    String appliesTo;
+
+    @Label("Suite")
+    @Description("The suite which declared the hook")
+    String suite;
+
+    @Label("Test")
+    @Description("The spec or suite the hook ran for")
+    String test;
+  }
+}
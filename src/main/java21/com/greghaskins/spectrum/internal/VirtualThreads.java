@@ -0,0 +1,35 @@
+package com.greghaskins.spectrum.internal;
+
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Starts threads for running children. This is the Java 21 version, packaged in the
+ * multi-release jar, which starts a virtual thread for each child.
+ */
+final class VirtualThreads {
+  // unlike a Thread.Builder, a factory may be used by several threads at once
+  private static final ThreadFactory FACTORY = Thread.ofVirtual().name("spectrum-child").factory();
+
+  private VirtualThreads() {}
+
+  /**
+   * How many children of a suite run at once when no limit is given. A virtual thread costs
+   * next to nothing while it waits, so every child.
+   * @return the number of children
+   */
+  static int defaultConcurrency() {
+    return Integer.MAX_VALUE;
+  }
+
+  /**
+   * Start a virtual thread to run the task.
+   * @param task to run
+   * @return the started thread
+   */
+  static Thread start(final Runnable task) {
+    final Thread thread = FACTORY.newThread(task);
+    thread.start();
+
+    return thread;
+  }
+}
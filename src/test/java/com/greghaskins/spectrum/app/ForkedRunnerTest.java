@@ -0,0 +1,163 @@
+package com.greghaskins.spectrum.app;
+
+import static com.greghaskins.spectrum.dsl.specification.Specification.describe;
+import static com.greghaskins.spectrum.dsl.specification.Specification.it;
+import static com.greghaskins.spectrum.dsl.specification.Specification.xit;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import com.greghaskins.spectrum.Spectrum;
+import com.greghaskins.spectrum.SpectrumHelper;
+
+import org.junit.Assume;
+import org.junit.Test;
+import org.junit.runner.Description;
+import org.junit.runner.RunWith;
+import org.junit.runner.notification.Failure;
+import org.junit.runner.notification.RunListener;
+import org.junit.runner.notification.RunNotifier;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public class ForkedRunnerTest {
+  @Test
+  public void replaysTheEventsOfAClassAsTheyHappenedOnTheWorker() throws Exception {
+    Spectrum onWorker = new Spectrum(Fixture.class);
+    EventRecorder happened = new EventRecorder();
+    String events = runOnWorker(onWorker, happened) + ForkedWorker.DONE + "\n";
+
+    EventRecorder replayed = new EventRecorder();
+    boolean finished = replay(events, new Spectrum(Fixture.class).getDescription(), replayed);
+
+    assertThat(finished, is(true));
+    assertThat(replayed.events, is(happened.events));
+  }
+
+  @Test
+  public void replaysEachEventForTheDescriptionInTheClass() throws Exception {
+    Description testClass = new Spectrum(Fixture.class).getDescription();
+    Description passes = testClass.getChildren().get(0).getChildren().get(0);
+    String events = runOnWorker(new Spectrum(Fixture.class), new EventRecorder());
+
+    EventRecorder replayed = new EventRecorder();
+    replay(events, testClass, replayed);
+
+    assertThat(replayed.descriptions.get(0), sameInstance(passes));
+  }
+
+  @Test
+  public void saysWhenTheWorkerExitedBeforeFinishingTheClass() throws Exception {
+    String events = ForkedWorker.event(ForkedWorker.STARTED, "passes(a suite)") + "\n";
+
+    EventRecorder replayed = new EventRecorder();
+    boolean finished = replay(events, new Spectrum(Fixture.class).getDescription(), replayed);
+
+    assertThat(finished, is(false));
+    assertThat(replayed.events, contains("started passes(a suite)"));
+  }
+
+  @Test
+  public void skipsWhatItDoesNotUnderstand() throws Exception {
+    String events = "something new\tpasses(a suite)\n" + "\n" + ForkedWorker.DONE + "\n";
+
+    EventRecorder replayed = new EventRecorder();
+    boolean finished = replay(events, new Spectrum(Fixture.class).getDescription(), replayed);
+
+    assertThat(finished, is(true));
+    assertThat(replayed.events.isEmpty(), is(true));
+  }
+
+  @Test
+  public void reportsTheTestsOfAClassWhichDidNotRunAsIgnored() throws Exception {
+    EventRecorder reported = new EventRecorder();
+    RunNotifier notifier = new RunNotifier();
+    notifier.addListener(reported);
+
+    ForkedRunner.reportIgnored(new Spectrum(Fixture.class).getDescription(), notifier);
+
+    assertThat(reported.events, contains("ignored passes(a suite)", "ignored fails(a suite)",
+        "ignored assumes(a suite)", "ignored is ignored(a suite)"));
+  }
+
+  private static String runOnWorker(Spectrum testClass, RunListener listener) throws Exception {
+    ByteArrayOutputStream events = new ByteArrayOutputStream();
+    RunNotifier notifier = new RunNotifier();
+    notifier.addListener(listener);
+    notifier.addListener(new ForkedWorker.EventWriter(new PrintStream(events, true, "UTF-8")));
+    testClass.run(notifier);
+
+    return new String(events.toByteArray(), UTF_8);
+  }
+
+  private static boolean replay(String events, Description testClass, RunListener listener)
+      throws Exception {
+    Map<String, Description> descriptions = ForkedRunner.byDisplayName(testClass);
+    RunNotifier notifier = new RunNotifier();
+    notifier.addListener(listener);
+
+    return ForkedRunner.replay(new BufferedReader(new StringReader(events)), descriptions,
+        notifier);
+  }
+
+  private static final class EventRecorder extends RunListener {
+    final List<String> events = new ArrayList<>();
+    final List<Description> descriptions = new ArrayList<>();
+
+    @Override
+    public void testStarted(Description description) {
+      record("started", description);
+    }
+
+    @Override
+    public void testFinished(Description description) {
+      record("finished", description);
+    }
+
+    @Override
+    public void testFailure(Failure failure) {
+      record("failure", failure.getDescription());
+      events.add(ForkedWorker.typeOf(failure.getException()) + ": "
+          + failure.getException().getMessage());
+    }
+
+    @Override
+    public void testAssumptionFailure(Failure failure) {
+      record("assumption", failure.getDescription());
+    }
+
+    @Override
+    public void testIgnored(Description description) {
+      record("ignored", description);
+    }
+
+    private void record(String event, Description description) {
+      events.add(event + " " + description.getDisplayName());
+      descriptions.add(description);
+    }
+  }
+
+  @RunWith(SpectrumHelper.NullRunner.class)
+  public static class Fixture {
+    {
+      describe("a suite", () -> {
+        it("passes", () -> {
+        });
+        it("fails", () -> {
+          throw new AssertionError("expected\tsomething\nelse");
+        });
+        it("assumes", () -> Assume.assumeTrue(false));
+        xit("is ignored", () -> {
+        });
+      });
+    }
+  }
+}
@@ -0,0 +1,91 @@
+package com.greghaskins.spectrum.app;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+
+import org.junit.Test;
+
+import java.util.Base64;
+
+public class ForkedWorkerTest {
+  @Test
+  public void sendsAnExceptionAsItWas() throws Exception {
+    IllegalArgumentException sent =
+        new IllegalArgumentException("bad argument", new IllegalStateException("the cause"));
+
+    Throwable received = ForkedWorker.decode(ForkedWorker.encode(sent));
+
+    assertThat(received, instanceOf(IllegalArgumentException.class));
+    assertThat(received.getMessage(), is("bad argument"));
+    assertThat(received.getStackTrace(), is(sent.getStackTrace()));
+    assertThat(received.getCause().getMessage(), is("the cause"));
+    assertThat(ForkedWorker.typeOf(received), is(IllegalArgumentException.class.getName()));
+  }
+
+  @Test
+  public void standsInForAnExceptionWhichCannotBeSerialised() throws Exception {
+    NotSerialisable sent = new NotSerialisable("no way through");
+
+    Throwable received = ForkedWorker.decode(ForkedWorker.encode(sent));
+
+    assertThat(received, instanceOf(ForkedWorker.WorkerFailure.class));
+    assertThat(received.getMessage(), is("no way through"));
+    assertThat(received.getStackTrace(), is(sent.getStackTrace()));
+    assertThat(ForkedWorker.typeOf(received), is(NotSerialisable.class.getName()));
+    assertThat(received.toString(), is(NotSerialisable.class.getName() + ": no way through"));
+  }
+
+  @Test
+  public void standsInForAnExceptionWhoseClassIsNotHere() throws Exception {
+    OnlyOnTheWorker sent = new OnlyOnTheWorker("from afar");
+    // the same length, so the rest of the stream still reads
+    String missing = OnlyOnTheWorker.class.getName().replace("OnlyOn", "EverOn");
+    String encoded = new String(Base64.getDecoder().decode(ForkedWorker.encode(sent)), ISO_8859_1)
+        .replace(OnlyOnTheWorker.class.getName(), missing);
+
+    Throwable received = ForkedWorker.decode(
+        Base64.getEncoder().encodeToString(encoded.getBytes(ISO_8859_1)));
+
+    assertThat(received, instanceOf(ForkedWorker.WorkerFailure.class));
+    assertThat(received.getMessage(), is("from afar"));
+    assertThat(received.getStackTrace(), is(sent.getStackTrace()));
+    assertThat(ForkedWorker.typeOf(received), is(missing));
+  }
+
+  @Test
+  public void reportsAFailureWhichCannotBeRead() throws Exception {
+    Throwable received = ForkedWorker.decode("not what a worker writes");
+
+    assertThat(received, instanceOf(IllegalStateException.class));
+  }
+
+  @Test
+  public void keepsTheSeparatorsInTheFieldsOfAnEvent() throws Exception {
+    String[] fields = ForkedWorker.fields(
+        ForkedWorker.event(ForkedWorker.STARTED, "a\ttab, a\nnew line and a \\ backslash"));
+
+    assertThat(fields, is(new String[] {ForkedWorker.STARTED,
+        "a\ttab, a\nnew line and a \\ backslash"}));
+  }
+
+  private static class NotSerialisable extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    @SuppressWarnings("unused")
+    private final Object cannotBeSent = new Object();
+
+    NotSerialisable(String message) {
+      super(message);
+    }
+  }
+
+  private static class OnlyOnTheWorker extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    OnlyOnTheWorker(String message) {
+      super(message);
+    }
+  }
+}
@@ -0,0 +1,107 @@
+package com.greghaskins.spectrum.app;
+
+import static com.greghaskins.spectrum.dsl.specification.Specification.describe;
+import static com.greghaskins.spectrum.dsl.specification.Specification.it;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+
+import com.greghaskins.spectrum.Spectrum;
+import com.greghaskins.spectrum.SpectrumHelper;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.Description;
+import org.junit.runner.RunWith;
+import org.junit.runner.Runner;
+import org.junit.runner.manipulation.NoTestsRemainException;
+import org.junit.runners.Suite;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class JunitRunnerTest {
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void runsEverySpecOfAClassWhichMatches() throws Exception {
+    Runner runner = select(classes(), First.class.getName());
+
+    assertThat(classesOf(runner), contains(First.class.getName()));
+    assertThat(runner.testCount(), is(2));
+  }
+
+  @Test
+  public void runsTheSpecOfAClassWhichMatches() throws Exception {
+    Runner runner = select(classes(), First.class.getName() + "#a spec");
+
+    assertThat(classesOf(runner), contains(First.class.getName()));
+    assertThat(runner.testCount(), is(1));
+  }
+
+  @Test
+  public void runsTheSpecsOfEveryClassWhichMatch() throws Exception {
+    Runner runner = select(classes(), "#a spec");
+
+    assertThat(classesOf(runner), contains(First.class.getName(), Second.class.getName()));
+    assertThat(runner.testCount(), is(2));
+  }
+
+  @Test
+  public void matchesASpectrumClassWhichIsRunOnItsOwn() throws Exception {
+    Runner runner = select(new Spectrum(Second.class), Second.class.getName());
+
+    assertThat(runner.testCount(), is(2));
+  }
+
+  @Test(expected = NoTestsRemainException.class)
+  public void runsNothingWhenNoClassMatches() throws Exception {
+    select(classes(), "specs.NoSuchSpecs");
+  }
+
+  private Runner select(Runner runner, String pattern) throws Exception {
+    LastRun lastRun = new LastRun(folder.getRoot().toPath().resolve("last-run.properties"));
+    JunitRunner.selecting(new String[] {pattern}, false, RunnerOptions.parse(), lastRun)
+        .apply(runner);
+
+    return runner;
+  }
+
+  private static Runner classes() throws Exception {
+    return new Suite((Class<?>) null,
+        Arrays.asList(new Spectrum(First.class), new Spectrum(Second.class))) {};
+  }
+
+  private static List<String> classesOf(Runner runner) {
+    return runner.getDescription().getChildren().stream()
+        .map(Description::getDisplayName)
+        .collect(toList());
+  }
+
+  @RunWith(SpectrumHelper.NullRunner.class)
+  public static class First {
+    {
+      describe("a suite", () -> {
+        it("a spec", () -> {
+        });
+        it("another spec", () -> {
+        });
+      });
+    }
+  }
+
+  @RunWith(SpectrumHelper.NullRunner.class)
+  public static class Second {
+    {
+      describe("a suite", () -> {
+        it("a spec", () -> {
+        });
+        it("another spec", () -> {
+        });
+      });
+    }
+  }
+}
@@ -0,0 +1,153 @@
+package com.greghaskins.spectrum.app;
+
+import static com.greghaskins.spectrum.dsl.specification.Specification.describe;
+import static com.greghaskins.spectrum.dsl.specification.Specification.it;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+
+import com.greghaskins.spectrum.Spectrum;
+import com.greghaskins.spectrum.SpectrumHelper;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.Description;
+import org.junit.runner.Result;
+import org.junit.runner.RunWith;
+import org.junit.runner.Runner;
+import org.junit.runner.notification.RunNotifier;
+import org.junit.runners.Suite;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+
+public class LastRunTest {
+  private static final String FAILING_SPEC = Failing.class.getName() + "#a suite/a spec";
+  private static final String PASSING_SPEC = Passing.class.getName() + "#a suite/a spec";
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void recordsEachTestByItsClassAndSuites() throws Exception {
+    record(classes(Failing.class, Passing.class));
+
+    Properties recorded = readRecorded();
+
+    assertThat(recorded.getProperty(FAILING_SPEC), startsWith("failed "));
+    assertThat(recorded.getProperty(PASSING_SPEC), startsWith("passed "));
+    assertThat(recorded.getProperty(Failing.class.getName() + "#a suite/passes"),
+        startsWith("passed "));
+  }
+
+  @Test
+  public void keepsTheOutcomesOfTestsWhichDidNotRun() throws Exception {
+    record(classes(Failing.class));
+    record(classes(Passing.class));
+
+    Properties recorded = readRecorded();
+
+    assertThat(recorded.getProperty(FAILING_SPEC), startsWith("failed "));
+    assertThat(recorded.getProperty(PASSING_SPEC), startsWith("passed "));
+  }
+
+  @Test
+  public void onlyRunsTheFailuresOfTheClassTheyWereIn() throws Exception {
+    record(classes(Passing.class, Failing.class));
+    Runner runner = classes(Passing.class, Failing.class);
+
+    JunitRunner.selecting(new String[0], false, RunnerOptions.parse("--only-failures"), lastRun())
+        .apply(runner);
+
+    assertThat(childrenOf(runner.getDescription()), contains(Failing.class.getName()));
+    assertThat(runner.testCount(), is(1));
+  }
+
+  @Test
+  public void putsTheFailuresFirst() throws Exception {
+    record(classes(Passing.class, Failing.class));
+    Runner runner = classes(Passing.class, Failing.class);
+
+    lastRun().failedFirst().apply(runner);
+
+    Description failing = runner.getDescription().getChildren().get(0);
+    Description passing = runner.getDescription().getChildren().get(1);
+    assertThat(childrenOf(runner.getDescription()),
+        contains(Failing.class.getName(), Passing.class.getName()));
+    assertThat(childrenOf(failing.getChildren().get(0)), contains("a spec", "passes"));
+    assertThat(childrenOf(passing.getChildren().get(0)), contains("passes", "a spec"));
+  }
+
+  private void record(Runner runner) {
+    RunNotifier notifier = new RunNotifier();
+    notifier.addListener(lastRun().recorder());
+    notifier.fireTestRunStarted(runner.getDescription());
+    runner.run(notifier);
+    notifier.fireTestRunFinished(new Result());
+  }
+
+  private LastRun lastRun() {
+    return new LastRun(lastRunFile());
+  }
+
+  private Path lastRunFile() {
+    return folder.getRoot().toPath().resolve("last-run.properties");
+  }
+
+  private Properties readRecorded() throws Exception {
+    Properties recorded = new Properties();
+    try (InputStream input = Files.newInputStream(lastRunFile())) {
+      recorded.load(input);
+    }
+
+    return recorded;
+  }
+
+  private static Runner classes(Class<?>... fixtures) throws Exception {
+    Runner[] runners = new Runner[fixtures.length];
+    for (int i = 0; i < fixtures.length; i++) {
+      runners[i] = new Spectrum(fixtures[i]);
+    }
+
+    return new Suite((Class<?>) null, Arrays.asList(runners)) {};
+  }
+
+  private static List<String> childrenOf(Description description) {
+    return description.getChildren().stream()
+        .map(child -> child.getMethodName() == null ? child.getDisplayName()
+            : child.getMethodName())
+        .collect(toList());
+  }
+
+  @RunWith(SpectrumHelper.NullRunner.class)
+  public static class Passing {
+    {
+      describe("a suite", () -> {
+        it("passes", () -> {
+        });
+        it("a spec", () -> {
+        });
+      });
+    }
+  }
+
+  @RunWith(SpectrumHelper.NullRunner.class)
+  public static class Failing {
+    {
+      describe("a suite", () -> {
+        it("passes", () -> {
+        });
+        it("a spec", () -> {
+          throw new AssertionError("fails");
+        });
+      });
+    }
+  }
+}
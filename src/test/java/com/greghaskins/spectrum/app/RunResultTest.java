@@ -0,0 +1,66 @@
+package com.greghaskins.spectrum.app;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+import org.junit.Test;
+import org.junit.runner.Description;
+import org.junit.runner.Result;
+import org.junit.runner.notification.Failure;
+import org.junit.runner.notification.RunListener;
+import org.junit.runner.notification.RunNotifier;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+public class RunResultTest {
+  private static final int FAILURES = JunitRunner.MyOutputter.MAX_FAILURES_LISTED + 5;
+
+  @Test
+  public void isCompleteWhenTheOtherListenersAreToldTheRunFinished() throws Exception {
+    AtomicReference<Result> seen = new AtomicReference<>();
+    RunNotifier notifier = new RunNotifier();
+    notifier.addListener(new RunListener() {
+      @Override
+      public void testRunFinished(Result result) {
+        seen.set(result);
+      }
+    });
+    RunResult result = new RunResult();
+    notifier.addFirstListener(result.listener());
+
+    run(notifier, result);
+
+    assertThat(seen.get().getRunCount(), is(FAILURES + 1));
+    assertThat(seen.get().getFailureCount(), is(FAILURES));
+    assertThat(seen.get().getIgnoreCount(), is(1));
+    assertThat(seen.get().wasSuccessful(), is(false));
+  }
+
+  @Test
+  public void keepsOnlyTheFirstFailures() throws Exception {
+    RunNotifier notifier = new RunNotifier();
+    RunResult result = new RunResult();
+    notifier.addListener(result.listener());
+
+    run(notifier, result);
+
+    assertThat(result.getFailures(), hasSize(JunitRunner.MyOutputter.MAX_FAILURES_LISTED));
+    assertThat(result.getFailures().get(0).getDescription().getMethodName(), is("fails 0"));
+  }
+
+  private static void run(RunNotifier notifier, Result result) {
+    notifier.fireTestRunStarted(Description.createSuiteDescription("run"));
+    Description passes = Description.createTestDescription("a.Class", "passes");
+    notifier.fireTestStarted(passes);
+    notifier.fireTestFinished(passes);
+    for (int i = 0; i < FAILURES; i++) {
+      Description fails = Description.createTestDescription("a.Class", "fails " + i);
+      notifier.fireTestStarted(fails);
+      notifier.fireTestFailure(new Failure(fails, new AssertionError("failed " + i)));
+      notifier.fireTestFinished(fails);
+    }
+    notifier.fireTestIgnored(Description.createTestDescription("a.Class", "is ignored"));
+    notifier.fireTestRunFinished(result);
+  }
+}
@@ -0,0 +1,148 @@
+package com.greghaskins.spectrum.app;
+
+import static com.greghaskins.spectrum.dsl.specification.Specification.describe;
+import static com.greghaskins.spectrum.dsl.specification.Specification.it;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+
+import com.greghaskins.spectrum.Spectrum;
+import com.greghaskins.spectrum.SpectrumHelper;
+import com.greghaskins.spectrum.internal.LogLinearHistogram;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.Description;
+import org.junit.runner.Result;
+import org.junit.runner.RunWith;
+import org.junit.runners.Suite;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class SlowestReportTest {
+  private static final String FIRST = First.class.getName();
+  private static final String SECOND = Second.class.getName();
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private final AtomicLong clock = new AtomicLong();
+  private final ByteArrayOutputStream printed = new ByteArrayOutputStream();
+
+  @Test
+  public void addsTheTimeOfEachSpecToEverySuiteItIsIn() throws Exception {
+    Path json = folder.getRoot().toPath().resolve(SlowestReport.JSON_FILE);
+    SlowestReport report = report(json);
+    Description run = run();
+    Description first = run.getChildren().get(0).getChildren().get(0);
+    Description inner = first.getChildren().get(1);
+
+    report.testRunStarted(run);
+    time(report, first.getChildren().get(0), 1000);
+    time(report, inner.getChildren().get(0), 2000);
+    time(report, inner.getChildren().get(1), 3000);
+    time(report, run.getChildren().get(1).getChildren().get(0).getChildren().get(0), 4000);
+    clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(10000));
+    report.testRunFinished(new Result());
+
+    String written = new String(Files.readAllBytes(json), UTF_8);
+    assertThat(written, containsString(suiteJson(FIRST + "#a suite/inner", 0.25, 2000, 3000)));
+    assertThat(written, containsString(suiteJson(FIRST + "#a suite", 0.3, 1000, 2000, 3000)));
+    assertThat(written, containsString(suiteJson(FIRST, 0.3, 1000, 2000, 3000)));
+    assertThat(written, containsString(suiteJson(SECOND + "#a suite", 0.2, 4000)));
+    assertThat(written, containsString(
+        "{\"name\":\"" + FIRST + "#a suite/inner/two\",\"time\":3.000,\"share\":0.1500}"));
+    assertThat(written, containsString("{\"time\":20.000,"));
+
+    String console = new String(printed.toByteArray(), UTF_8);
+    assertThat(console, containsString(" 25.0%"));
+    assertThat(console, containsString("  " + FIRST + "#a suite/inner\n"));
+    assertThat(console, containsString("  " + SECOND + "#a suite\n"));
+  }
+
+  @Test
+  public void givesThePercentilesOfTheSpecsInASuite() throws Exception {
+    Path json = folder.getRoot().toPath().resolve(SlowestReport.JSON_FILE);
+    SlowestReport report = report(json);
+    Description run = run();
+    Description spec = run.getChildren().get(1).getChildren().get(0).getChildren().get(0);
+    long[] millis = new long[100];
+
+    report.testRunStarted(run);
+    for (int i = 0; i < millis.length; i++) {
+      millis[i] = i + 1;
+      time(report, spec, millis[i]);
+    }
+    report.testRunFinished(new Result());
+
+    String written = new String(Files.readAllBytes(json), UTF_8);
+    assertThat(written, containsString(suiteJson(SECOND + "#a suite", 1, millis)));
+    assertThat(written, not(containsString(FIRST)));
+  }
+
+  private SlowestReport report(Path json) throws Exception {
+    return new SlowestReport(10, new PrintStream(printed, true, "UTF-8"), json, clock::get);
+  }
+
+  private void time(SlowestReport report, Description spec, long millis) {
+    report.testStarted(spec);
+    clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    report.testFinished(spec);
+  }
+
+  private static Description run() throws Exception {
+    return new Suite((Class<?>) null,
+        Arrays.asList(new Spectrum(First.class), new Spectrum(Second.class))) {}
+        .getDescription();
+  }
+
+  private static String suiteJson(String suite, double share, long... millis) {
+    LogLinearHistogram histogram = new LogLinearHistogram();
+    long total = 0;
+    for (long each : millis) {
+      histogram.record(TimeUnit.MILLISECONDS.toMicros(each));
+      total += each;
+    }
+
+    return String.format(Locale.ROOT,
+        "{\"suite\":\"%s\",\"time\":%.3f,\"share\":%.4f,\"specs\":%d,"
+            + "\"p50\":%.3f,\"p95\":%.3f,\"p99\":%.3f}",
+        suite, total / 1e3, share, millis.length, histogram.valueAtPercentile(50) / 1e6,
+        histogram.valueAtPercentile(95) / 1e6, histogram.valueAtPercentile(99) / 1e6);
+  }
+
+  @RunWith(SpectrumHelper.NullRunner.class)
+  public static class First {
+    {
+      describe("a suite", () -> {
+        it("a spec", () -> {
+        });
+        describe("inner", () -> {
+          it("one", () -> {
+          });
+          it("two", () -> {
+          });
+        });
+      });
+    }
+  }
+
+  @RunWith(SpectrumHelper.NullRunner.class)
+  public static class Second {
+    {
+      describe("a suite", () -> {
+        it("a spec", () -> {
+        });
+      });
+    }
+  }
+}
@@ -0,0 +1,225 @@
+package com.greghaskins.spectrum.app;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.Description;
+import org.junit.runner.Result;
+import org.junit.runner.notification.Failure;
+import org.junit.runner.notification.RunNotifier;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+public class StreamingReporterTest {
+  private static final String AWKWARD_MESSAGE = "expected <1> & \"2\"\tgot\n\u0001nothing";
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private final Locale defaultLocale = Locale.getDefault();
+  private Path directory;
+
+  @Before
+  public void reportInALocaleWithDecimalCommas() {
+    Locale.setDefault(Locale.GERMANY);
+    directory = folder.getRoot().toPath();
+  }
+
+  @After
+  public void restoreTheLocale() {
+    Locale.setDefault(defaultLocale);
+  }
+
+  @Test
+  public void writesJunitXmlWithTheTotalsOfTheRun() throws Exception {
+    run();
+
+    Element suite = readXml().getDocumentElement();
+
+    assertThat(suite.getTagName(), is("testsuite"));
+    assertThat(suite.getAttribute("tests"), is("4"));
+    assertThat(suite.getAttribute("failures"), is("1"));
+    assertThat(suite.getAttribute("errors"), is("0"));
+    assertThat(suite.getAttribute("skipped"), is("2"));
+    assertThat(Double.parseDouble(suite.getAttribute("time")) >= 0, is(true));
+  }
+
+  @Test
+  public void escapesWhatTheXmlCouldNotOtherwiseHold() throws Exception {
+    run();
+
+    NodeList testCases = readXml().getElementsByTagName("testcase");
+    Element failed = (Element) testCases.item(1);
+    Element failure = (Element) failed.getElementsByTagName("failure").item(0);
+
+    assertThat(testCases.getLength(), is(4));
+    assertThat(failed.getAttribute("classname"), is("a.Class<T>"));
+    assertThat(failed.getAttribute("name"), is("fails & \"complains\""));
+    assertThat(Double.parseDouble(failed.getAttribute("time")) >= 0, is(true));
+    assertThat(failure.getAttribute("type"), is("java.lang.AssertionError"));
+    // control characters cannot be in XML at all, so they are left out
+    assertThat(failure.getAttribute("message"), is(AWKWARD_MESSAGE.replace("\u0001", "")));
+    assertThat(failure.getTextContent(), startsWith("java.lang.AssertionError: expected <1>"));
+    assertThat(((Element) testCases.item(2)).getElementsByTagName("skipped").getLength(), is(1));
+  }
+
+  @Test
+  public void writesAJsonObjectForEachTest() throws Exception {
+    run();
+
+    List<Map<String, Object>> lines = readNdjson();
+
+    assertThat(lines, hasSize(4));
+    assertThat(lines.stream().map(line -> line.get("status")).collect(Collectors.toList()),
+        contains("passed", "failed", "skipped", "skipped"));
+    assertThat(lines.get(1).get("class"), is("a.Class<T>"));
+    assertThat(lines.get(1).get("name"), is("fails & \"complains\""));
+    assertThat(lines.get(1).get("time") instanceof Double, is(true));
+    @SuppressWarnings("unchecked")
+    Map<String, Object> failure = (Map<String, Object>) lines.get(1).get("failure");
+    assertThat(failure.get("type"), is("java.lang.AssertionError"));
+    assertThat(failure.get("message"), is(AWKWARD_MESSAGE));
+  }
+
+  private void run() throws Exception {
+    RunNotifier notifier = new RunNotifier();
+    notifier.addListener(new StreamingReporter(directory));
+    notifier.fireTestRunStarted(Description.createSuiteDescription("run"));
+
+    Description passes = Description.createTestDescription("a.Class<T>", "passes");
+    notifier.fireTestStarted(passes);
+    notifier.fireTestFinished(passes);
+
+    Description fails = Description.createTestDescription("a.Class<T>", "fails & \"complains\"");
+    notifier.fireTestStarted(fails);
+    notifier.fireTestFailure(new Failure(fails, new AssertionError(AWKWARD_MESSAGE)));
+    notifier.fireTestFinished(fails);
+
+    Description assumes = Description.createTestDescription("a.Class<T>", "assumes");
+    notifier.fireTestStarted(assumes);
+    notifier.fireTestAssumptionFailed(new Failure(assumes, new AssertionError("not here")));
+    notifier.fireTestFinished(assumes);
+
+    notifier.fireTestIgnored(Description.createTestDescription("a.Class<T>", "is ignored"));
+    notifier.fireTestRunFinished(new Result());
+  }
+
+  private Document readXml() throws Exception {
+    return DocumentBuilderFactory.newInstance().newDocumentBuilder()
+        .parse(directory.resolve(StreamingReporter.XML_FILE).toFile());
+  }
+
+  private List<Map<String, Object>> readNdjson() throws Exception {
+    List<Map<String, Object>> objects = new ArrayList<>();
+    for (String line : Files.readAllLines(directory.resolve(StreamingReporter.NDJSON_FILE),
+        StandardCharsets.UTF_8)) {
+      objects.add(new JsonReader(line).object());
+    }
+
+    return objects;
+  }
+
+  /**
+   * Reads the objects, strings and numbers the reporter writes, and fails on anything else.
+   */
+  private static final class JsonReader {
+    private final String json;
+    private int position;
+
+    JsonReader(String json) {
+      this.json = json;
+    }
+
+    Map<String, Object> object() {
+      Map<String, Object> object = readObject();
+      if (position != json.length()) {
+        throw new IllegalArgumentException("Trailing text in " + json);
+      }
+
+      return object;
+    }
+
+    private Map<String, Object> readObject() {
+      expect('{');
+      Map<String, Object> object = new LinkedHashMap<>();
+      while (true) {
+        String key = readString();
+        expect(':');
+        object.put(key, readValue());
+        if (json.charAt(position) == '}') {
+          position++;
+
+          return object;
+        }
+        expect(',');
+      }
+    }
+
+    private Object readValue() {
+      char next = json.charAt(position);
+      if (next == '{') {
+        return readObject();
+      }
+      if (next == '"') {
+        return readString();
+      }
+      int start = position;
+      while (position < json.length() && "+-.0123456789eE".indexOf(json.charAt(position)) >= 0) {
+        position++;
+      }
+
+      return Double.valueOf(json.substring(start, position));
+    }
+
+    private String readString() {
+      expect('"');
+      StringBuilder string = new StringBuilder();
+      for (char character = json.charAt(position++); character != '"';
+          character = json.charAt(position++)) {
+        if (character < 0x20) {
+          throw new IllegalArgumentException("Unescaped control character in " + json);
+        }
+        if (character == '\\') {
+          char escaped = json.charAt(position++);
+          if (escaped == 'u') {
+            character = (char) Integer.parseInt(json.substring(position, position + 4), 16);
+            position += 4;
+          } else {
+            character = escaped == 'n' ? '\n' : escaped == 't' ? '\t' : escaped;
+          }
+        }
+        string.append(character);
+      }
+
+      return string.toString();
+    }
+
+    private void expect(char character) {
+      if (json.charAt(position++) != character) {
+        throw new IllegalArgumentException("Expected " + character + " at " + position
+            + " in " + json);
+      }
+    }
+  }
+}
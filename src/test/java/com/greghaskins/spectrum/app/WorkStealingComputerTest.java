@@ -0,0 +1,76 @@
+package com.greghaskins.spectrum.app;
+
+import static com.greghaskins.spectrum.dsl.specification.Specification.describe;
+import static com.greghaskins.spectrum.dsl.specification.Specification.it;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import com.greghaskins.spectrum.Configure;
+import com.greghaskins.spectrum.Spectrum;
+import com.greghaskins.spectrum.SpectrumHelper;
+import com.greghaskins.spectrum.internal.FailFast;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.JUnitCore;
+import org.junit.runner.Result;
+import org.junit.runner.RunWith;
+import org.junit.runner.Runner;
+import org.junit.runners.model.RunnerBuilder;
+
+public class WorkStealingComputerTest {
+  private static final RunnerBuilder SPECTRUM = new RunnerBuilder() {
+    @Override
+    public Runner runnerForClass(Class<?> testClass) throws Throwable {
+      return new Spectrum(testClass);
+    }
+  };
+
+  @Before
+  public void failFastOnTheFirstFailure() {
+    System.setProperty(Configure.FAIL_FAST_PROPERTY, "1");
+    FailFast.reset();
+  }
+
+  @After
+  public void stopFailingFast() {
+    System.clearProperty(Configure.FAIL_FAST_PROPERTY);
+    FailFast.reset();
+  }
+
+  @Test
+  public void reportsTheTestsOfTheClassesItDidNotStartAsIgnored() throws Exception {
+    Runner suite = new WorkStealingComputer(1)
+        .getSuite(SPECTRUM, new Class<?>[] {Failing.class, Passing.class});
+
+    Result result = new JUnitCore().run(suite);
+
+    assertThat(result.getRunCount(), is(1));
+    assertThat(result.getFailureCount(), is(1));
+    assertThat(result.getIgnoreCount(), is(2));
+  }
+
+  @RunWith(SpectrumHelper.NullRunner.class)
+  public static class Failing {
+    {
+      describe("a suite", () -> {
+        it("fails", () -> {
+          throw new AssertionError("fails");
+        });
+      });
+    }
+  }
+
+  @RunWith(SpectrumHelper.NullRunner.class)
+  public static class Passing {
+    {
+      describe("a suite", () -> {
+        it("passes", () -> {
+        });
+        it("passes again", () -> {
+        });
+      });
+    }
+  }
+}
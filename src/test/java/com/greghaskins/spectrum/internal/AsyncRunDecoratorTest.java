@@ -0,0 +1,169 @@
+package com.greghaskins.spectrum.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+public class AsyncRunDecoratorTest {
+  private static final int THREADS = 4;
+  private static final int SPECS_PER_THREAD = 500;
+
+  private final Recording recording = new Recording();
+
+  @Test
+  public void deliversTheEventsOfEachSpecInOrderOnceClosed() throws Exception {
+    AsyncRunDecorator<String, String> reporting = new AsyncRunDecorator<>(recording, 4);
+    List<Thread> threads = new ArrayList<>();
+    for (int thread = 0; thread < THREADS; thread++) {
+      String prefix = "thread " + thread + " spec ";
+      threads.add(new Thread(() -> {
+        for (int spec = 0; spec < SPECS_PER_THREAD; spec++) {
+          reporting.fireTestStarted(prefix + spec);
+          reporting.fireTestFailure(prefix + spec);
+          reporting.fireTestFinished(prefix + spec);
+        }
+      }));
+    }
+    threads.forEach(Thread::start);
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    reporting.close();
+
+    assertThat(recording.events, hasSize(THREADS * SPECS_PER_THREAD * 3));
+    assertThat(eventsOf("thread 2 spec 7"), contains(
+        "started thread 2 spec 7", "failure thread 2 spec 7", "finished thread 2 spec 7"));
+    assertThat(eventsOf("thread 3 spec 499"), contains(
+        "started thread 3 spec 499", "failure thread 3 spec 499", "finished thread 3 spec 499"));
+  }
+
+  @Test
+  public void reportsOnAThreadOfItsOwn() {
+    AsyncRunDecorator<String, String> reporting = new AsyncRunDecorator<>(recording, 16);
+    reporting.fireTestIgnored("spec");
+    reporting.close();
+
+    assertThat(recording.threads, contains("spectrum-reporter"));
+  }
+
+  @Test
+  public void reportsStraightAwayWithoutABuffer() {
+    AsyncRunDecorator<String, String> reporting = new AsyncRunDecorator<>(recording, 0);
+    reporting.fireTestAssumptionFailed("spec");
+
+    assertThat(recording.events, contains("assumption failed spec"));
+    assertThat(recording.threads, contains(Thread.currentThread().getName()));
+  }
+
+  @Test
+  public void waitsForRoomWithoutSpinningWhenInterrupted() throws Exception {
+    ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    Assume.assumeTrue(threads.isCurrentThreadCpuTimeSupported());
+    CountDownLatch reporterBlocked = new CountDownLatch(1);
+    CountDownLatch unblock = new CountDownLatch(1);
+    Recording blocking = new Recording() {
+      @Override
+      public void fireTestStarted(String description) {
+        reporterBlocked.countDown();
+        try {
+          unblock.await();
+        } catch (InterruptedException interruption) {
+          Thread.currentThread().interrupt();
+        }
+        super.fireTestStarted(description);
+      }
+    };
+    AsyncRunDecorator<String, String> reporting = new AsyncRunDecorator<>(blocking, 2);
+    new Thread(() -> {
+      try {
+        reporterBlocked.await();
+        Thread.sleep(500);
+      } catch (InterruptedException interruption) {
+        Thread.currentThread().interrupt();
+      }
+      unblock.countDown();
+    }).start();
+
+    Thread.currentThread().interrupt();
+    long cpuBefore = threads.getCurrentThreadCpuTime();
+    for (int spec = 0; spec < 4; spec++) {
+      reporting.fireTestStarted("spec " + spec);
+    }
+    long cpuNanos = threads.getCurrentThreadCpuTime() - cpuBefore;
+    boolean stillInterrupted = Thread.interrupted();
+    reporting.close();
+
+    assertThat(stillInterrupted, is(true));
+    assertThat(cpuNanos, lessThan(TimeUnit.MILLISECONDS.toNanos(150)));
+    assertThat(blocking.events, hasSize(4));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void throwsWhatTheDecorateeThrewOnceClosed() {
+    AsyncRunDecorator<String, String> reporting =
+        new AsyncRunDecorator<>(new Recording() {
+          @Override
+          public void fireTestStarted(String description) {
+            throw new IllegalStateException("stopped");
+          }
+        }, 16);
+    reporting.fireTestStarted("spec");
+
+    reporting.close();
+  }
+
+  private List<String> eventsOf(String spec) {
+    return recording.events.stream()
+        .filter(event -> event.endsWith(" " + spec))
+        .collect(Collectors.toList());
+  }
+
+  private static class Recording implements RunReporting<String, String> {
+    private final List<String> events = new ArrayList<>();
+    private final List<String> threads = new ArrayList<>();
+
+    @Override
+    public void fireTestIgnored(String description) {
+      record("ignored " + description);
+    }
+
+    @Override
+    public void fireTestStarted(String description) {
+      record("started " + description);
+    }
+
+    @Override
+    public void fireTestFinished(String description) {
+      record("finished " + description);
+    }
+
+    @Override
+    public void fireTestFailure(String failure) {
+      record("failure " + failure);
+    }
+
+    @Override
+    public void fireTestAssumptionFailed(String failure) {
+      record("assumption failed " + failure);
+    }
+
+    private void record(String event) {
+      events.add(event);
+      threads.add(Thread.currentThread().getName());
+    }
+  }
+}
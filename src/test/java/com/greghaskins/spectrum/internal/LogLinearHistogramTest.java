@@ -0,0 +1,78 @@
+package com.greghaskins.spectrum.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class LogLinearHistogramTest {
+  @Test
+  public void putsEachValueBelowTheUpperBoundOfItsBucket() {
+    for (long value : new long[] {0, 1, 7, 8, 9, 15, 16, 17, 1000, 123_456_789L,
+        Long.MAX_VALUE - 1}) {
+      long upperBound = LogLinearHistogram.upperBoundOf(LogLinearHistogram.indexOf(value));
+      assertThat(upperBound, is(greaterThan(value)));
+      assertThat(upperBound - value, is(lessThanOrEqualTo(Math.max(1, value / 8))));
+    }
+  }
+
+  @Test
+  public void countsValuesInTheirBuckets() {
+    LogLinearHistogram histogram = new LogLinearHistogram();
+    histogram.record(3);
+    histogram.record(3);
+    histogram.record(100);
+
+    List<String> buckets = new ArrayList<>();
+    histogram.forEachBucket((upperBound, count) -> buckets.add(upperBound + ":" + count));
+
+    assertThat(buckets, contains("4:2", "104:1"));
+    assertThat(histogram.count(), is(3L));
+    assertThat(histogram.sum(), is(106L));
+  }
+
+  @Test
+  public void visitsEmptyBucketsUpToABound() {
+    LogLinearHistogram histogram = new LogLinearHistogram();
+    histogram.record(3);
+
+    List<String> buckets = new ArrayList<>();
+    histogram.forEachBucketUpTo(6, (upperBound, count) -> buckets.add(upperBound + ":" + count));
+
+    assertThat(buckets, contains("1:0", "2:0", "3:0", "4:1", "5:0", "6:0"));
+    assertThat(histogram.highestUpperBound(), is(4L));
+  }
+
+  @Test
+  public void findsTheBucketOfAPercentile() {
+    LogLinearHistogram histogram = new LogLinearHistogram();
+    for (int value = 1; value <= 100; value++) {
+      histogram.record(value);
+    }
+
+    assertThat(histogram.valueAtPercentile(50), is(52L));
+    assertThat(histogram.valueAtPercentile(100), is(104L));
+    assertThat(new LogLinearHistogram().valueAtPercentile(50), is(0L));
+  }
+
+  @Test
+  public void addsTheValuesOfAnotherHistogram() {
+    LogLinearHistogram histogram = new LogLinearHistogram();
+    LogLinearHistogram other = new LogLinearHistogram();
+    histogram.record(3);
+    other.record(3);
+    other.record(100);
+
+    histogram.add(other);
+
+    assertThat(histogram.count(), is(3L));
+    assertThat(histogram.sum(), is(106L));
+    assertThat(histogram.valueAtPercentile(60), is(4L));
+  }
+}
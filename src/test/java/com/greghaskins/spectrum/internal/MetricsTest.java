@@ -0,0 +1,118 @@
+package com.greghaskins.spectrum.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+
+import com.greghaskins.spectrum.internal.junit.RunNotifierReporting;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.Description;
+import org.junit.runner.notification.Failure;
+import org.junit.runner.notification.RunNotifier;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+public class MetricsTest {
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void countsSpecsByTheirOutcome() {
+    Metrics metrics = new Metrics(Optional.empty(), Collections::emptyList);
+    RunReporting<Description, Failure> reporting =
+        new MetricsRunDecorator(new RunNotifierReporting(new RunNotifier()), metrics);
+
+    run(reporting, spec("passes"));
+    Description fails = spec("fails");
+    reporting.fireTestStarted(fails);
+    reporting.fireTestFailure(new Failure(fails, new AssertionError()));
+    reporting.fireTestFinished(fails);
+    Description skipped = spec("is skipped");
+    reporting.fireTestStarted(skipped);
+    reporting.fireTestAssumptionFailed(new Failure(skipped, new AssertionError()));
+    reporting.fireTestFinished(skipped);
+    reporting.fireTestIgnored(spec("is ignored"));
+
+    String text = metrics.toPrometheusText();
+
+    assertThat(text, containsString("spectrum_specs_total{suite=\"Suite\",outcome=\"passed\"} 1"));
+    assertThat(text, containsString("spectrum_specs_total{suite=\"Suite\",outcome=\"failed\"} 1"));
+    assertThat(text, containsString("spectrum_specs_total{suite=\"Suite\",outcome=\"skipped\"} 1"));
+    assertThat(text, containsString("spectrum_specs_total{suite=\"Suite\",outcome=\"ignored\"} 1"));
+    assertThat(text, containsString("spectrum_spec_duration_seconds_count{suite=\"Suite\"} 3"));
+    assertThat(text,
+        containsString("spectrum_spec_duration_seconds_bucket{suite=\"Suite\",le=\"+Inf\"} 3"));
+  }
+
+  @Test
+  public void writesJsonWhenTheFileNameSaysSo() throws Exception {
+    Path file = folder.getRoot().toPath().resolve("metrics.json");
+    Metrics metrics = new Metrics(Optional.of(file), Collections::emptyList);
+    metrics.record("A \"quoted\" suite", Metrics.Outcome.PASSED, 2_000_000);
+
+    metrics.write();
+
+    String json = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+    assertThat(json, startsWith("{\"specs\":[{\"suite\":\"A \\\"quoted\\\" suite\",\"passed\":1"));
+    assertThat(json, containsString("\"duration\":{\"count\":1,\"sum\":0.002,"));
+  }
+
+  @Test
+  public void writesPrometheusTextOtherwise() throws Exception {
+    Path file = folder.getRoot().toPath().resolve("metrics.prom");
+    Metrics metrics = new Metrics(Optional.of(file), Collections::emptyList);
+    metrics.record("Suite", Metrics.Outcome.PASSED, 2_000_000);
+
+    metrics.write();
+
+    String text = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+    assertThat(text, containsString("# TYPE spectrum_spec_duration_seconds histogram"));
+    assertThat(text, containsString("spectrum_spec_duration_seconds_sum{suite=\"Suite\"} 0.002"));
+  }
+
+  @Test
+  public void givesEverySuiteTheSameBuckets() {
+    Metrics metrics = new Metrics(Optional.empty(), Collections::emptyList);
+    metrics.record("Fast", Metrics.Outcome.PASSED, 3_000_000);
+    metrics.record("Slow", Metrics.Outcome.PASSED, 2_000_000_000);
+
+    String text = metrics.toPrometheusText();
+
+    assertThat(bucketBounds(text, "Fast"), is(bucketBounds(text, "Slow")));
+    assertThat(text,
+        containsString("spectrum_spec_duration_seconds_bucket{suite=\"Fast\",le=\"0.003072\"} 1"));
+    assertThat(text,
+        containsString("spectrum_spec_duration_seconds_bucket{suite=\"Fast\",le=\"2.097152\"} 1"));
+    assertThat(text,
+        containsString("spectrum_spec_duration_seconds_bucket{suite=\"Slow\",le=\"0.003072\"} 0"));
+  }
+
+  private static List<String> bucketBounds(String text, String suite) {
+    String prefix = "spectrum_spec_duration_seconds_bucket{suite=\"" + suite + "\",le=\"";
+
+    return Arrays.stream(text.split("\n"))
+        .filter(line -> line.startsWith(prefix))
+        .map(line -> line.substring(prefix.length(), line.indexOf('"', prefix.length())))
+        .collect(Collectors.toList());
+  }
+
+  private static Description spec(String name) {
+    return Description.createTestDescription("Suite", name);
+  }
+
+  private static void run(RunReporting<Description, Failure> reporting, Description spec) {
+    reporting.fireTestStarted(spec);
+    reporting.fireTestFinished(spec);
+  }
+}
@@ -0,0 +1,40 @@
+package com.greghaskins.spectrum.internal;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+public class ShardTest {
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void balancesTheDurationsFromTheHistoryAcrossTheShards() throws Exception {
+    Path file = folder.getRoot().toPath().resolve("timings.properties");
+    TimingHistory previousRun = new TimingHistory(Optional.of(file), true);
+    previousRun.record("a", TimeUnit.MILLISECONDS.toNanos(100));
+    previousRun.record("b", TimeUnit.MILLISECONDS.toNanos(60));
+    previousRun.record("c", TimeUnit.MILLISECONDS.toNanos(50));
+    previousRun.record("d", TimeUnit.MILLISECONDS.toNanos(10));
+    previousRun.save();
+    TimingHistory history = new TimingHistory(Optional.of(file), true);
+    List<String> items = asList("a", "b", "c", "d");
+
+    // "scope" hashes to an even number, so the first choice is the first shard
+    Shard first = new Shard(1, 2, Shard.Strategy.TIMING, history);
+    Shard second = new Shard(2, 2, Shard.Strategy.TIMING, history);
+
+    assertThat(first.select("scope", items, Function.identity()), containsInAnyOrder("a", "d"));
+    assertThat(second.select("scope", items, Function.identity()), containsInAnyOrder("b", "c"));
+  }
+}
@@ -0,0 +1,117 @@
+package com.greghaskins.spectrum.internal;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+public class TimingHistoryTest {
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void keepsDeclarationOrderWithNoHistory() throws Exception {
+    TimingHistory history = new TimingHistory(Optional.of(historyFile()), true);
+
+    assertThat(history.longestFirst(asList("a", "b", "c"), Function.identity()),
+        contains("a", "b", "c"));
+  }
+
+  @Test
+  public void ordersByTheDurationsOfThePreviousRun() throws Exception {
+    Path file = historyFile();
+    TimingHistory previousRun = new TimingHistory(Optional.of(file), true);
+    previousRun.record("a", TimeUnit.MILLISECONDS.toNanos(10));
+    previousRun.record("b", TimeUnit.MILLISECONDS.toNanos(30));
+    previousRun.record("c", TimeUnit.MILLISECONDS.toNanos(20));
+    previousRun.save();
+
+    TimingHistory nextRun = new TimingHistory(Optional.of(file), true);
+
+    assertThat(nextRun.durationOf("b"), is(OptionalLong.of(30)));
+    assertThat(nextRun.longestFirst(asList("a", "b", "new", "c"), Function.identity()),
+        contains("new", "b", "c", "a"));
+  }
+
+  @Test
+  public void mergesWithHistoryWrittenByOtherRuns() throws Exception {
+    Path file = historyFile();
+    TimingHistory oneRun = new TimingHistory(Optional.of(file), true);
+    TimingHistory anotherRun = new TimingHistory(Optional.of(file), true);
+    oneRun.record("a", TimeUnit.MILLISECONDS.toNanos(10));
+    anotherRun.record("b", TimeUnit.MILLISECONDS.toNanos(20));
+    oneRun.save();
+    anotherRun.save();
+
+    TimingHistory nextRun = new TimingHistory(Optional.of(file), true);
+
+    assertThat(nextRun.durationOf("a"), is(OptionalLong.of(10)));
+    assertThat(nextRun.durationOf("b"), is(OptionalLong.of(20)));
+  }
+
+  @Test
+  public void forgetsWhatTheClassesRunNoLongerHave() throws Exception {
+    Path file = historyFile();
+    TimingHistory previousRun = new TimingHistory(Optional.of(file), true);
+    previousRun.record("a", TimeUnit.MILLISECONDS.toNanos(10));
+    previousRun.record("a/removed spec", TimeUnit.MILLISECONDS.toNanos(10));
+    previousRun.record("b/spec", TimeUnit.MILLISECONDS.toNanos(10));
+    previousRun.save();
+
+    TimingHistory thisRun = new TimingHistory(Optional.of(file), true);
+    thisRun.record("a", TimeUnit.MILLISECONDS.toNanos(20));
+    thisRun.record("a/new spec", TimeUnit.MILLISECONDS.toNanos(20));
+    thisRun.save();
+
+    TimingHistory nextRun = new TimingHistory(Optional.of(file), true);
+
+    assertThat(nextRun.durationOf("a"), is(OptionalLong.of(20)));
+    assertThat(nextRun.durationOf("a/new spec"), is(OptionalLong.of(20)));
+    assertThat(nextRun.durationOf("a/removed spec"), is(OptionalLong.empty()));
+    assertThat(nextRun.durationOf("b/spec"), is(OptionalLong.of(10)));
+  }
+
+  @Test
+  public void recordsNothingUntilEnabled() throws Exception {
+    Path file = historyFile();
+    TimingHistory history = new TimingHistory(Optional.of(file), false);
+    history.record("a", TimeUnit.MILLISECONDS.toNanos(10));
+    history.save();
+
+    assertThat(Files.exists(file), is(false));
+
+    history.enable();
+    history.record("a", TimeUnit.MILLISECONDS.toNanos(10));
+    history.save();
+
+    assertThat(new TimingHistory(Optional.of(file), true).durationOf("a"),
+        is(OptionalLong.of(10)));
+  }
+
+  @Test
+  public void ignoresUnreadableEntries() throws Exception {
+    Path file = historyFile();
+    Files.createDirectories(file.getParent());
+    Files.write(file, "a=not a number\nb=5\n".getBytes("UTF-8"));
+
+    TimingHistory history = new TimingHistory(Optional.of(file), true);
+
+    assertThat(history.durationOf("a"), is(OptionalLong.empty()));
+    assertThat(history.durationOf("b"), is(OptionalLong.of(5)));
+  }
+
+  private Path historyFile() throws Exception {
+    return folder.getRoot().toPath().resolve("history").resolve("timings.properties");
+  }
+}
@@ -0,0 +1,90 @@
+package com.greghaskins.spectrum.internal.hooks;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+
+import com.greghaskins.spectrum.internal.RunReporting;
+import com.greghaskins.spectrum.internal.junit.RunNotifierReporting;
+
+import org.junit.Test;
+import org.junit.runner.Description;
+import org.junit.runner.notification.Failure;
+import org.junit.runner.notification.RunListener;
+import org.junit.runner.notification.RunNotifier;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class HookChainTest {
+  private final Description description = Description.createTestDescription("chain", "test");
+
+  @Test
+  public void runsTheSameHooksInOrderEachTime() {
+    List<String> steps = new ArrayList<>();
+    Hooks hooks = new Hooks();
+    hooks.add(hookNamed("inner", steps, HookContext.Precedence.LOCAL));
+    hooks.add(hookNamed("outer", steps, HookContext.Precedence.OUTER));
+    HookChain chain = hooks.sorted().compile();
+
+    chain.runAround(description, reporting(new ArrayList<>()), () -> steps.add("block"));
+    chain.runAround(description, reporting(new ArrayList<>()), () -> steps.add("block"));
+
+    assertThat(steps, contains("outer", "inner", "block", "outer", "inner", "block"));
+  }
+
+  @Test
+  public void runsTheAfterHooksAndReportsTheFailureWhenTheBlockFails() {
+    List<String> steps = new ArrayList<>();
+    List<Failure> failures = new ArrayList<>();
+    Hooks hooks = new Hooks();
+    hooks.add(new HookContext(BeforeHook.before(() -> steps.add("before")), 0,
+        HookContext.AppliesTo.ATOMIC_ONLY, HookContext.Precedence.LOCAL));
+    hooks.add(new HookContext(AfterHook.after(() -> steps.add("after")), 0,
+        HookContext.AppliesTo.ATOMIC_ONLY, HookContext.Precedence.LOCAL));
+
+    hooks.sorted().compile().runAround(description, reporting(failures), () -> {
+      steps.add("block");
+      throw new AssertionError("failed");
+    });
+
+    assertThat(steps, contains("before", "block", "after"));
+    assertThat(failures.size(), is(1));
+    assertThat(failures.get(0).getMessage(), is("failed"));
+  }
+
+  @Test
+  public void reportsAHookWhichDoesNotRunTheBlock() {
+    List<Failure> failures = new ArrayList<>();
+    Hooks hooks = new Hooks();
+    hooks.add(new HookContext((description, reporting, block) -> {
+    }, 0, HookContext.AppliesTo.ATOMIC_ONLY, HookContext.Precedence.LOCAL));
+
+    hooks.sorted().compile().runAround(description, reporting(failures), () -> {
+    });
+
+    assertThat(failures.size(), is(1));
+    assertThat(failures.get(0).getMessage(),
+        is("At least one of the test hooks did not run the test block."));
+  }
+
+  private static HookContext hookNamed(String name, List<String> steps,
+      HookContext.Precedence precedence) {
+    return new HookContext((description, reporting, block) -> {
+      steps.add(name);
+      block.run();
+    }, 0, HookContext.AppliesTo.ATOMIC_ONLY, precedence);
+  }
+
+  private static RunReporting<Description, Failure> reporting(List<Failure> failures) {
+    RunNotifier notifier = new RunNotifier();
+    notifier.addListener(new RunListener() {
+      @Override
+      public void testFailure(Failure failure) {
+        failures.add(failure);
+      }
+    });
+
+    return new RunNotifierReporting(notifier);
+  }
+}
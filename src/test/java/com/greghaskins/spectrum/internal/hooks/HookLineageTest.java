@@ -0,0 +1,51 @@
+package com.greghaskins.spectrum.internal.hooks;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+
+import org.junit.Test;
+
+public class HookLineageTest {
+  private final HookContext outerBeforeEach = atomic();
+  private final HookContext outerAfterAll = once();
+  private final HookContext innerBeforeEach = atomic();
+  private final HookContext ownAfterAll = once();
+
+  @Test
+  public void passesDownOnlyTheAtomicHooksOfEachGeneration() {
+    Hooks outer = hooksOf(outerBeforeEach, outerAfterAll);
+    Hooks inner = hooksOf(innerBeforeEach);
+    HookLineage lineage = HookLineage.NONE.inheritedBy(outer).inheritedBy(inner);
+
+    assertThat(lineage.plus(hooksOf(ownAfterAll)),
+        contains(innerBeforeEach, outerBeforeEach, ownAfterAll));
+  }
+
+  @Test
+  public void passesDownHooksWhichAreDeclaredAfterwards() {
+    Hooks outer = new Hooks();
+    HookLineage lineage = HookLineage.NONE.inheritedBy(outer);
+    outer.add(outerBeforeEach);
+
+    assertThat(lineage.plus(new Hooks()), contains(outerBeforeEach));
+  }
+
+  private static Hooks hooksOf(HookContext... contexts) {
+    Hooks hooks = new Hooks();
+    for (HookContext context : contexts) {
+      hooks.add(context);
+    }
+
+    return hooks;
+  }
+
+  private static HookContext atomic() {
+    return new HookContext(Hook.from(block -> block.run()), 0, HookContext.AppliesTo.ATOMIC_ONLY,
+        HookContext.Precedence.LOCAL);
+  }
+
+  private static HookContext once() {
+    return new HookContext(Hook.from(block -> block.run()), 0, HookContext.AppliesTo.ONCE,
+        HookContext.Precedence.LOCAL);
+  }
+}
@@ -0,0 +1,127 @@
+package com.greghaskins.spectrum.internal.hooks;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+
+import com.greghaskins.spectrum.internal.RunReporting;
+import com.greghaskins.spectrum.internal.junit.RunNotifierReporting;
+
+import org.junit.Test;
+import org.junit.runner.Description;
+import org.junit.runner.notification.Failure;
+import org.junit.runner.notification.RunNotifier;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+public class HookTimingsTest {
+  // the hooks pause once and the block twice, so a hook counting the block takes 3 pauses
+  private static final long PAUSE_MILLIS = 50;
+
+  private final Description description = Description.createTestDescription("chain", "test");
+  private final RunReporting<Description, Failure> reporting =
+      new RunNotifierReporting(new RunNotifier());
+  private final HookTimings timings = new HookTimings(true);
+
+  @Test
+  public void recordsTheTimeOfASimpleHookWithoutTheBlockItRunsAround() {
+    Hook before = SimpleHook.before(HookTimingsTest::pause);
+    chainOf(new HookContext(before, 1, HookContext.AppliesTo.ATOMIC_ONLY,
+        HookContext.Precedence.LOCAL, "Suite")).runAround(description, reporting, this::pauseTwice);
+
+    assertThat(timings.runsOf(before), is(1L));
+    assertThat(timings.nanosOf(before), is(greaterThanOrEqualTo(millis(PAUSE_MILLIS))));
+    assertThat(timings.nanosOf(before), is(lessThan(millis(3 * PAUSE_MILLIS))));
+  }
+
+  @Test
+  public void recordsTheTimeOfOtherHooksWithoutTheHooksTheyRunAround() {
+    Hook outer = Hook.from(block -> {
+      pause();
+      block.run();
+    });
+    Hook inner = Hook.from(block -> {
+      block.run();
+      pause();
+    });
+    Hooks hooks = new Hooks();
+    hooks.add(new HookContext(outer, 0, HookContext.AppliesTo.ATOMIC_ONLY,
+        HookContext.Precedence.OUTER, "Suite"));
+    hooks.add(new HookContext(inner, 1, HookContext.AppliesTo.ATOMIC_ONLY,
+        HookContext.Precedence.LOCAL, "Suite/inner"));
+    new HookChain(hooks.sorted(), timings).runAround(description, reporting, this::pauseTwice);
+
+    for (Hook hook : new Hook[] {outer, inner}) {
+      assertThat(timings.runsOf(hook), is(1L));
+      assertThat(timings.nanosOf(hook), is(greaterThanOrEqualTo(millis(PAUSE_MILLIS))));
+      assertThat(timings.nanosOf(hook), is(lessThan(millis(3 * PAUSE_MILLIS))));
+    }
+  }
+
+  @Test
+  public void reportsEachHookAgainstWhereItWasDeclared() {
+    Hook after = SimpleHook.after(() -> {
+    });
+    chainOf(new HookContext(after, 2, HookContext.AppliesTo.ATOMIC_ONLY,
+        HookContext.Precedence.GUARANTEED_CLEAN_UP_LOCAL, "Class/suite/nested"))
+        .runAround(description, reporting, () -> {
+        });
+    timings.recordBody("Class/suite/nested", millis(PAUSE_MILLIS));
+
+    String report = reportOf(timings);
+
+    assertThat(report, containsString("GUARANTEED_CLEAN_UP_LOCAL"));
+    assertThat(report, containsString("after"));
+    assertThat(report, containsString("ATOMIC_ONLY"));
+    assertThat(report, containsString("Class/suite/nested"));
+    assertThat(report, containsString("spec bodies"));
+  }
+
+  @Test
+  public void printsNothingWhenTimingIsOff() {
+    HookTimings off = new HookTimings(false);
+    Hook before = SimpleHook.before(() -> {
+    });
+    Hooks hooks = new Hooks();
+    hooks.add(new HookContext(before, 0, HookContext.AppliesTo.ATOMIC_ONLY,
+        HookContext.Precedence.LOCAL, "Suite"));
+    new HookChain(hooks, off).runAround(description, reporting, () -> {
+    });
+    off.recordBody("Suite", 1);
+
+    assertThat(off.now(), is(0L));
+    assertThat(off.runsOf(before), is(0L));
+    assertThat(reportOf(off), is(""));
+  }
+
+  private HookChain chainOf(HookContext context) {
+    Hooks hooks = new Hooks();
+    hooks.add(context);
+
+    return new HookChain(hooks, timings);
+  }
+
+  private void pauseTwice() throws Throwable {
+    pause();
+    pause();
+  }
+
+  private static void pause() throws InterruptedException {
+    Thread.sleep(PAUSE_MILLIS);
+  }
+
+  private static long millis(long millis) {
+    return TimeUnit.MILLISECONDS.toNanos(millis);
+  }
+
+  private static String reportOf(HookTimings timings) {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    timings.printReport(new PrintStream(output));
+
+    return output.toString();
+  }
+}
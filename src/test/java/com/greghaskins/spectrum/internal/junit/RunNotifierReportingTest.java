@@ -9,6 +9,12 @@ import com.greghaskins.spectrum.internal.junit.RunNotifierReporting;
 import org.junit.Test;
 import org.junit.runner.Description;
 import org.junit.runner.notification.Failure;
+import org.junit.runner.notification.RunListener;
+import org.junit.runner.notification.RunNotifier;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class RunNotifierReportingTest {
   @Test
@@ -44,4 +50,73 @@ public class RunNotifierReportingTest {
         new RunNotifierReporting.FailureWrapper(new Failure(desc2, exc2)));
   }
 
+  @Test
+  public void reportsTheSameFailureOnceWhileTheTestRuns() {
+    AtomicInteger failures = new AtomicInteger();
+    RunNotifierReporting reporting = new RunNotifierReporting(countingFailures(failures));
+    Description test = Description.createTestDescription("A", "test");
+    Failure failure = new Failure(test, new RuntimeException("A"));
+
+    reporting.fireTestStarted(test);
+    reporting.fireTestFailure(failure);
+    reporting.fireTestFailure(failure);
+    reporting.fireTestFailure(new Failure(test, failure.getException()));
+    reporting.fireTestFailure(new Failure(test, new RuntimeException("B")));
+    reporting.fireTestFinished(test);
+
+    assertEquals(2, failures.get());
+  }
+
+  @Test
+  public void forgetsTheFailuresOfATestOnceItFinishes() {
+    AtomicInteger failures = new AtomicInteger();
+    RunNotifierReporting reporting = new RunNotifierReporting(countingFailures(failures));
+    Description test = Description.createTestDescription("A", "test");
+    Failure failure = new Failure(test, new RuntimeException("A"));
+
+    for (int run = 0; run < 2; run++) {
+      reporting.fireTestStarted(test);
+      reporting.fireTestFailure(failure);
+      reporting.fireTestFinished(test);
+    }
+
+    assertEquals(2, failures.get());
+  }
+
+  @Test
+  public void reportsTheSameFailureOnceWhenReportedFromSeveralThreads() throws Exception {
+    AtomicInteger failures = new AtomicInteger();
+    RunNotifierReporting reporting = new RunNotifierReporting(countingFailures(failures));
+    Description test = Description.createTestDescription("A", "test");
+    Failure failure = new Failure(test, new RuntimeException("A"));
+
+    reporting.fireTestStarted(test);
+    List<Thread> threads = new ArrayList<>();
+    for (int thread = 0; thread < 8; thread++) {
+      threads.add(new Thread(() -> {
+        for (int attempt = 0; attempt < 1000; attempt++) {
+          reporting.fireTestFailure(failure);
+        }
+      }));
+    }
+    threads.forEach(Thread::start);
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    reporting.fireTestFinished(test);
+
+    assertEquals(1, failures.get());
+  }
+
+  private static RunNotifier countingFailures(AtomicInteger failures) {
+    RunNotifier notifier = new RunNotifier();
+    notifier.addListener(new RunListener() {
+      @Override
+      public void testFailure(Failure failure) {
+        failures.incrementAndGet();
+      }
+    });
+
+    return notifier;
+  }
 }
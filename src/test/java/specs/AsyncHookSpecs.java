@@ -0,0 +1,157 @@
+package specs;
+
+import static com.greghaskins.spectrum.Configure.parallel;
+import static com.greghaskins.spectrum.Configure.with;
+import static com.greghaskins.spectrum.dsl.specification.Specification.aroundEachAsync;
+import static com.greghaskins.spectrum.dsl.specification.Specification.beforeAllAsync;
+import static com.greghaskins.spectrum.dsl.specification.Specification.beforeEach;
+import static com.greghaskins.spectrum.dsl.specification.Specification.describe;
+import static com.greghaskins.spectrum.dsl.specification.Specification.it;
+import static com.greghaskins.spectrum.dsl.specification.Specification.let;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+import com.greghaskins.spectrum.Spectrum;
+import com.greghaskins.spectrum.SpectrumHelper;
+
+import org.junit.runner.Result;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+@RunWith(Spectrum.class)
+public class AsyncHookSpecs {
+  {
+    describe("The `aroundEachAsync` hook", () -> {
+      final Supplier<List<String>> steps =
+          let(() -> Collections.synchronizedList(new ArrayList<>()));
+
+      it("runs each spec once its asynchronous set up completes", () -> {
+        final Result result = SpectrumHelper.run(() -> {
+          aroundEachAsync(spec -> CompletableFuture.runAsync(() -> steps.get().add("set up"))
+              .thenCompose(setUp -> spec.run())
+              .thenRun(() -> steps.get().add("tear down")));
+          it("is a spec", () -> steps.get().add("spec"));
+          it("is another spec", () -> steps.get().add("spec"));
+        });
+
+        assertThat(result.getFailureCount(), is(0));
+        assertThat(steps.get(),
+            contains("set up", "spec", "tear down", "set up", "spec", "tear down"));
+      });
+
+      it("runs the spec on its own thread, so it can use let", () -> {
+        final Result result = SpectrumHelper.run(() -> {
+          final Supplier<String> name = let(() -> "let value");
+          aroundEachAsync(spec -> CompletableFuture.runAsync(() -> {
+          }).thenCompose(setUp -> spec.run()));
+          it("sees the let value", () -> steps.get().add(name.get()));
+        });
+
+        assertThat(result.getFailureCount(), is(0));
+        assertThat(steps.get(), contains("let value"));
+      });
+
+      it("runs before the beforeEach blocks of its suite, like aroundEach", () -> {
+        SpectrumHelper.run(() -> {
+          beforeEach(() -> steps.get().add("beforeEach"));
+          aroundEachAsync(spec -> CompletableFuture.runAsync(() -> steps.get().add("set up"))
+              .thenCompose(setUp -> spec.run()));
+          it("is a spec", () -> steps.get().add("spec"));
+        });
+
+        assertThat(steps.get(), contains("set up", "beforeEach", "spec"));
+      });
+
+      it("reports a failing spec once and can still tear down", () -> {
+        final Result result = SpectrumHelper.run(() -> {
+          aroundEachAsync(spec -> spec.run()
+              .whenComplete((ran, failure) -> steps.get().add("tear down")));
+          it("fails", () -> {
+            throw new AssertionError("spec failed");
+          });
+        });
+
+        assertThat(result.getFailures(), hasSize(1));
+        assertThat(result.getFailures().get(0).getMessage(), is("spec failed"));
+        assertThat(steps.get(), contains("tear down"));
+      });
+
+      it("fails the spec without running it when the set up fails", () -> {
+        final Result result = SpectrumHelper.run(() -> {
+          aroundEachAsync(spec -> CompletableFuture.runAsync(() -> {
+            throw new IllegalStateException("no server");
+          }).thenCompose(setUp -> spec.run()));
+          it("is never run", () -> steps.get().add("spec"));
+        });
+
+        assertThat(result.getFailures(), hasSize(1));
+        assertThat(result.getFailures().get(0).getException().getClass(),
+            is((Object) IllegalStateException.class));
+        assertThat(steps.get(), hasSize(0));
+      });
+    });
+
+    describe("The `beforeAllAsync` hook", () -> {
+      final Supplier<List<String>> steps =
+          let(() -> Collections.synchronizedList(new ArrayList<>()));
+
+      it("runs once, and completes before any spec runs", () -> {
+        final Result result = SpectrumHelper.run(() -> {
+          beforeAllAsync(() -> CompletableFuture.runAsync(() -> steps.get().add("set up")));
+          it("is a spec", () -> steps.get().add("spec"));
+          it("is another spec", () -> steps.get().add("spec"));
+        });
+
+        assertThat(result.getFailureCount(), is(0));
+        assertThat(steps.get(), contains("set up", "spec", "spec"));
+      });
+
+      it("fails every spec in the suite when it fails", () -> {
+        final Result result = SpectrumHelper.run(() -> {
+          beforeAllAsync(() -> CompletableFuture.runAsync(() -> {
+            throw new IllegalStateException("no server");
+          }));
+          it("is a spec", () -> steps.get().add("spec"));
+          it("is another spec", () -> steps.get().add("spec"));
+        });
+
+        assertThat(result.getFailureCount(), is(2));
+        assertThat(steps.get(), hasSize(0));
+      });
+
+      it("lets the other suites of a parallel suite run while it is pending", () -> {
+        final CompletableFuture<Void> setUpStarted = new CompletableFuture<>();
+        final CompletableFuture<Void> otherSuiteRan = new CompletableFuture<>();
+        final Result result = SpectrumHelper.run(() -> {
+          describe("Parallel suite", with(parallel(1), () -> {
+            describe("a suite waiting for its set up", () -> {
+              beforeAllAsync(() -> {
+                setUpStarted.complete(null);
+
+                return otherSuiteRan;
+              });
+              it("runs after the other suite", () -> {
+              });
+            });
+            describe("another suite", () -> {
+              it("runs while the set up is pending", () -> {
+                setUpStarted.get(5, TimeUnit.SECONDS);
+                otherSuiteRan.complete(null);
+              });
+            });
+          }));
+        });
+
+        assertThat(result.getFailureCount(), is(0));
+      });
+    });
+  }
+}
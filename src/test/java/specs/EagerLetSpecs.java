@@ -1,5 +1,7 @@
 package specs;
 
+import static com.greghaskins.spectrum.Configure.concurrentEagerLets;
+import static com.greghaskins.spectrum.Configure.with;
 import static com.greghaskins.spectrum.dsl.specification.Specification.afterEach;
 import static com.greghaskins.spectrum.dsl.specification.Specification.beforeAll;
 import static com.greghaskins.spectrum.dsl.specification.Specification.beforeEach;
@@ -11,6 +13,7 @@ import static com.greghaskins.spectrum.dsl.specification.Specification.let;
 import static java.util.Arrays.asList;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
@@ -28,6 +31,8 @@ import org.junit.runner.notification.Failure;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
@@ -235,6 +240,92 @@ public class EagerLetSpecs {
         });
       });
 
+      describe("in a suite configured with concurrentEagerLets()", () -> {
+        it("calculates the values declared together at the same time", () -> {
+          final CyclicBarrier bothCalculating = new CyclicBarrier(2);
+          final Result result = SpectrumHelper.run(() -> {
+            describe("a suite", with(concurrentEagerLets(), () -> {
+              final Supplier<String> first = eagerLet(() -> {
+                bothCalculating.await(5, TimeUnit.SECONDS);
+                return "first";
+              });
+              final Supplier<String> second = eagerLet(() -> {
+                bothCalculating.await(5, TimeUnit.SECONDS);
+                return "second";
+              });
+              it("sees both values", () -> {
+                assertThat(first.get(), is("first"));
+                assertThat(second.get(), is("second"));
+              });
+            }));
+          });
+
+          assertThat(result.getFailureCount(), is(0));
+        });
+
+        it("calculates them all before `beforeEach`, and fresh for every spec", () -> {
+          final AtomicInteger counter = new AtomicInteger();
+          final Result result = SpectrumHelper.run(() -> {
+            describe("a suite", with(concurrentEagerLets(), () -> {
+              final Supplier<Integer> first = eagerLet(counter::incrementAndGet);
+              final Supplier<Integer> second = eagerLet(counter::incrementAndGet);
+              final List<Integer> seenBeforeEach = new ArrayList<>();
+              beforeEach(() -> {
+                seenBeforeEach.add(first.get());
+                seenBeforeEach.add(second.get());
+              });
+              it("sees the first values", () -> {
+                assertThat(seenBeforeEach, containsInAnyOrder(1, 2));
+              });
+              it("sees new values", () -> {
+                assertThat(first.get() + second.get(), is(7));
+              });
+            }));
+          });
+
+          assertThat(result.getFailureCount(), is(0));
+        });
+
+        it("reports the failure of the first value in declaration order", () -> {
+          final Result result = SpectrumHelper.run(() -> {
+            describe("a suite", with(concurrentEagerLets(), () -> {
+              final Supplier<String> first = eagerLet(() -> {
+                Thread.sleep(50);
+                throw new DummyRuntimeException();
+              });
+              final Supplier<String> second = eagerLet(() -> {
+                throw new DummyError();
+              });
+              it("should fail", () -> {
+                first.get();
+                second.get();
+              });
+            }));
+          });
+
+          assertThat(result.getFailures(), hasSize(1));
+          final Throwable failure = result.getFailures().get(0).getException();
+          assertThat(failure, instanceOf(DummyRuntimeException.class));
+          assertThat(failure.getSuppressed()[0], instanceOf(DummyError.class));
+        });
+
+        it("calculates values separated by another hook in turn", () -> {
+          final Result result = SpectrumHelper.run(() -> {
+            describe("a suite", with(concurrentEagerLets(), () -> {
+              final Supplier<Integer> first = eagerLet(() -> 1);
+              beforeEach(() -> {
+              });
+              final Supplier<Integer> second = eagerLet(() -> first.get() + 1);
+              it("sees the value before it", () -> {
+                assertThat(second.get(), is(2));
+              });
+            }));
+          });
+
+          assertThat(result.getFailureCount(), is(0));
+        });
+      });
+
       describe("eager let across multiple threads", () -> {
         final Supplier<List<String>> listSupplier = eagerLet(ArrayList::new);
         it("can share the object with worker thread", () -> {
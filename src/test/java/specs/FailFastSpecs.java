@@ -0,0 +1,118 @@
+package specs;
+
+import static com.greghaskins.spectrum.Configure.parallel;
+import static com.greghaskins.spectrum.Configure.with;
+import static com.greghaskins.spectrum.dsl.specification.Specification.afterAll;
+import static com.greghaskins.spectrum.dsl.specification.Specification.beforeAll;
+import static com.greghaskins.spectrum.dsl.specification.Specification.describe;
+import static com.greghaskins.spectrum.dsl.specification.Specification.it;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+
+import com.greghaskins.spectrum.Block;
+import com.greghaskins.spectrum.Configure;
+import com.greghaskins.spectrum.Spectrum;
+import com.greghaskins.spectrum.SpectrumHelper;
+import com.greghaskins.spectrum.internal.FailFast;
+
+import org.junit.runner.Result;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+@RunWith(Spectrum.class)
+public class FailFastSpecs {
+  {
+    describe("A run with spectrum.failFast set", () -> {
+      it("reports the specs after the last allowed failure as ignored", () -> {
+        final Result result = runFailingFastAfter(2, () -> {
+          it("fails first", () -> {
+            throw new AssertionError("first");
+          });
+          it("passes", () -> {
+          });
+          it("fails second", () -> {
+            throw new AssertionError("second");
+          });
+          it("would fail third", () -> {
+            throw new AssertionError("third");
+          });
+          describe("a later suite", () -> {
+            it("would pass", () -> {
+            });
+          });
+        });
+        assertThat(result.getRunCount(), is(3));
+        assertThat(result.getFailureCount(), is(2));
+        assertThat(result.getIgnoreCount(), is(2));
+      });
+
+      it("still cleans up the suites which have started", () -> {
+        final List<String> steps = new ArrayList<>();
+        runFailingFastAfter(1, () -> {
+          describe("a started suite", () -> {
+            beforeAll(() -> steps.add("beforeAll"));
+            afterAll(() -> steps.add("afterAll"));
+            it("fails", () -> {
+              throw new AssertionError();
+            });
+            it("would pass", () -> steps.add("second spec"));
+          });
+        });
+        assertThat(steps, contains("beforeAll", "afterAll"));
+      });
+
+      it("never starts the suites after the failure", () -> {
+        final List<String> steps = new ArrayList<>();
+        runFailingFastAfter(1, () -> {
+          it("fails", () -> {
+            throw new AssertionError();
+          });
+          describe("a later suite", () -> {
+            beforeAll(() -> steps.add("beforeAll"));
+            afterAll(() -> steps.add("afterAll"));
+            it("would pass", () -> steps.add("spec"));
+          });
+        });
+        assertThat(steps, is(empty()));
+      });
+
+      it("interrupts specs running in parallel and reports them as skipped", () -> {
+        final CountDownLatch slowSpecStarted = new CountDownLatch(1);
+        final long started = System.nanoTime();
+        final Result result = runFailingFastAfter(1, () -> {
+          describe("Parallel suite", with(parallel(2), () -> {
+            it("takes a long time", () -> {
+              slowSpecStarted.countDown();
+              Thread.sleep(TimeUnit.SECONDS.toMillis(20));
+            });
+            it("fails", () -> {
+              slowSpecStarted.await(5, TimeUnit.SECONDS);
+              throw new AssertionError();
+            });
+          }));
+        });
+        assertThat(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - started), is(lessThan(10L)));
+        assertThat(result.getFailureCount(), is(1));
+        assertThat(result.getFailures().get(0).getDescription().getMethodName(), is("fails"));
+      });
+    });
+  }
+
+  private static Result runFailingFastAfter(final int failures, final Block block) {
+    FailFast.reset();
+    System.setProperty(Configure.FAIL_FAST_PROPERTY, Integer.toString(failures));
+    try {
+      return SpectrumHelper.run(block);
+    } finally {
+      System.clearProperty(Configure.FAIL_FAST_PROPERTY);
+      FailFast.reset();
+    }
+  }
+}
@@ -0,0 +1,99 @@
+package specs;
+
+import static com.greghaskins.spectrum.dsl.gherkin.Gherkin.feature;
+import static com.greghaskins.spectrum.dsl.gherkin.Gherkin.given;
+import static com.greghaskins.spectrum.dsl.gherkin.Gherkin.scenario;
+import static com.greghaskins.spectrum.dsl.gherkin.Gherkin.then;
+import static com.greghaskins.spectrum.dsl.gherkin.Gherkin.when;
+import static com.greghaskins.spectrum.dsl.specification.Specification.beforeAll;
+import static com.greghaskins.spectrum.dsl.specification.Specification.describe;
+import static com.greghaskins.spectrum.dsl.specification.Specification.it;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+
+import com.greghaskins.spectrum.Spectrum;
+import com.greghaskins.spectrum.SpectrumHelper;
+
+import org.junit.runner.Description;
+import org.junit.runner.JUnitCore;
+import org.junit.runner.Request;
+import org.junit.runner.Result;
+import org.junit.runner.RunWith;
+import org.junit.runner.manipulation.Filter;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+@RunWith(Spectrum.class)
+public class FilterAndSortSpecs {
+  private static final List<String> steps = new ArrayList<>();
+
+  {
+    describe("A Spectrum runner", () -> {
+      describe("given a filter", () -> {
+        it("only runs the specs which pass it", () -> {
+          steps.clear();
+          final Result result = new JUnitCore().run(Request.runner(new Spectrum(Fixture.class))
+              .filterWith(Filter.matchMethodDescription(
+                  Description.createTestDescription("second suite", "second spec"))));
+          assertThat(result.getRunCount(), is(1));
+          assertThat(steps, contains("second beforeAll", "second spec"));
+        });
+
+        it("does not run the hooks of suites with nothing left in them", () -> {
+          steps.clear();
+          new JUnitCore().run(Request.runner(new Spectrum(Fixture.class))
+              .filterWith(Filter.matchMethodDescription(
+                  Description.createTestDescription("first suite", "first spec"))));
+          assertThat(steps, contains("first beforeAll", "first spec"));
+        });
+      });
+
+      describe("given a sorter", () -> {
+        it("runs the suites and specs in the sorted order", () -> {
+          steps.clear();
+          new JUnitCore().run(Request.runner(new Spectrum(Fixture.class))
+              .sortWith(Comparator.comparing(Description::getDisplayName).reversed()));
+          assertThat(steps, contains("second beforeAll", "second spec", "first beforeAll",
+              "first spec"));
+        });
+
+        it("keeps the steps of a scenario in order", () -> {
+          steps.clear();
+          new JUnitCore().run(Request.runner(new Spectrum(ScenarioFixture.class))
+              .sortWith(Comparator.comparing(Description::getDisplayName)));
+          assertThat(steps, contains("given", "when", "then"));
+        });
+      });
+    });
+  }
+
+  @RunWith(SpectrumHelper.NullRunner.class)
+  public static class Fixture {
+    {
+      describe("first suite", () -> {
+        beforeAll(() -> steps.add("first beforeAll"));
+        it("first spec", () -> steps.add("first spec"));
+      });
+      describe("second suite", () -> {
+        beforeAll(() -> steps.add("second beforeAll"));
+        it("second spec", () -> steps.add("second spec"));
+      });
+    }
+  }
+
+  @RunWith(SpectrumHelper.NullRunner.class)
+  public static class ScenarioFixture {
+    {
+      feature("Ordering", () -> {
+        scenario("steps", () -> {
+          given("z comes first", () -> steps.add("given"));
+          when("a comes next", () -> steps.add("when"));
+          then("m comes last", () -> steps.add("then"));
+        });
+      });
+    }
+  }
+}
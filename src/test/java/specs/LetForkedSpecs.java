@@ -0,0 +1,135 @@
+package specs;
+
+import static com.greghaskins.spectrum.dsl.specification.Specification.describe;
+import static com.greghaskins.spectrum.dsl.specification.Specification.it;
+import static com.greghaskins.spectrum.dsl.specification.Specification.letForked;
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+import com.greghaskins.spectrum.Spectrum;
+import com.greghaskins.spectrum.SpectrumHelper;
+
+import org.junit.runner.Result;
+import org.junit.runner.RunWith;
+import org.junit.runner.notification.Failure;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+@RunWith(Spectrum.class)
+public class LetForkedSpecs {
+  {
+    describe("The `letForked` helper function", () -> {
+      final AtomicInteger builds = new AtomicInteger();
+      final Supplier<List<String>> items = letForked(() -> {
+        builds.incrementAndGet();
+
+        return new ArrayList<>(asList("foo", "bar"));
+      }, ArrayList::new);
+
+      it("is a way to supply a value for specs", () -> {
+        assertThat(items.get(), contains("foo", "bar"));
+      });
+
+      it("caches the copy so it is the same throughout a spec", () -> {
+        assertThat(items.get(), is(sameInstance(items.get())));
+
+        items.get().add("baz");
+
+        assertThat(items.get(), contains("foo", "bar", "baz"));
+      });
+
+      it("gives every spec a fresh copy", () -> {
+        assertThat(items.get(), contains("foo", "bar"));
+      });
+
+      it("builds the value only once for the suite", () -> {
+        items.get();
+
+        assertThat(builds.get(), is(1));
+      });
+
+      describe("without a copier", () -> {
+        final Supplier<List<List<String>>> nested =
+            letForked(() -> new ArrayList<>(asList(new ArrayList<>(asList("foo")))));
+
+        it("copies a serializable value along with everything in it", () -> {
+          nested.get().get(0).add("bar");
+
+          assertThat(nested.get().get(0), contains("foo", "bar"));
+        });
+
+        it("so that nothing in it leaks to the next spec", () -> {
+          assertThat(nested.get().get(0), contains("foo"));
+        });
+
+        final Supplier<CloneableModel> model = letForked(CloneableModel::new);
+
+        it("clones a value which cannot be serialized", () -> {
+          model.get().name = "changed";
+        });
+
+        it("so that a change to the clone does not leak to the next spec", () -> {
+          assertThat(model.get().name, is("original"));
+        });
+      });
+
+      it("fails each spec when the value cannot be built, building it only once", () -> {
+        final AtomicInteger attempts = new AtomicInteger();
+        final Result result = SpectrumHelper.run(() -> {
+          final Supplier<String> broken = letForked(() -> {
+            attempts.incrementAndGet();
+            throw new IllegalStateException("cannot parse");
+          }, value -> value);
+          it("needs the value", () -> broken.get());
+          it("also needs the value", () -> broken.get());
+        });
+
+        assertThat(result.getFailures(), hasSize(2));
+        assertThat(result.getFailures().get(0).getMessage(), is("cannot parse"));
+        assertThat(attempts.get(), is(1));
+      });
+
+      it("fails a spec whose value cannot be copied without a copier", () -> {
+        final Result result = SpectrumHelper.run(() -> {
+          final Supplier<Object> uncopyable = letForked(Object::new);
+          it("needs the value", () -> uncopyable.get());
+        });
+
+        assertThat(result.getFailures(), hasSize(1));
+        final Failure failure = result.getFailures().get(0);
+        assertThat(failure.getMessage(), containsString("needs a copier"));
+      });
+
+      it("cannot be used while declaring the suite", () -> {
+        final Result result = SpectrumHelper.run(() -> {
+          final Supplier<String> value = letForked(() -> "value", copy -> copy);
+          assertThat(value.get(), is(not("value")));
+          it("is never reached", () -> {
+          });
+        });
+
+        assertThat(result.getFailures(), hasSize(1));
+        assertThat(result.getFailures().get(0).getMessage(),
+            containsString("Cannot use the value from letForked() in a suite declaration"));
+      });
+    });
+  }
+
+  public static class CloneableModel implements Cloneable {
+    String name = "original";
+
+    @Override
+    public CloneableModel clone() throws CloneNotSupportedException {
+      return (CloneableModel) super.clone();
+    }
+  }
+}
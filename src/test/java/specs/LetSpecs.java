@@ -1,5 +1,8 @@
 package specs;
 
+import static com.greghaskins.spectrum.Configure.parallel;
+import static com.greghaskins.spectrum.Configure.with;
+import static com.greghaskins.spectrum.dsl.specification.Specification.afterAll;
 import static com.greghaskins.spectrum.dsl.specification.Specification.afterEach;
 import static com.greghaskins.spectrum.dsl.specification.Specification.beforeEach;
 import static com.greghaskins.spectrum.dsl.specification.Specification.context;
@@ -9,6 +12,8 @@ import static com.greghaskins.spectrum.dsl.specification.Specification.let;
 import static java.util.Arrays.asList;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
@@ -18,6 +23,7 @@ import static org.hamcrest.Matchers.sameInstance;
 import com.greghaskins.spectrum.Spectrum;
 import com.greghaskins.spectrum.SpectrumHelper;
 import com.greghaskins.spectrum.Variable;
+import com.greghaskins.spectrum.internal.hooks.ExecutionContext;
 
 import org.junit.runner.Result;
 import org.junit.runner.RunWith;
@@ -25,7 +31,12 @@ import org.junit.runner.notification.Failure;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 
 @RunWith(Spectrum.class)
@@ -234,6 +245,41 @@ public class LetSpecs {
           // then the worker thread saw the same object as the outer thread
           assertThat(atomicInteger.get(), is(1));
         });
+
+        describe("with a worker thread which outlives the spec that started it", () -> {
+          final AtomicReference<ExecutorService> executor = new AtomicReference<>();
+          afterAll(() -> executor.get().shutdown());
+
+          it("shares the object with the worker thread in the spec which started it", () -> {
+            executor.set(Executors.newSingleThreadExecutor());
+            executor.get().submit(() -> listSupplier.get().add("from the worker")).get();
+
+            assertThat(listSupplier.get(), contains("from the worker"));
+          });
+
+          it("shares the next spec's object with the same worker thread", () -> {
+            assertThat(executor.get().submit(listSupplier::get).get(),
+                is(sameInstance(listSupplier.get())));
+            assertThat(listSupplier.get(), is(empty()));
+          });
+        });
+
+        describe("with specs running side by side", () -> {
+          it("fails rather than guess which spec a thread of their own is working for", () -> {
+            final Result result = SpectrumHelper.run(getSuiteThatUsesLetOnAThreadOfItsOwn());
+
+            assertThat(result.getFailureCount(), is(2));
+            final Failure failure = result.getFailures().get(0);
+            assertThat(failure.getException(), instanceOf(IllegalStateException.class));
+            assertThat(failure.getMessage(), containsString("ExecutionContext.propagating"));
+          });
+
+          it("shares the object with a thread the spec propagated its context to", () -> {
+            final Result result = SpectrumHelper.run(getSuiteThatPropagatesLetToAThread());
+
+            assertThat(result.getFailureCount(), is(0));
+          });
+        });
       });
     });
   }
@@ -258,6 +304,61 @@ public class LetSpecs {
     return Suite.class;
   }
 
+  private static Class<?> getSuiteThatUsesLetOnAThreadOfItsOwn() {
+    class Suite {
+      {
+        describe("specs side by side", with(parallel(2), () -> {
+          final Supplier<String> value = let(() -> "value");
+          final CyclicBarrier bothRunning = new CyclicBarrier(2);
+
+          it("uses the value on a thread", () -> useOnAThread(value, bothRunning, false));
+          it("uses the value on another thread", () -> useOnAThread(value, bothRunning, false));
+        }));
+      }
+    }
+
+    return Suite.class;
+  }
+
+  private static Class<?> getSuiteThatPropagatesLetToAThread() {
+    class Suite {
+      {
+        describe("specs side by side", with(parallel(2), () -> {
+          final Supplier<String> value = let(() -> "value");
+          final CyclicBarrier bothRunning = new CyclicBarrier(2);
+
+          it("uses the value on a thread", () -> useOnAThread(value, bothRunning, true));
+          it("uses the value on another thread", () -> useOnAThread(value, bothRunning, true));
+        }));
+      }
+    }
+
+    return Suite.class;
+  }
+
+  private static void useOnAThread(final Supplier<String> value,
+      final CyclicBarrier bothRunning, final boolean propagating) throws Throwable {
+    final AtomicReference<Throwable> failure = new AtomicReference<>();
+    final Runnable use = () -> {
+      try {
+        assertThat(value.get(), is("value"));
+      } catch (Throwable thrown) {
+        failure.set(thrown);
+      }
+    };
+
+    // both specs are running while the value is used
+    bothRunning.await(5, TimeUnit.SECONDS);
+    final Thread thread = new Thread(propagating ? ExecutionContext.propagating(use) : use);
+    thread.start();
+    thread.join();
+    bothRunning.await(5, TimeUnit.SECONDS);
+
+    if (failure.get() != null) {
+      throw failure.get();
+    }
+  }
+
   private static class DummyException extends Exception {
     private static final long serialVersionUID = 1L;
   }
@@ -0,0 +1,146 @@
+package specs;
+
+import static com.greghaskins.spectrum.Configure.parallel;
+import static com.greghaskins.spectrum.Configure.with;
+import static com.greghaskins.spectrum.dsl.specification.Specification.afterAll;
+import static com.greghaskins.spectrum.dsl.specification.Specification.beforeAll;
+import static com.greghaskins.spectrum.dsl.specification.Specification.describe;
+import static com.greghaskins.spectrum.dsl.specification.Specification.eagerLet;
+import static com.greghaskins.spectrum.dsl.specification.Specification.it;
+import static com.greghaskins.spectrum.dsl.specification.Specification.let;
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+
+import com.greghaskins.spectrum.Spectrum;
+import com.greghaskins.spectrum.SpectrumHelper;
+
+import org.junit.runner.Result;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+@RunWith(Spectrum.class)
+public class ParallelSpecs {
+  {
+    describe("A suite configured with parallel()", () -> {
+      it("runs its specs at the same time", () -> {
+        final CyclicBarrier bothSpecsRunning = new CyclicBarrier(2);
+        final Result result = SpectrumHelper.run(() -> {
+          describe("Parallel suite", with(parallel(2), () -> {
+            it("waits for its sibling", () -> {
+              bothSpecsRunning.await(5, TimeUnit.SECONDS);
+            });
+            it("waits for its sibling too", () -> {
+              bothSpecsRunning.await(5, TimeUnit.SECONDS);
+            });
+          }));
+        });
+        assertThat(result.getRunCount(), is(2));
+        assertThat(result.getFailureCount(), is(0));
+      });
+
+      it("runs the children of nested suites at the same time", () -> {
+        final CyclicBarrier allSpecsRunning = new CyclicBarrier(3);
+        final Result result = SpectrumHelper.run(() -> {
+          describe("Parallel suite", with(parallel(3), () -> {
+            it("waits for the others", () -> {
+              allSpecsRunning.await(5, TimeUnit.SECONDS);
+            });
+            describe("nested suite", () -> {
+              it("waits for the others", () -> {
+                allSpecsRunning.await(5, TimeUnit.SECONDS);
+              });
+              it("waits for the others too", () -> {
+                allSpecsRunning.await(5, TimeUnit.SECONDS);
+              });
+            });
+          }));
+        });
+        assertThat(result.getFailureCount(), is(0));
+      });
+
+      it("runs beforeAll only once, before any spec", () -> {
+        final AtomicInteger beforeAllCount = new AtomicInteger();
+        final Result result = SpectrumHelper.run(() -> {
+          describe("Parallel suite", with(parallel(4), () -> {
+            beforeAll(() -> {
+              Thread.sleep(50);
+              beforeAllCount.incrementAndGet();
+            });
+            for (int i = 0; i < 8; i++) {
+              it("sees the beforeAll " + i, () -> {
+                assertThat(beforeAllCount.get(), is(1));
+              });
+            }
+          }));
+        });
+        assertThat(beforeAllCount.get(), is(1));
+        assertThat(result.getFailureCount(), is(0));
+      });
+
+      it("runs afterAll only when every spec has finished", () -> {
+        final AtomicInteger finishedSpecs = new AtomicInteger();
+        final AtomicInteger finishedSpecsSeenByAfterAll = new AtomicInteger();
+        final Result result = SpectrumHelper.run(() -> {
+          describe("Parallel suite", with(parallel(4), () -> {
+            afterAll(() -> finishedSpecsSeenByAfterAll.set(finishedSpecs.get()));
+            for (int i = 0; i < 8; i++) {
+              it("takes a while " + i, () -> {
+                Thread.sleep(10);
+                finishedSpecs.incrementAndGet();
+              });
+            }
+          }));
+        });
+        assertThat(finishedSpecsSeenByAfterAll.get(), is(8));
+        assertThat(result.getRunCount(), is(8));
+      });
+
+      it("gives each running spec its own let and eagerLet values", () -> {
+        final CyclicBarrier bothSpecsRunning = new CyclicBarrier(2);
+        final Result result = SpectrumHelper.run(() -> {
+          describe("Parallel suite", with(parallel(2), () -> {
+            final Supplier<List<String>> lazyItems = let(ArrayList::new);
+            final Supplier<List<String>> eagerItems = eagerLet(ArrayList::new);
+            for (String name : asList("first", "second")) {
+              it("adds " + name, () -> {
+                lazyItems.get().add(name);
+                eagerItems.get().add(name);
+                bothSpecsRunning.await(5, TimeUnit.SECONDS);
+                assertThat(lazyItems.get(), contains(name));
+                assertThat(eagerItems.get(), contains(name));
+              });
+            }
+          }));
+        });
+        assertThat(result.getFailureCount(), is(0));
+      });
+
+      it("reports failures against the right specs", () -> {
+        final Result result = SpectrumHelper.run(() -> {
+          describe("Parallel suite", with(parallel(4), () -> {
+            for (int i = 0; i < 8; i++) {
+              final boolean shouldFail = i % 2 == 0;
+              it("spec " + i, () -> {
+                assertThat(shouldFail, is(false));
+              });
+            }
+          }));
+        });
+        assertThat(result.getRunCount(), is(8));
+        assertThat(result.getFailureCount(), is(4));
+        result.getFailures().forEach(failure -> {
+          int index = Integer.parseInt(failure.getDescription().getMethodName().substring(5));
+          assertThat(index % 2, is(0));
+        });
+      });
+    });
+  }
+}
@@ -0,0 +1,147 @@
+package specs;
+
+import static com.greghaskins.spectrum.Configure.prefetchSetup;
+import static com.greghaskins.spectrum.Configure.with;
+import static com.greghaskins.spectrum.dsl.specification.Specification.beforeAll;
+import static com.greghaskins.spectrum.dsl.specification.Specification.describe;
+import static com.greghaskins.spectrum.dsl.specification.Specification.it;
+import static com.greghaskins.spectrum.dsl.specification.Specification.xdescribe;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+import com.greghaskins.spectrum.Spectrum;
+import com.greghaskins.spectrum.SpectrumHelper;
+
+import org.junit.runner.Result;
+import org.junit.runner.RunWith;
+import org.junit.runner.notification.Failure;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+@RunWith(Spectrum.class)
+public class PrefetchSetupSpecs {
+  {
+    describe("A suite configured with prefetchSetup()", () -> {
+      it("starts the beforeAll of the next suite while the suite before it runs", () -> {
+        final CountDownLatch nextSetUpStarted = new CountDownLatch(1);
+        final Result result = SpectrumHelper.run(() -> {
+          describe("Prefetching suite", with(prefetchSetup(), () -> {
+            describe("first suite", () -> {
+              it("sees the set up of the next suite start", () -> {
+                assertThat(nextSetUpStarted.await(5, TimeUnit.SECONDS), is(true));
+              });
+            });
+            describe("next suite", () -> {
+              beforeAll(nextSetUpStarted::countDown);
+              it("is a spec", () -> {
+              });
+            });
+          }));
+        });
+
+        assertThat(result.getFailureCount(), is(0));
+      });
+
+      it("still runs each beforeAll only once, before the specs of its suite", () -> {
+        final AtomicInteger setUps = new AtomicInteger();
+        final Result result = SpectrumHelper.run(() -> {
+          describe("Prefetching suite", with(prefetchSetup(), () -> {
+            describe("first suite", () -> {
+              it("is a spec", () -> {
+              });
+            });
+            describe("next suite", () -> {
+              beforeAll(() -> {
+                Thread.sleep(50);
+                setUps.incrementAndGet();
+              });
+              it("sees the set up", () -> assertThat(setUps.get(), is(1)));
+              it("sees the set up too", () -> assertThat(setUps.get(), is(1)));
+            });
+          }));
+        });
+
+        assertThat(result.getFailureCount(), is(0));
+        assertThat(setUps.get(), is(1));
+      });
+
+      it("reports a beforeAll which fails against the specs of its own suite", () -> {
+        final Result result = SpectrumHelper.run(() -> {
+          describe("Prefetching suite", with(prefetchSetup(), () -> {
+            describe("first suite", () -> {
+              it("passes", () -> {
+              });
+            });
+            describe("next suite", () -> {
+              beforeAll(() -> {
+                throw new IllegalStateException("no server");
+              });
+              it("is a spec", () -> {
+              });
+              it("is another spec", () -> {
+              });
+            });
+          }));
+        });
+
+        assertThat(result.getFailures(), hasSize(2));
+        assertThat(result.getFailures().stream().map(Failure::getMessage)
+            .collect(Collectors.toList()), everyItem(is("no server")));
+        assertThat(result.getFailures().stream()
+            .map(failure -> failure.getDescription().getClassName())
+            .collect(Collectors.toList()), everyItem(is("next suite")));
+      });
+
+      it("runs the beforeAll of the suites above before the one it prefetches", () -> {
+        final List<String> setUps = new CopyOnWriteArrayList<>();
+        final Result result = SpectrumHelper.run(() -> {
+          describe("Prefetching suite", with(prefetchSetup(), () -> {
+            beforeAll(() -> {
+              Thread.sleep(50);
+              setUps.add("start the database");
+            });
+            describe("first suite", () -> {
+              it("is a spec", () -> {
+              });
+            });
+            describe("next suite", () -> {
+              beforeAll(() -> setUps.add("seed the database"));
+              it("sees the database seeded", () -> {
+                assertThat(setUps, contains("start the database", "seed the database"));
+              });
+            });
+          }));
+        });
+
+        assertThat(result.getFailureCount(), is(0));
+        assertThat(setUps, contains("start the database", "seed the database"));
+      });
+
+      it("does not prefetch the set up of a suite which will not run", () -> {
+        final AtomicInteger setUps = new AtomicInteger();
+        SpectrumHelper.run(() -> {
+          describe("Prefetching suite", with(prefetchSetup(), () -> {
+            describe("first suite", () -> {
+              it("waits a moment", () -> Thread.sleep(50));
+            });
+            xdescribe("ignored suite", () -> {
+              beforeAll(setUps::incrementAndGet);
+              it("is a spec", () -> {
+              });
+            });
+          }));
+        });
+
+        assertThat(setUps.get(), is(0));
+      });
+    });
+  }
+}
@@ -0,0 +1,88 @@
+package specs;
+
+import static com.greghaskins.spectrum.dsl.specification.Specification.beforeAll;
+import static com.greghaskins.spectrum.dsl.specification.Specification.describe;
+import static com.greghaskins.spectrum.dsl.specification.Specification.it;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.fail;
+
+import com.greghaskins.spectrum.Block;
+import com.greghaskins.spectrum.Configure;
+import com.greghaskins.spectrum.Spectrum;
+import com.greghaskins.spectrum.SpectrumHelper;
+
+import org.junit.runner.Result;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@RunWith(Spectrum.class)
+public class ShardingSpecs {
+  {
+    describe("A run sharded with the spectrum.shard system property", () -> {
+      it("runs every spec in exactly one shard", () -> {
+        final List<String> specsRun = new ArrayList<>();
+        for (int shard = 1; shard <= 3; shard++) {
+          final Result result = runShard(shard + "/3", () -> {
+            describe("Suite", () -> {
+              for (int i = 0; i < 30; i++) {
+                final String name = "spec " + i;
+                it(name, () -> specsRun.add(name));
+              }
+            });
+          });
+          assertThat(result.getRunCount(), is(greaterThan(0)));
+        }
+        assertThat(specsRun, hasSize(30));
+        assertThat(new HashSet<>(specsRun), hasSize(30));
+      });
+
+      it("does not run the hooks of suites with no specs in the shard", () -> {
+        final AtomicInteger beforeAllRuns = new AtomicInteger();
+        final Set<String> suitesRun = new HashSet<>();
+        for (int shard = 1; shard <= 4; shard++) {
+          runShard(shard + "/4", () -> {
+            for (int i = 0; i < 10; i++) {
+              final String name = "suite " + i;
+              describe(name, () -> {
+                beforeAll(beforeAllRuns::incrementAndGet);
+                it("is the only spec", () -> suitesRun.add(name));
+              });
+            }
+          });
+        }
+        assertThat(suitesRun, hasSize(10));
+        assertThat(beforeAllRuns.get(), is(10));
+      });
+
+      it("rejects a shard which does not exist", () -> {
+        try {
+          runShard("5/4", () -> {
+            it("a spec", () -> {
+            });
+          });
+          fail("expected the shard to be rejected");
+        } catch (IllegalArgumentException expected) {
+          assertThat(expected.getMessage(), containsString("5 of 4"));
+        }
+      });
+    });
+  }
+
+  private static Result runShard(final String shard, final Block block) {
+    System.setProperty(Configure.SHARD_PROPERTY, shard);
+    try {
+      return SpectrumHelper.run(block);
+    } finally {
+      System.clearProperty(Configure.SHARD_PROPERTY);
+    }
+  }
+}
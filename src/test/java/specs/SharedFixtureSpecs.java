@@ -0,0 +1,186 @@
+package specs;
+
+import static com.greghaskins.spectrum.dsl.specification.Specification.afterAll;
+import static com.greghaskins.spectrum.dsl.specification.Specification.beforeAll;
+import static com.greghaskins.spectrum.dsl.specification.Specification.beforeEach;
+import static com.greghaskins.spectrum.dsl.specification.Specification.describe;
+import static com.greghaskins.spectrum.dsl.specification.Specification.it;
+import static com.greghaskins.spectrum.dsl.specification.Specification.sharedFixture;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+import com.greghaskins.spectrum.Spectrum;
+import com.greghaskins.spectrum.SpectrumHelper;
+import com.greghaskins.spectrum.ThrowingConsumer;
+
+import org.junit.runner.JUnitCore;
+import org.junit.runner.Result;
+import org.junit.runner.RunWith;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+@RunWith(Spectrum.class)
+public class SharedFixtureSpecs {
+  private static final List<String> events = new ArrayList<>();
+
+  {
+    describe("The `sharedFixture` helper function", () -> {
+      beforeEach(events::clear);
+
+      it("creates the value once for every test class in the run which declares the key", () -> {
+        new JUnitCore().run(getClassesThatShareAFixture());
+
+        assertThat(events, contains("created", "used fixture", "used fixture", "closed"));
+      });
+
+      it("does not create the value when no spec uses it", () -> {
+        SpectrumHelper.run(() -> {
+          sharedFixture("never used", () -> created(events), closed(events));
+          it("ignores the fixture", () -> {
+          });
+        });
+
+        assertThat(events, is(empty()));
+      });
+
+      it("keeps the value until the run finishes", () -> {
+        final Result result = SpectrumHelper.run(() -> {
+          describe("a suite", () -> {
+            final Supplier<String> server =
+                sharedFixture("until finished", () -> created(events), closed(events));
+            it("uses the fixture", () -> server.get());
+            afterAll(() -> events.add("suite finished"));
+          });
+          describe("another suite", () -> {
+            final Supplier<String> server =
+                sharedFixture("until finished", () -> created(events), closed(events));
+            it("uses the fixture", () -> server.get());
+            afterAll(() -> events.add("suite finished"));
+          });
+        });
+
+        assertThat(result.getFailureCount(), is(0));
+        assertThat(events, contains("created", "suite finished", "suite finished", "closed"));
+      });
+
+      it("shares the value with nested suites which declare the same key", () -> {
+        SpectrumHelper.run(() -> {
+          final Supplier<String> outer =
+              sharedFixture("nested", () -> created(events), closed(events));
+          describe("a nested suite", () -> {
+            final Supplier<String> inner =
+                sharedFixture("nested", () -> created(events), closed(events));
+            it("sees the same value", () -> {
+              outer.get();
+              inner.get();
+            });
+          });
+        });
+
+        assertThat(events, contains("created", "closed"));
+      });
+
+      it("can be used from beforeAll", () -> {
+        final Result result = SpectrumHelper.run(() -> {
+          final Supplier<String> server =
+              sharedFixture("before all", () -> created(events), closed(events));
+          beforeAll(() -> events.add(server.get()));
+          it("uses the fixture", () -> server.get());
+        });
+
+        assertThat(result.getFailureCount(), is(0));
+        assertThat(events, contains("created", "fixture", "closed"));
+      });
+
+      describe("with an idle timeout of zero", () -> {
+        it("closes the value as soon as no suite needs it", () -> {
+          SpectrumHelper.run(() -> {
+            describe("a suite", () -> {
+              final Supplier<String> server = sharedFixture("idle", () -> created(events),
+                  closed(events), Duration.ZERO);
+              it("uses the fixture", () -> server.get());
+            });
+            describe("another suite", () -> {
+              final Supplier<String> server = sharedFixture("idle", () -> created(events),
+                  closed(events), Duration.ZERO);
+              it("uses the fixture", () -> server.get());
+            });
+          });
+
+          assertThat(events, contains("created", "closed", "created", "closed"));
+        });
+      });
+
+      it("reports a value which cannot be created against the spec which needed it", () -> {
+        final Result result = SpectrumHelper.run(() -> {
+          final Supplier<String> server = sharedFixture("broken", () -> {
+            throw new IllegalStateException("no server");
+          }, value -> {
+          });
+          it("uses the fixture", () -> server.get());
+        });
+
+        assertThat(result.getFailures(), hasSize(1));
+        assertThat(result.getFailures().get(0).getDescription().getMethodName(),
+            is("uses the fixture"));
+      });
+
+      it("cannot be used while declaring the suite", () -> {
+        final Result result = SpectrumHelper.run(() -> {
+          final Supplier<String> server =
+              sharedFixture("declaring", () -> created(events), closed(events));
+          server.get();
+          it("is never reached", () -> {
+          });
+        });
+
+        assertThat(result.getFailures(), hasSize(1));
+        assertThat(result.getFailures().get(0).getMessage(),
+            containsString("Cannot use the value from sharedFixture() in a suite declaration"));
+      });
+    });
+  }
+
+  private static String created(final List<String> events) {
+    events.add("created");
+
+    return "fixture";
+  }
+
+  private static ThrowingConsumer<String> closed(final List<String> events) {
+    return value -> events.add("closed");
+  }
+
+  private static Class<?>[] getClassesThatShareAFixture() {
+    @RunWith(Spectrum.class)
+    class FirstSuite {
+      {
+        describe("a suite", () -> {
+          final Supplier<String> server =
+              sharedFixture("across classes", () -> created(events), closed(events));
+          it("uses the fixture", () -> events.add("used " + server.get()));
+        });
+      }
+    }
+
+    @RunWith(Spectrum.class)
+    class SecondSuite {
+      {
+        describe("a suite in another class", () -> {
+          final Supplier<String> server =
+              sharedFixture("across classes", () -> created(events), closed(events));
+          it("uses the fixture", () -> events.add("used " + server.get()));
+        });
+      }
+    }
+
+    return new Class<?>[] {FirstSuite.class, SecondSuite.class};
+  }
+}
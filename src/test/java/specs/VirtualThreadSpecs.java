@@ -0,0 +1,81 @@
+package specs;
+
+import static com.greghaskins.spectrum.Configure.virtualThreads;
+import static com.greghaskins.spectrum.Configure.with;
+import static com.greghaskins.spectrum.dsl.specification.Specification.afterAll;
+import static com.greghaskins.spectrum.dsl.specification.Specification.beforeEach;
+import static com.greghaskins.spectrum.dsl.specification.Specification.describe;
+import static com.greghaskins.spectrum.dsl.specification.Specification.it;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import com.greghaskins.spectrum.Spectrum;
+import com.greghaskins.spectrum.SpectrumHelper;
+
+import org.junit.runner.Result;
+import org.junit.runner.RunWith;
+
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@RunWith(Spectrum.class)
+public class VirtualThreadSpecs {
+  {
+    describe("A suite configured with virtualThreads()", () -> {
+      it("runs its specs at the same time", () -> {
+        final CyclicBarrier allSpecsRunning = new CyclicBarrier(3);
+        final Result result = SpectrumHelper.run(() -> {
+          // on a JVM without virtual threads, the default is only as many as the processors
+          describe("Virtual thread suite", with(virtualThreads(3), () -> {
+            it("waits for the others", () -> {
+              allSpecsRunning.await(5, TimeUnit.SECONDS);
+            });
+            it("waits for the others too", () -> {
+              allSpecsRunning.await(5, TimeUnit.SECONDS);
+            });
+            it("waits for the others as well", () -> {
+              allSpecsRunning.await(5, TimeUnit.SECONDS);
+            });
+          }));
+        });
+        assertThat(result.getRunCount(), is(3));
+        assertThat(result.getFailureCount(), is(0));
+      });
+
+      it("runs no more specs at once than its concurrency limit", () -> {
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger mostRunning = new AtomicInteger();
+        final Result result = SpectrumHelper.run(() -> {
+          describe("Limited suite", with(virtualThreads(2), () -> {
+            for (int i = 0; i < 6; i++) {
+              it("takes a while " + i, () -> {
+                mostRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                Thread.sleep(20);
+                running.decrementAndGet();
+              });
+            }
+          }));
+        });
+        assertThat(result.getFailureCount(), is(0));
+        assertThat(mostRunning.get(), is(2));
+      });
+
+      it("runs the hooks around each spec and afterAll when they have all finished", () -> {
+        final AtomicInteger beforeEachCount = new AtomicInteger();
+        final AtomicInteger beforeEachCountSeenByAfterAll = new AtomicInteger();
+        final Result result = SpectrumHelper.run(() -> {
+          describe("Virtual thread suite", with(virtualThreads(), () -> {
+            beforeEach(beforeEachCount::incrementAndGet);
+            afterAll(() -> beforeEachCountSeenByAfterAll.set(beforeEachCount.get()));
+            for (int i = 0; i < 5; i++) {
+              it("spec " + i, () -> Thread.sleep(10));
+            }
+          }));
+        });
+        assertThat(result.getRunCount(), is(5));
+        assertThat(beforeEachCountSeenByAfterAll.get(), is(5));
+      });
+    });
+  }
+}